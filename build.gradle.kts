@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.0"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"		// 성능 측정 (src/jmh/java)
 }
 
 group = "com.study"
@@ -46,6 +47,12 @@ dependencies {
 	implementation("io.jsonwebtoken:jjwt-impl:0.11.5")
 	implementation("io.jsonwebtoken:jjwt-jackson:0.11.5")
 
+	// 로컬 캐시 (상품 조회 캐시)
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
+	// 압축 비트맵 (상품 패싯 색인)
+	implementation("org.roaringbitmap:RoaringBitmap:0.9.45")
+
 	// Querydsl
 	implementation("com.querydsl:querydsl-jpa:5.0.0:jakarta")
 	annotationProcessor("com.querydsl:querydsl-apt:5.0.0:jakarta")
@@ -64,7 +71,8 @@ dependencies {
 
 val querydslGeneratedDir = layout.buildDirectory.dir("generated/querydsl").get().asFile
 
-tasks.withType<JavaCompile>().configureEach {
+// Q클래스는 main 소스에서만 생성 (jmh 등 다른 소스셋과 출력 폴더가 겹치지 않도록)
+tasks.named<JavaCompile>("compileJava") {
 	options.generatedSourceOutputDirectory.set(file(querydslGeneratedDir))
 }
 
@@ -83,3 +91,32 @@ tasks.named("clean") {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 부하 테스트 드라이버 (src/loadtest/java) - 실행 중인 서버에 HTTP 요청
+val loadtest: SourceSet by sourceSets.creating
+
+dependencies {
+	"loadtestImplementation"("com.fasterxml.jackson.core:jackson-databind")
+}
+
+// ./gradlew loadTest -Ploadtest.baseUrl=http://localhost:8080 -Ploadtest.users=100 -Ploadtest.duration=60s
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "browse -> cart -> order -> cancel 시나리오 부하 테스트"
+	classpath = loadtest.runtimeClasspath
+	mainClass = "com.study.ecommerce.loadtest.LoadTestDriver"
+	systemProperties(project.properties
+		.filterKeys { it.startsWith("loadtest.") }
+		.mapValues { it.value.toString() })
+}
+
+// ./gradlew jmh (결과: build/results/jmh/results.json)
+jmh {
+	jmhVersion = "1.37"
+	profilers = listOf("gc")		// 할당량 측정 (gc.alloc.rate.norm)
+	resultFormat = "JSON"
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	includes = listOfNotNull(project.findProperty("jmhIncludes")?.toString())
+}
@@ -0,0 +1,98 @@
+package com.study.ecommerce.domain.category.service;
+
+import com.study.ecommerce.domain.category.dto.resp.CategoryResponse;
+import com.study.ecommerce.domain.category.entity.Category;
+import com.study.ecommerce.domain.category.repository.CategoryRepository;
+import com.study.ecommerce.domain.category.service.command.CategoryCommandService;
+import com.study.ecommerce.domain.category.tree.CategoryTreeCache;
+import com.study.ecommerce.domain.category.tree.CategoryTreeSnapshot;
+import com.study.ecommerce.global.responsecache.ResponseBodyCache;
+import com.study.ecommerce.support.Stubs;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+    전체 카테고리 트리 조회 (CategoryServiceCustom.getAllCategories)
+    - getAllCategories: 스냅샷 캐시에서 바로 반환하는 조회 경로
+    - buildSnapshot: 카테고리 변경 시 1회 발생하는 스냅샷 구성 비용 (조회는 메모리 스텁)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryTreeBenchmark {
+    private static final int CHILDREN_PER_NODE = 10;
+
+    @Param({"100", "1000", "10000"})
+    private int categoryCount;
+
+    private List<Category> categories;
+    private CategoryServiceCustom categoryService;
+
+    @Setup
+    public void setUp() {
+        categories = createTree(categoryCount);
+
+        CategoryRepository categoryRepository = Stubs.of(CategoryRepository.class, Map.of(
+                "findAll", args -> categories
+        ));
+
+        categoryService = new CategoryServiceCustom(categoryRepository,
+                Stubs.of(CategoryCommandService.class, Map.of()),
+                new CategoryTreeCache(categoryRepository,
+                        new ResponseBodyCache(new SimpleMeterRegistry(), Duration.ofMinutes(5), DataSize.ofMegabytes(64))),
+                event -> {});
+    }
+
+    @Benchmark
+    public List<CategoryResponse> getAllCategories() {
+        return categoryService.getAllCategories();
+    }
+
+    @Benchmark
+    public CategoryTreeSnapshot buildSnapshot() {
+        return CategoryTreeSnapshot.build(1L, categories);
+    }
+
+    // 노드마다 자식 10개를 갖는 트리 (너비 우선으로 id 부여)
+    private static List<Category> createTree(int count) {
+        Field idField = ReflectionUtils.findField(Category.class, "id");
+        ReflectionUtils.makeAccessible(idField);
+
+        List<Category> categories = new ArrayList<>(count);
+        List<Integer> depths = new ArrayList<>(count);
+
+        for(int i = 0; i < count; i++) {
+            long id = i + 1;
+            Long parentId = i < CHILDREN_PER_NODE ? null : (long) (i / CHILDREN_PER_NODE);
+            int depth = parentId == null ? 1 : depths.get(parentId.intValue() - 1) + 1;
+
+            Category category = Category.builder()
+                    .name("category-" + id)
+                    .depth(depth)
+                    .parentId(parentId)
+                    .build();
+            ReflectionUtils.setField(idField, category, id);
+
+            categories.add(category);
+            depths.add(depth);
+        }
+
+        return categories;
+    }
+}
@@ -0,0 +1,113 @@
+package com.study.ecommerce.domain.order.strategy.inventory;
+
+import com.study.ecommerce.EcommerceApplication;
+import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+import com.study.ecommerce.domain.product.repository.ProductRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+    인기 상품 하나(hot SKU)에 재고 차감이 몰릴 때 재고 전략별 처리량 (비관적 / 낙관적 / 조건부 UPDATE)
+    - 스프링 컨텍스트를 띄워 실제 전략 빈 + 실제 DB 트랜잭션으로 측정 (기본 H2 인메모리)
+    - 다른 DB 는 JVM 옵션으로 지정: -Dspring.profiles.active=dev (MySQL) 또는 -Dspring.datasource.url=...
+    - 호출마다 주문 1건처럼 트랜잭션 하나에서 1개 차감, 스레드 8개가 같은 행을 두고 경합
+    - 실패(낙관적 락 재시도 초과 등)는 Outcome 카운터로 따로 집계 (처리량에는 성공/실패 모두 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class InventoryStrategyBenchmark {
+    private static final int HOT_SKU_STOCK = 100_000_000;
+
+    @Param({"pessimistic", "optimistic", "atomic"})
+    private String strategy;
+
+    private ConfigurableApplicationContext context;
+    private InventoryStrategy inventoryStrategy;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private Long hotSkuId;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+        public long succeeded;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            succeeded = 0;
+            failed = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EcommerceApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:inventory-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "server.port=0",
+                        "logging.level.root=WARN")
+                .run();
+
+        inventoryStrategy = context.getBeansOfType(InventoryStrategy.class).values().stream()
+                .filter(candidate -> candidate.getStrategyName().equals(strategy))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 재고 전략: " + strategy));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        hotSkuId = context.getBean(ProductRepository.class).save(Product.builder()
+                .name("벤치마크 인기 상품")
+                .description("재고 전략 벤치마크")
+                .price(10_000L)
+                .stockQuantity(HOT_SKU_STOCK)
+                .status(ProductStatus.ACTIVE)
+                .build()).getId();
+    }
+
+    // 반복마다 재고를 채워서 재고 부족으로 실패하지 않도록
+    @Setup(Level.Iteration)
+    public void refillStock() {
+        jdbcTemplate.update("UPDATE product SET stock_quantity = ?, status = 'ACTIVE' WHERE id = ?",
+                HOT_SKU_STOCK, hotSkuId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM product WHERE id = ?", hotSkuId);
+        context.close();
+    }
+
+    @Benchmark
+    public void decreaseHotSku(Outcome outcome) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    inventoryStrategy.decreaseStock(Map.of(hotSkuId, 1)));
+            outcome.succeeded++;
+        } catch (RuntimeException e) {
+            outcome.failed++;
+        }
+    }
+}
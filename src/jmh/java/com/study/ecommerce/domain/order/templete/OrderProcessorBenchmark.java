@@ -0,0 +1,85 @@
+package com.study.ecommerce.domain.order.templete;
+
+import com.study.ecommerce.domain.order.entity.Order;
+import com.study.ecommerce.domain.order.strategy.discount.DiscountStrategy;
+import com.study.ecommerce.domain.order.strategy.discount.FixedAmountDiscountStrategy;
+import com.study.ecommerce.domain.order.strategy.discount.NoDiscountStrategy;
+import com.study.ecommerce.domain.order.strategy.discount.PercentageDiscountStrategy;
+import com.study.ecommerce.domain.order.strategy.shipping.EconomyShippingStrategy;
+import com.study.ecommerce.domain.order.strategy.shipping.ExpressShippingStrategy;
+import com.study.ecommerce.domain.order.strategy.shipping.ShippingStrategy;
+import com.study.ecommerce.domain.order.strategy.shipping.StandardShippingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+    주문 처리기의 할인/배송 정책 선택 루프
+    - 주문 금액별로 적용되는 정책 수가 달라지므로 금액을 파라미터로 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderProcessorBenchmark {
+
+    // 할인 없음 / 고정 할인 / 고정 + 퍼센트 할인 구간
+    @Param({"10000", "30000", "100000"})
+    private long totalAmount;
+
+    private RegularOrderProcessor regularOrderProcessor;
+    private PremiumOrderProcessor premiumOrderProcessor;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        List<DiscountStrategy> discountStrategies = List.of(
+                new NoDiscountStrategy(), new FixedAmountDiscountStrategy(), new PercentageDiscountStrategy());
+        List<ShippingStrategy> shippingStrategies = List.of(
+                new StandardShippingStrategy(), new ExpressShippingStrategy(), new EconomyShippingStrategy());
+
+        // 할인/배송 단계는 리포지토리, 재고 원장을 사용하지 않음
+        regularOrderProcessor = new RegularOrderProcessor(discountStrategies, shippingStrategies, null, null);
+        premiumOrderProcessor = new PremiumOrderProcessor(discountStrategies, shippingStrategies, null, null);
+
+        order = Order.builder()
+                .memberId(1L)
+                .status(Order.OrderStatus.CREATED)
+                .orderDate(LocalDateTime.now())
+                .totalAmount(BigDecimal.valueOf(totalAmount))
+                .build();
+    }
+
+    @Benchmark
+    public BigDecimal regularDiscount() {
+        regularOrderProcessor.applyDiscounts(order);
+        return order.getDiscountAmount();
+    }
+
+    @Benchmark
+    public BigDecimal premiumDiscount() {
+        premiumOrderProcessor.applyDiscounts(order);
+        return order.getDiscountAmount();
+    }
+
+    @Benchmark
+    public BigDecimal regularShipping() {
+        regularOrderProcessor.calculateShipping(order);
+        return order.getShippingCost();
+    }
+
+    @Benchmark
+    public BigDecimal premiumShipping() {
+        premiumOrderProcessor.calculateShipping(order);
+        return order.getShippingCost();
+    }
+}
@@ -0,0 +1,121 @@
+package com.study.ecommerce.domain.order.validation;
+
+import com.study.ecommerce.domain.member.entity.Member;
+import com.study.ecommerce.domain.member.repository.MemberRepository;
+import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest;
+import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest.OrderItemRequest;
+import com.study.ecommerce.domain.order.repository.OrderItemRepository;
+import com.study.ecommerce.domain.order.service.OrderService;
+import com.study.ecommerce.domain.payment.repository.PaymentRepository;
+import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.repository.ProductRepository;
+import com.study.ecommerce.support.Stubs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/*
+    주문 유효성 검증 체인 (리포지토리는 메모리 스텁)
+    - DB 조회를 제외한 검증 로직 자체의 비용과 할당량을 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderValidationChainBenchmark {
+    private static final long PRODUCT_PRICE = 20_000L;
+
+    @Param({"1", "10", "30"})
+    private int itemCount;
+
+    private OrderValidationChain validationChain;
+    private OrderCreateRequest request;
+
+    @Setup
+    public void setUp() {
+        Member member = Member.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .name("bench")
+                .role(Member.Role.CUSTOMER)
+                .build();
+
+        Product product = Product.builder()
+                .name("bench")
+                .price(PRODUCT_PRICE)
+                .stockQuantity(1_000)
+                .status(Product.ProductStatus.ACTIVE)
+                .build();
+
+        MemberRepository memberRepository = Stubs.of(MemberRepository.class, Map.of(
+                "existsById", args -> true,
+                "existsByIdAndIsDeletedFalse", args -> true,
+                "findById", args -> Optional.of(member)
+        ));
+
+        OrderService orderService = Stubs.of(OrderService.class, Map.of(
+                "getTodayOrderAmount", args -> BigDecimal.ZERO,
+                "calculateTotalAmount", args -> totalAmount((OrderCreateRequest) args[0])
+        ));
+
+        ProductRepository productRepository = Stubs.of(ProductRepository.class, Map.of(
+                "findById", args -> Optional.of(product)
+        ));
+
+        OrderItemRepository orderItemRepository = Stubs.of(OrderItemRepository.class, Map.of(
+                "existsByProductId", args -> true,
+                "existsByIdAndStockLessThan", args -> true
+        ));
+
+        PaymentRepository paymentRepository = Stubs.of(PaymentRepository.class, Map.of());
+
+        validationChain = new OrderValidationChain(
+                new BasicInfoValidationHandler(),
+                new MemberValidationHandler(memberRepository, orderService),
+                new ProductValidationHandler(orderItemRepository, productRepository),
+                new InventoryValidationHandler(),
+                new PaymentValidationHandler(paymentRepository)
+        );
+        validationChain.buildChain();
+
+        List<OrderItemRequest> items = LongStream.rangeClosed(1, itemCount)
+                .mapToObj(productId -> OrderItemRequest.builder()
+                        .productId(productId)
+                        .quantity(3)
+                        .price(BigDecimal.valueOf(PRODUCT_PRICE))
+                        .build())
+                .toList();
+
+        request = OrderCreateRequest.builder()
+                .memberId(1L)
+                .items(items)
+                .shippingAddress("서울시 강남구")
+                .phoneNumber("010-1234-5678")
+                .payNow(true)
+                .paymentMethod("CARD")
+                .build();
+    }
+
+    @Benchmark
+    public OrderCreateRequest validateOrder() {
+        validationChain.validateOrder(request);
+        return request;
+    }
+
+    private static BigDecimal totalAmount(OrderCreateRequest request) {
+        return request.items().stream()
+                .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
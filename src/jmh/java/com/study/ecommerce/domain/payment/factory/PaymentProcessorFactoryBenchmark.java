@@ -0,0 +1,42 @@
+package com.study.ecommerce.domain.payment.factory;
+
+import com.study.ecommerce.domain.payment.processor.PaymentProcessor;
+import com.study.ecommerce.domain.payment.processor.impl.BankTransferProcessor;
+import com.study.ecommerce.domain.payment.processor.impl.CardPaymentProcessor;
+import com.study.ecommerce.domain.payment.processor.impl.SimplePayProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+    결제 방식별 PaymentProcessor 조회 (목록 순회 위치에 따른 차이)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentProcessorFactoryBenchmark {
+
+    @Param({"CARD", "BANK_TRANSFER", "SIMPLE_PAY"})
+    private String paymentMethod;
+
+    private PaymentProcessorFactory paymentProcessorFactory;
+
+    @Setup
+    public void setUp() {
+        paymentProcessorFactory = new PaymentProcessorFactory(List.of(
+                new CardPaymentProcessor(), new BankTransferProcessor(), new SimplePayProcessor()));
+    }
+
+    @Benchmark
+    public PaymentProcessor createPaymentProcessor() {
+        return paymentProcessorFactory.createPaymentProcessor(paymentMethod);
+    }
+}
@@ -0,0 +1,207 @@
+package com.study.ecommerce.domain.product.service;
+
+import com.study.ecommerce.domain.category.entity.Category;
+import com.study.ecommerce.domain.product.dto.resp.ProductResponse;
+import com.study.ecommerce.domain.product.dto.resp.ProductSummaryDto;
+import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/*
+    상품 목록 한 페이지 조회: 엔티티 조회 후 매핑 vs DTO 프로젝션 (CustomerProductService 목록 경로)
+    - H2 인메모리 DB + Hibernate 를 직접 구성 (스프링 컨텍스트 없음)
+    - entityPage: Product 엔티티(description TEXT 포함) 조회 -> 카테고리 조회 -> 매핑, 커밋 시 더티체킹
+    - projectionPage: 목록 컬럼 + 카테고리명만 한 번에 프로젝션 (description 을 읽지 않음)
+    - 힙 할당량은 gc 프로파일러(gc.alloc.rate.norm), 읽은 바이트는 ReadBytes 카운터 (bytesRead / rows = 행당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductListQueryBenchmark {
+    private static final int PRODUCT_COUNT = 10_000;
+    private static final int CATEGORY_COUNT = 100;
+    private static final int DESCRIPTION_LENGTH = 2_000;
+
+    private static final String ENTITY_QUERY =
+            "select p from Product p where p.status = :status order by p.id desc";
+    private static final String PROJECTION_QUERY =
+            "select new com.study.ecommerce.domain.product.dto.resp.ProductSummaryDto(" +
+            "p.id, p.name, p.price, p.stockQuantity, coalesce(c.name, '분류 없음'), p.status) " +
+            "from Product p left join Category c on c.id = p.categoryId " +
+            "where p.status = :status order by p.id desc";
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private SessionFactory sessionFactory;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ReadBytes {
+        public long bytesRead;
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesRead = 0;
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Product.class)
+                .setProperty("jakarta.persistence.jdbc.url", "jdbc:h2:mem:product-list;DB_CLOSE_DELAY=-1")
+                .setProperty("jakarta.persistence.jdbc.user", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .buildSessionFactory();
+
+        String description = "상품 상세 설명 ".repeat(DESCRIPTION_LENGTH / 8);
+
+        sessionFactory.inTransaction(session -> {
+            Long[] categoryIds = new Long[CATEGORY_COUNT];
+            for(int i = 0; i < CATEGORY_COUNT; i++) {
+                Category category = Category.builder()
+                        .name("카테고리-" + i)
+                        .depth(1)
+                        .build();
+                session.persist(category);
+                categoryIds[i] = category.getId();
+            }
+
+            for(int i = 0; i < PRODUCT_COUNT; i++) {
+                session.persist(Product.builder()
+                        .name("상품-" + i)
+                        .description(description)
+                        .price(1_000L + i)
+                        .stockQuantity(100)
+                        .status(ProductStatus.ACTIVE)
+                        .sellerId(1L)
+                        .categoryId(categoryIds[i % CATEGORY_COUNT])
+                        .build());
+
+                if(i % 1_000 == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    // 기존 목록 경로: 엔티티 페이지 + 카테고리 조회 + 매핑 (읽기 전용 트랜잭션이 아니면 커밋 시 스냅샷 비교)
+    @Benchmark
+    public List<ProductResponse> entityPage(ReadBytes readBytes) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+
+            List<Product> products = session.createSelectionQuery(ENTITY_QUERY, Product.class)
+                    .setParameter("status", ProductStatus.ACTIVE)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+
+            List<Long> categoryIds = products.stream()
+                    .map(Product::getCategoryId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+
+            Map<Long, String> categoryNames = new HashMap<>();
+            session.createSelectionQuery("select c from Category c where c.id in :ids", Category.class)
+                    .setParameter("ids", categoryIds)
+                    .getResultList()
+                    .forEach(category -> categoryNames.put(category.getId(), category.getName()));
+
+            List<ProductResponse> content = products.stream()
+                    .map(product -> new ProductResponse(
+                            product.getId(),
+                            product.getName(),
+                            product.getDescription(),
+                            product.getPrice(),
+                            product.getStockQuantity(),
+                            product.getStatus(),
+                            categoryNames.getOrDefault(product.getCategoryId(), "분류 없음")
+                    ))
+                    .toList();
+
+            transaction.commit();
+
+            for(Product product : products) {
+                // id, price, stock, seller, category, version, created_at, updated_at + 문자열 컬럼
+                readBytes.bytesRead += 8L * 8 + utf8(product.getName()) + utf8(product.getDescription())
+                        + utf8(product.getStatus().name());
+            }
+            readBytes.rows += products.size();
+            return content;
+        }
+    }
+
+    // 변경된 목록 경로: 목록 컬럼 + 카테고리명 프로젝션 (영속성 컨텍스트에 엔티티가 올라가지 않음)
+    @Benchmark
+    public List<ProductResponse> projectionPage(ReadBytes readBytes) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+
+            List<ProductSummaryDto> summaries = session.createSelectionQuery(PROJECTION_QUERY, ProductSummaryDto.class)
+                    .setParameter("status", ProductStatus.ACTIVE)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+
+            List<ProductResponse> content = summaries.stream()
+                    .map(ProductResponse::from)
+                    .toList();
+
+            transaction.commit();
+
+            for(ProductSummaryDto summary : summaries) {
+                // id, price, stock + 문자열 컬럼
+                readBytes.bytesRead += 8L * 3 + utf8(summary.name()) + utf8(summary.categoryName())
+                        + utf8(summary.status().name());
+            }
+            readBytes.rows += summaries.size();
+            return content;
+        }
+    }
+
+    // UTF-8 인코딩 길이 (getBytes 는 할당이 생겨 gc.alloc.rate.norm 에 섞이므로 직접 계산)
+    private static int utf8(String value) {
+        if(value == null) {
+            return 0;
+        }
+
+        int bytes = 0;
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            bytes += c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isSurrogate(c) ? 2 : 3;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,205 @@
+package com.study.ecommerce.global.common.id;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    주문 상품 N건 저장: IDENTITY id vs TSID id (OrderItem 등 @TsidId 엔티티의 저장 경로)
+    - H2 인메모리 DB + Hibernate 를 직접 구성 (스프링 컨텍스트 없음), hibernate.jdbc.batch_size = 50
+    - identityInsert: INSERT 마다 DB 가 id 를 만들어 돌려줘야 하므로 행마다 한 번씩 실행
+    - tsidInsert: INSERT 전에 id 가 정해져 batch_size 개씩 묶어서 실행
+    - 지연 시간은 AverageTime, DB 왕복(execute / executeBatch 호출) 수는 RoundTrips 카운터 (roundTrips / rows = 행당 왕복)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TsidBatchInsertBenchmark {
+    private static final AtomicLong ROUND_TRIPS = new AtomicLong();
+
+    @Param({"10", "100", "1000"})
+    private int rows;
+
+    private SessionFactory sessionFactory;
+
+    @Entity
+    @Table(name = "identity_order_item")
+    public static class IdentityOrderItem {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private Long orderId;
+        private Long productId;
+        private Integer quantity;
+        private Long price;
+
+        protected IdentityOrderItem() {
+        }
+
+        IdentityOrderItem(Long orderId, Long productId, Integer quantity, Long price) {
+            this.orderId = orderId;
+            this.productId = productId;
+            this.quantity = quantity;
+            this.price = price;
+        }
+    }
+
+    @Entity
+    @Table(name = "tsid_order_item")
+    public static class TsidOrderItem {
+        @Id
+        @TsidId
+        private Long id;
+        private Long orderId;
+        private Long productId;
+        private Integer quantity;
+        private Long price;
+
+        protected TsidOrderItem() {
+        }
+
+        TsidOrderItem(Long orderId, Long productId, Integer quantity, Long price) {
+            this.orderId = orderId;
+            this.productId = productId;
+            this.quantity = quantity;
+            this.price = price;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+        public long roundTrips;
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            roundTrips = 0;
+            rows = 0;
+        }
+    }
+
+    // 커넥션의 Statement 실행 호출 수를 세는 커넥션 공급자
+    public static class CountingConnectionProvider implements ConnectionProvider {
+        private static final String URL = "jdbc:h2:mem:tsid-batch;DB_CLOSE_DELAY=-1";
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(Connection.class, DriverManager.getConnection(URL, "sa", ""));
+        }
+
+        @Override
+        public void closeConnection(Connection connection) throws SQLException {
+            connection.close();
+        }
+
+        @Override
+        public boolean supportsAggressiveRelease() {
+            return false;
+        }
+
+        @Override
+        public boolean isUnwrappableAs(Class<?> unwrapType) {
+            return false;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> unwrapType) {
+            throw new UnsupportedOperationException(unwrapType.getName());
+        }
+
+        // Connection 이 만든 Statement 도 감싸고, Statement 의 execute* 호출을 센다
+        private static <T> T counting(Class<T> type, Object target) {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+                if(target instanceof Statement && method.getName().startsWith("execute")) {
+                    ROUND_TRIPS.incrementAndGet();
+                }
+
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+
+                if(result instanceof Statement) {
+                    return counting(method.getReturnType(), result);
+                }
+                return result;
+            });
+
+            return type.cast(proxy);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityOrderItem.class)
+                .addAnnotatedClass(TsidOrderItem.class)
+                .setProperty("hibernate.connection.provider_class", CountingConnectionProvider.class.getName())
+                .setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", "50")
+                .setProperty("hibernate.order_inserts", "true")
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void identityInsert(RoundTrips roundTrips) {
+        long before = ROUND_TRIPS.get();
+
+        sessionFactory.inTransaction(session -> {
+            for(int i = 0; i < rows; i++) {
+                session.persist(new IdentityOrderItem(1L, (long) i, 1, 1_000L));
+            }
+        });
+
+        roundTrips.roundTrips += ROUND_TRIPS.get() - before;
+        roundTrips.rows += rows;
+    }
+
+    @Benchmark
+    public void tsidInsert(RoundTrips roundTrips) {
+        long before = ROUND_TRIPS.get();
+
+        sessionFactory.inTransaction(session -> {
+            for(int i = 0; i < rows; i++) {
+                session.persist(new TsidOrderItem(1L, (long) i, 1, 1_000L));
+            }
+        });
+
+        roundTrips.roundTrips += ROUND_TRIPS.get() - before;
+        roundTrips.rows += rows;
+    }
+}
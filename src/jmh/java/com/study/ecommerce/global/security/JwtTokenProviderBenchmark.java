@@ -0,0 +1,63 @@
+package com.study.ecommerce.global.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+    요청마다 실행되는 JWT 검증/파싱 (JwtAuthenticationFilter 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+    private static final String SECRET = "8b329d5befe084f6dbb351fc10b9074b9fab576ec3753f54dd5f8894e08d8ec6";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // 검증/파싱은 UserDetailsService 를 사용하지 않음
+        jwtTokenProvider = new JwtTokenProvider(null);
+        setField("secretKey", SECRET);
+        setField("tokenValidityMilliSeconds", 86_400_000L);
+        jwtTokenProvider.init();
+
+        token = jwtTokenProvider.createToken("bench@example.com", List.of("ROLE_CUSTOMER"));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return jwtTokenProvider.getUsername(token);
+    }
+
+    // 필터에서는 validateToken 후 getUsername 으로 두 번 파싱
+    @Benchmark
+    public String validateAndParse() {
+        if(!jwtTokenProvider.validateToken(token)) {
+            return null;
+        }
+        return jwtTokenProvider.getUsername(token);
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtTokenProvider.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtTokenProvider, value);
+    }
+}
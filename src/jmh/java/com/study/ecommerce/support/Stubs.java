@@ -0,0 +1,33 @@
+package com.study.ecommerce.support;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/*
+    벤치마크용 인터페이스 스텁 (리포지토리, 서비스)
+    - 메서드 이름별로 지정한 응답을 반환하고, 지정하지 않은 메서드는 예외
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if(answer != null) {
+                return answer.apply(args);
+            }
+
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + "Stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+
+        return type.cast(stub);
+    }
+}
@@ -0,0 +1,60 @@
+package com.study.ecommerce.loadtest;
+
+import java.util.Arrays;
+
+/*
+    엔드포인트별 응답 시간 기록 (가상 사용자 한 명이 단독으로 사용 -> 동기화 없음)
+    - 종료 후 merge 로 합쳐서 백분위 계산
+ */
+class LatencyRecorder {
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long latencyNanos, boolean success) {
+        if(count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+
+        latencies[count++] = latencyNanos;
+        if(!success) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if(count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+        }
+
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    // 정렬된 값에서 nearest-rank 방식으로 백분위 계산 (단위: ms)
+    double[] percentilesMillis(double... percentiles) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+
+        double[] result = new double[percentiles.length];
+        for(int i = 0; i < percentiles.length; i++) {
+            if(count == 0) {
+                continue;
+            }
+
+            int rank = (int) Math.ceil(percentiles[i] / 100.0 * count);
+            result[i] = sorted[Math.min(Math.max(rank, 1), count) - 1] / 1_000_000.0;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,250 @@
+package com.study.ecommerce.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+    browse -> cart -> order -> cancel 시나리오 부하 테스트
+    - 가상 사용자마다 가상 스레드 하나, 각자 로그인 후 duration 동안 시나리오 반복
+    - 종료 후 엔드포인트별 처리량(req/s), p50 / p99 / p999 / max 응답 시간 출력
+    - 대상 서버는 seed 프로파일로 생성한 회원(seed-{번호}@example.com)을 사용
+
+    설정 (시스템 프로퍼티, ./gradlew loadTest -Ploadtest.users=200 ...)
+    - loadtest.baseUrl       : 대상 서버 (기본 http://localhost:8080)
+    - loadtest.users         : 동시 가상 사용자 수 (기본 50)
+    - loadtest.duration      : 측정 시간 (기본 60s, 예: 30s, 5m)
+    - loadtest.memberFrom    : 로그인에 사용할 회원 번호 시작 (기본 1000, 앞 1%는 판매자)
+    - loadtest.memberCount   : 로그인에 사용할 회원 수 (기본 99000)
+    - loadtest.password      : 회원 비밀번호 (기본 loadtest1234)
+    - loadtest.productPages  : 상품 목록 조회 시 사용할 페이지 범위 (기본 100)
+ */
+public class LoadTestDriver {
+    private static final String[] ENDPOINTS = {
+            "POST /auth/login", "GET /shop/products", "GET /shop/products/{id}",
+            "POST /cart/items", "POST /orders", "PATCH /orders/{id}/cancel"
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+    private final int users = Integer.getInteger("loadtest.users", 50);
+    private final Duration duration = parseDuration(System.getProperty("loadtest.duration", "60s"));
+    private final int memberFrom = Integer.getInteger("loadtest.memberFrom", 1_000);
+    private final int memberCount = Integer.getInteger("loadtest.memberCount", 99_000);
+    private final String password = System.getProperty("loadtest.password", "loadtest1234");
+    private final int productPages = Integer.getInteger("loadtest.productPages", 100);
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestDriver().run();
+    }
+
+    private void run() throws Exception {
+        System.out.printf("부하 테스트 시작: %s, 사용자 %d명, %s%n", baseUrl, users, duration);
+
+        long startTime = System.nanoTime();
+        long deadline = startTime + duration.toNanos();
+
+        List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>();
+        try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for(int i = 0; i < users; i++) {
+                int memberNumber = memberFrom + (i % memberCount);
+                futures.add(executor.submit(() -> new VirtualUser(memberNumber).runUntil(deadline)));
+            }
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+        Map<String, LatencyRecorder> total = newRecorders();
+        for(Future<Map<String, LatencyRecorder>> future : futures) {
+            future.get().forEach((endpoint, recorder) -> total.get(endpoint).merge(recorder));
+        }
+
+        report(total, elapsedSeconds);
+    }
+
+    private void report(Map<String, LatencyRecorder> recorders, double elapsedSeconds) {
+        System.out.printf("%n%-28s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+
+        recorders.forEach((endpoint, recorder) -> {
+            double[] p = recorder.percentilesMillis(50, 99, 99.9, 100);
+            System.out.printf("%-28s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    endpoint, recorder.count(), recorder.errors(), recorder.count() / elapsedSeconds,
+                    p[0], p[1], p[2], p[3]);
+        });
+    }
+
+    private static Map<String, LatencyRecorder> newRecorders() {
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        for(String endpoint : ENDPOINTS) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+        return recorders;
+    }
+
+    private static Duration parseDuration(String value) {
+        String trimmed = value.trim().toLowerCase();
+        long amount = Long.parseLong(trimmed.replaceAll("[^0-9]", ""));
+
+        if(trimmed.endsWith("ms")) {
+            return Duration.ofMillis(amount);
+        }
+        if(trimmed.endsWith("m")) {
+            return Duration.ofMinutes(amount);
+        }
+        return Duration.ofSeconds(amount);
+    }
+
+    /*
+        가상 사용자 (시나리오 1회)
+        1. 상품 목록 조회 (임의 페이지) -> 2. 상품 상세 조회 -> 3. 장바구니 담기
+        4. 주문 생성 (즉시 결제, Idempotency-Key) -> 5. 주문 취소
+     */
+    private class VirtualUser {
+        private final int memberNumber;
+        private final Map<String, LatencyRecorder> recorders = newRecorders();
+        private String accessToken;
+
+        VirtualUser(int memberNumber) {
+            this.memberNumber = memberNumber;
+        }
+
+        Map<String, LatencyRecorder> runUntil(long deadline) {
+            while(System.nanoTime() < deadline) {
+                try {
+                    if(accessToken == null && !login()) {
+                        continue;
+                    }
+                    iterate();
+                } catch (IOException e) {
+                    // 연결 오류는 해당 요청에서 이미 실패로 기록됨 -> 다음 시나리오 진행
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            return recorders;
+        }
+
+        private boolean login() throws IOException, InterruptedException {
+            Map<String, Object> body = Map.of("email", "seed-" + memberNumber + "@example.com", "password", password);
+            JsonNode response = send("POST /auth/login", post("/api/v1/auth/login", body));
+            if(response == null) {
+                return false;
+            }
+
+            accessToken = response.path("accessToken").asText();
+            return true;
+        }
+
+        private void iterate() throws IOException, InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            JsonNode page = send("GET /shop/products",
+                    get("/api/v1/shop/products?page=" + random.nextInt(productPages) + "&size=20"));
+            if(page == null || page.path("content").isEmpty()) {
+                return;
+            }
+
+            JsonNode content = page.path("content");
+            long productId = content.get(random.nextInt(content.size())).path("id").asLong();
+
+            JsonNode product = send("GET /shop/products/{id}", get("/api/v1/shop/products/" + productId));
+            if(product == null) {
+                return;
+            }
+
+            JsonNode cartItem = send("POST /cart/items",
+                    post("/api/v1/cart/items", Map.of("productId", productId, "quantity", 1)));
+            if(cartItem == null) {
+                return;
+            }
+
+            // memberId 는 유효성 검증용 (동기 주문은 토큰의 회원으로 처리)
+            Map<String, Object> orderRequest = Map.of(
+                    "memberId", memberNumber + 1L,
+                    "cartItemIds", List.of(cartItem.path("id").asLong()),
+                    "items", List.of(Map.of(
+                            "productId", productId,
+                            "quantity", 1,
+                            "price", product.path("price").asLong())),
+                    "shippingAddress", "서울시 테스트구 " + memberNumber,
+                    "phoneNumber", "010-0000-0000",
+                    "payNow", true,
+                    "paymentMethod", "CARD");
+
+            JsonNode order = send("POST /orders", post("/api/v1/orders", orderRequest)
+                    .header("Idempotency-Key", UUID.randomUUID().toString()));
+            if(order == null) {
+                return;
+            }
+
+            send("PATCH /orders/{id}/cancel", request("/api/v1/orders/" + order.path("id").asLong() + "/cancel")
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+        }
+
+        private HttpRequest.Builder request(String path) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30));
+
+            if(accessToken != null) {
+                builder.header("Authorization", "Bearer " + accessToken);
+            }
+            return builder;
+        }
+
+        private HttpRequest.Builder get(String path) {
+            return request(path).GET();
+        }
+
+        private HttpRequest.Builder post(String path, Object body) throws IOException {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        }
+
+        // 2xx 이면 응답 본문, 아니면 null (401 이면 다음 시나리오에서 다시 로그인)
+        private JsonNode send(String endpoint, HttpRequest.Builder builder) throws IOException, InterruptedException {
+            long startTime = System.nanoTime();
+            HttpResponse<byte[]> response;
+            try {
+                response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                recorders.get(endpoint).record(System.nanoTime() - startTime, false);
+                throw e;
+            }
+
+            boolean success = response.statusCode() / 100 == 2;
+            recorders.get(endpoint).record(System.nanoTime() - startTime, success);
+
+            if(response.statusCode() == 401) {
+                accessToken = null;
+            }
+            if(!success || response.body().length == 0) {
+                return null;
+            }
+
+            return objectMapper.readTree(response.body());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리를 위한 설정
@@ -22,6 +23,8 @@ public class AsyncConfig {
         executor.setQueueCapacity(25);
         executor.setKeepAliveSeconds(20);
         executor.setThreadNamePrefix("async-");
+        // 큐가 차면 발행한 스레드에서 실행 (주문 요청이 TaskRejectedException 으로 실패하지 않도록)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
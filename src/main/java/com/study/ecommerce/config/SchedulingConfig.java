@@ -0,0 +1,12 @@
+package com.study.ecommerce.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(재고 원장 반영, 예약 만료 등)을 위한 설정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
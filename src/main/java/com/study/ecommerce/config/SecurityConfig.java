@@ -57,8 +57,8 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("*"));      // origin: 출처
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("authorization", "content-type", "x-auth-token"));
-        configuration.setExposedHeaders(List.of("x-auth-token"));   // 클라이언트가 응답 헤더 중 어떤 값을 읽을 수 있을지
+        configuration.setAllowedHeaders(List.of("authorization", "content-type", "x-auth-token", "idempotency-key"));
+        configuration.setExposedHeaders(List.of("x-auth-token", "x-total-count-type"));   // 클라이언트가 응답 헤더 중 어떤 값을 읽을 수 있을지
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
         return source;
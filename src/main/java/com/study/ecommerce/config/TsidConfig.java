@@ -0,0 +1,25 @@
+package com.study.ecommerce.config;
+
+import com.study.ecommerce.global.common.id.Tsid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * TSID 노드 번호 설정 (ecommerce.id.node-id, 인스턴스마다 다른 값)
+ * 지정하지 않으면 환경변수 또는 임의 값을 사용하므로 여러 대를 띄울 때는 반드시 지정
+ */
+@Slf4j
+@Configuration
+public class TsidConfig {
+
+    public TsidConfig(@Value("${ecommerce.id.node-id:#{null}}") Long nodeId) {
+        if(nodeId != null) {
+            Tsid.useNode(nodeId);
+        } else if(!Tsid.isNodeConfigured()) {
+            log.warn("TSID 노드 번호가 지정되지 않아 임의 값 {} 사용 - 여러 인스턴스에서는 ecommerce.id.node-id 를 지정하세요", Tsid.node());
+        }
+
+        log.info("TSID 노드 번호: {}", Tsid.node());
+    }
+}
@@ -1,6 +1,9 @@
 package com.study.ecommerce.domain.cart.dto.resp;
 
+import com.study.ecommerce.global.common.id.TsidJson;
+
 public record CartItemResponse(
+        @TsidJson
         Long id,
         Long productId,
         String productName,
@@ -1,6 +1,7 @@
 package com.study.ecommerce.domain.cart.entity;
 
 import com.study.ecommerce.global.common.BaseTimeEntity;
+import com.study.ecommerce.global.common.id.TsidId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,7 +13,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CartItem extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(name = "cart_id", nullable = false)
@@ -13,6 +13,8 @@ import com.study.ecommerce.domain.cart.repository.CartRepository;
 import com.study.ecommerce.domain.category.entity.QCategory;
 import com.study.ecommerce.domain.member.entity.Member;
 import com.study.ecommerce.domain.member.repository.MemberRepository;
+import com.study.ecommerce.domain.product.cache.ProductCache;
+import com.study.ecommerce.domain.product.cache.ProductSnapshot;
 import com.study.ecommerce.domain.product.entity.Product;
 import com.study.ecommerce.domain.product.entity.QProduct;
 import com.study.ecommerce.domain.product.repository.ProductRepository;
@@ -32,6 +34,7 @@ public class CartServiceCustom implements CartService {
     private final CartItemRepository cartItemRepository;
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
 
 
     @Override
@@ -48,16 +51,16 @@ public class CartServiceCustom implements CartService {
 
         List<CartItemResponse> items = cartItems.stream()
                 .map(item -> {
-                    Product product = productRepository.findById(item.getProductId())
+                    ProductSnapshot product = productCache.get(item.getProductId())
                             .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다."));
 
                     return new CartItemResponse(
                             item.getId(),
-                            product.getId(),
-                            product.getName(),
-                            product.getPrice(),
-                            product.getStockQuantity(),
-                            product.getPrice() * item.getQuantity()
+                            product.id(),
+                            product.name(),
+                            product.price(),
+                            product.stockQuantity(),
+                            product.price() * item.getQuantity()
                     );
                 })
                 .toList();
@@ -1,11 +1,14 @@
 package com.study.ecommerce.domain.category.controller;
 
 import com.study.ecommerce.domain.category.dto.req.CategoryRequest;
+import com.study.ecommerce.domain.category.dto.resp.CategoryProductCountResponse;
 import com.study.ecommerce.domain.category.dto.resp.CategoryResponse;
 import com.study.ecommerce.domain.category.facade.CategoryFacadeService;
 import com.study.ecommerce.domain.category.service.CategoryService;
+import com.study.ecommerce.global.common.http.ConditionalResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,15 +22,25 @@ import java.util.List;
 public class CategoryController {
     private final CategoryFacadeService categoryService;
 
+    // 트리 ETag 가 If-None-Match 와 같으면 304 (트리 조회, 직렬화 없음)
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public ResponseEntity<List<CategoryResponse>> getAllCategories(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponse.of(ifNoneMatch, categoryService.getCategoryTreeETag(),
+                categoryService::getAllCategories);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryResponse> getCategory(@PathVariable Long id) {
-        CategoryResponse category = categoryService.getCategory(id);
-        return ResponseEntity.ok(category);
+    public ResponseEntity<CategoryResponse> getCategory(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponse.of(ifNoneMatch, categoryService.getCategoryTreeETag(),
+                () -> categoryService.getCategory(id));
+    }
+
+    @GetMapping("/{id}/product-count")
+    public ResponseEntity<CategoryProductCountResponse> getProductCount(@PathVariable Long id) {
+        return ResponseEntity.ok(categoryService.getProductCount(id));
     }
 
     @PostMapping
@@ -0,0 +1,190 @@
+package com.study.ecommerce.domain.category.counter;
+
+import com.study.ecommerce.domain.category.dto.resp.CategoryProductCountResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    카테고리별 상품 수 카운터 (category_product_count)
+    - 상품 등록/수정/삭제는 같은 트랜잭션에서 카운터 행을 증감 (COUNT 쿼리 없이 조회)
+    - 하위 카테고리 합계는 category_closure 로 하위 카테고리의 카운터만 더함 (상품 행을 읽지 않음)
+    - 재고 소진/복구에 따른 ACTIVE <-> SOLD_OUT 변경은 재고 전략의 조건부 UPDATE 안에서 일어나므로
+      상품 id 만 기록해두고 짧은 주기로 해당 카테고리만 재집계
+    - 전체 재집계는 긴 주기로 실행해서 누락된 증감을 보정
+ */
+@Slf4j
+@Component
+public class CategoryProductCounter {
+    private static final String APPLY_SQL =
+            "UPDATE category_product_count SET product_count = product_count + ?, active_count = active_count + ? " +
+            "WHERE category_id = ?";
+    private static final String COUNT_SQL =
+            "SELECT category_id, COUNT(*) AS product_count, " +
+            "SUM(CASE WHEN status = 'ACTIVE' THEN 1 ELSE 0 END) AS active_count " +
+            "FROM product WHERE category_id IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 재고 변경으로 상태가 바뀌었을 수 있는 상품 id
+    private final Set<Long> stockChangedProductIds = ConcurrentHashMap.newKeySet();
+
+    public CategoryProductCounter(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    // 새 카테고리의 카운터 행
+    public void initialize(Long categoryId) {
+        jdbcTemplate.update(
+                "INSERT INTO category_product_count (category_id, product_count, active_count) VALUES (?, 0, 0)",
+                categoryId);
+    }
+
+    public void remove(Long categoryId) {
+        jdbcTemplate.update("DELETE FROM category_product_count WHERE category_id = ?", categoryId);
+    }
+
+    /*
+        카운터 증감 (호출하는 쪽의 트랜잭션 안에서 실행)
+        - 카운터 행이 없으면 (카운터 도입 전 생성된 카테고리 등) 현재 상품 수로 새로 만든다
+     */
+    public void apply(Long categoryId, int productDelta, int activeDelta) {
+        if(categoryId == null || (productDelta == 0 && activeDelta == 0)) {
+            return;
+        }
+
+        int updated = jdbcTemplate.update(APPLY_SQL, productDelta, activeDelta, categoryId);
+        if(updated == 0) {
+            reconcile(List.of(categoryId));
+        }
+    }
+
+    // 카테고리에 속한 전체 상품 수 (카테고리 삭제 가드)
+    public long productCount(Long categoryId) {
+        List<Long> counts = jdbcTemplate.queryForList(
+                "SELECT product_count FROM category_product_count WHERE category_id = ?", Long.class, categoryId);
+        return counts.isEmpty() ? 0L : counts.get(0);
+    }
+
+    public Optional<CategoryProductCountResponse> find(Long categoryId) {
+        List<CategoryProductCountResponse> counts = jdbcTemplate.query(
+                "SELECT c.category_id, c.product_count, c.active_count, " +
+                "(SELECT COALESCE(SUM(s.active_count), 0) FROM category_closure cc " +
+                "JOIN category_product_count s ON s.category_id = cc.descendant_id " +
+                "WHERE cc.ancestor_id = c.category_id) AS subtree_active_count " +
+                "FROM category_product_count c WHERE c.category_id = ?",
+                (rs, rowNum) -> new CategoryProductCountResponse(
+                        rs.getLong("category_id"),
+                        rs.getLong("product_count"),
+                        rs.getLong("active_count"),
+                        rs.getLong("subtree_active_count")
+                ),
+                categoryId);
+
+        return counts.stream().findFirst();
+    }
+
+    // 재고 차감/복구로 판매 상태가 바뀌었을 수 있는 상품 (다음 재집계 주기에 해당 카테고리만 보정)
+    public void markStockChanged(Collection<Long> productIds) {
+        stockChangedProductIds.addAll(productIds);
+    }
+
+    @Scheduled(fixedDelayString = "${ecommerce.category.product-count.stock-sync-interval:10s}")
+    public void reconcileStockChanged() {
+        if(stockChangedProductIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> productIds = new ArrayList<>(stockChangedProductIds);
+        stockChangedProductIds.removeAll(productIds);
+
+        List<Long> categoryIds = namedParameterJdbcTemplate.queryForList(
+                "SELECT DISTINCT category_id FROM product WHERE id IN (:ids) AND category_id IS NOT NULL",
+                new MapSqlParameterSource("ids", productIds), Long.class);
+
+        if(!categoryIds.isEmpty()) {
+            reconcile(categoryIds);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${ecommerce.category.product-count.reconcile-interval:1h}",
+            fixedDelayString = "${ecommerce.category.product-count.reconcile-interval:1h}")
+    public void reconcileAll() {
+        reconcile(null);
+    }
+
+    /*
+        카운터를 실제 상품 수로 보정 (categoryIds 가 null 이면 전체)
+        - 카운터를 먼저 읽고 상품 수를 나중에 읽은 뒤, 카운터가 읽은 값 그대로일 때만 덮어쓴다
+          (그 사이에 커밋된 증감이 있으면 건너뛰고 다음 주기에 다시 비교)
+     */
+    private void reconcile(Collection<Long> categoryIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", categoryIds);
+        String categoryFilter = categoryIds != null ? " WHERE category_id IN (:ids)" : "";
+
+        Map<Long, long[]> stored = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT category_id, product_count, active_count FROM category_product_count" + categoryFilter,
+                params,
+                rs -> {
+                    stored.put(rs.getLong("category_id"), new long[]{rs.getLong("product_count"), rs.getLong("active_count")});
+                });
+
+        Map<Long, long[]> actual = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                COUNT_SQL + (categoryIds != null ? " AND category_id IN (:ids)" : "") + " GROUP BY category_id",
+                params,
+                rs -> {
+                    actual.put(rs.getLong("category_id"), new long[]{rs.getLong("product_count"), rs.getLong("active_count")});
+                });
+
+        Set<Long> targets = new HashSet<>(stored.keySet());
+        targets.addAll(actual.keySet());
+        if(categoryIds != null) {
+            targets.addAll(categoryIds);
+        } else {
+            targets.addAll(jdbcTemplate.queryForList("SELECT id FROM category", Long.class));
+        }
+
+        int corrected = 0;
+        for(Long categoryId : targets) {
+            long[] expected = actual.getOrDefault(categoryId, new long[]{0, 0});
+            long[] current = stored.get(categoryId);
+
+            if(current == null) {
+                corrected += insertIfCategoryExists(categoryId, expected);
+            } else if(current[0] != expected[0] || current[1] != expected[1]) {
+                corrected += jdbcTemplate.update(
+                        "UPDATE category_product_count SET product_count = ?, active_count = ? " +
+                        "WHERE category_id = ? AND product_count = ? AND active_count = ?",
+                        expected[0], expected[1], categoryId, current[0], current[1]);
+            }
+        }
+
+        if(corrected > 0) {
+            log.info("카테고리 상품 수 카운터 보정: {}건", corrected);
+        }
+    }
+
+    private int insertIfCategoryExists(Long categoryId, long[] counts) {
+        return jdbcTemplate.update(
+                "INSERT INTO category_product_count (category_id, product_count, active_count) " +
+                "SELECT id, ?, ? FROM category WHERE id = ?",
+                counts[0], counts[1], categoryId);
+    }
+}
@@ -0,0 +1,9 @@
+package com.study.ecommerce.domain.category.dto.resp;
+
+public record CategoryProductCountResponse(
+        Long categoryId,
+        long productCount,          // 카테고리에 직접 속한 전체 상품 수
+        long activeCount,           // 카테고리에 직접 속한 판매중 상품 수
+        long subtreeActiveCount     // 하위 카테고리를 포함한 판매중 상품 수
+) {
+}
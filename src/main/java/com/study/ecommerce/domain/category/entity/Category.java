@@ -32,8 +32,9 @@ public class Category extends BaseTimeEntity {
         this.parentId = parentId;
     }
 
-    public void update(String name, Long parentId) {
+    public void update(String name, Integer depth, Long parentId) {
         this.name = name;
+        this.depth = depth;
         this.parentId = parentId;
     }
 }
@@ -0,0 +1,40 @@
+package com.study.ecommerce.domain.category.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/*
+    카테고리 클로저 (조상 -> 자손 관계를 모두 저장, 자기 자신은 depth 0)
+    - 행 추가/삭제는 CategoryCommandServiceImpl 에서 벌크 쿼리로 처리하고 엔티티는 조회용
+ */
+@Entity
+@Getter
+@Table(name = "category_closure")
+@IdClass(CategoryClosure.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryClosure {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private Integer depth;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.study.ecommerce.domain.category.event;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ *  카테고리 등록 / 수정 / 삭제 이벤트
+ */
+@Getter
+@ToString
+public class CategoryChangedEvent extends ApplicationEvent {
+    private final Long categoryId;
+    private final String eventType;
+
+    public CategoryChangedEvent(Object source, Long categoryId, String eventType) {
+        super(source);
+        this.categoryId = categoryId;
+        this.eventType = eventType;
+    }
+
+    public static CategoryChangedEvent created(Object source, Long categoryId) {
+        return new CategoryChangedEvent(source, categoryId, "CATEGORY_CREATED");
+    }
+
+    public static CategoryChangedEvent updated(Object source, Long categoryId) {
+        return new CategoryChangedEvent(source, categoryId, "CATEGORY_UPDATED");
+    }
+
+    public static CategoryChangedEvent deleted(Object source, Long categoryId) {
+        return new CategoryChangedEvent(source, categoryId, "CATEGORY_DELETED");
+    }
+}
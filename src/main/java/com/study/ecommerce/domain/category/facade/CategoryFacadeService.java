@@ -1,6 +1,7 @@
 package com.study.ecommerce.domain.category.facade;
 
 import com.study.ecommerce.domain.category.dto.req.CategoryRequest;
+import com.study.ecommerce.domain.category.dto.resp.CategoryProductCountResponse;
 import com.study.ecommerce.domain.category.dto.resp.CategoryResponse;
 
 import java.util.List;
@@ -11,6 +12,10 @@ public interface CategoryFacadeService {
 
     CategoryResponse getCategory(Long id);
 
+    String getCategoryTreeETag();
+
+    CategoryProductCountResponse getProductCount(Long id);
+
     CategoryResponse createCategory(CategoryRequest request);
 
     CategoryResponse updateCategory(Long id, CategoryRequest request);
@@ -1,19 +1,19 @@
 package com.study.ecommerce.domain.category.facade;
 
 import com.study.ecommerce.domain.category.dto.req.CategoryRequest;
+import com.study.ecommerce.domain.category.dto.resp.CategoryProductCountResponse;
 import com.study.ecommerce.domain.category.dto.resp.CategoryResponse;
 import com.study.ecommerce.domain.category.entity.Category;
+import com.study.ecommerce.domain.category.event.CategoryChangedEvent;
 import com.study.ecommerce.domain.category.service.command.CategoryCommandService;
 import com.study.ecommerce.domain.category.service.query.CategoryQueryService;
+import com.study.ecommerce.domain.category.tree.CategoryTreeCache;
 import com.study.ecommerce.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,60 +21,32 @@ public class CategoryFacadeServiceImpl implements CategoryFacadeService {
 
     private final CategoryCommandService categoryCommandService;
     private final CategoryQueryService categoryQueryService;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 트리 스냅샷에서 바로 반환 (DB 조회, 트리 구성 없음)
     @Override
-    @Transactional(readOnly = true)
     public List<CategoryResponse> getAllCategories() {
-        // 모든 카테고리 조회
-        List<Category> allCategories = categoryQueryService.findAll();
-
-        // 부모 Id 별로 하위 카테고리를 그룹화
-        Map<Long, List<Category>> childrenMap = allCategories.stream()
-                .filter(cat -> cat.getParentId() != null)
-                .collect(Collectors.groupingBy(Category::getParentId));
-
-        // 루트 카테고리만 필터링
-        List<Category> rootCategories = allCategories.stream()
-                .filter(cat -> cat.getParentId() == null)
-                .toList();
-
-
-        return rootCategories.stream()
-                .map(root -> buildCategoryHierarchy(root, childrenMap))
-                .toList();
-    }
-
-    private CategoryResponse buildCategoryHierarchy(Category category, Map<Long, List<Category>> childrenMap) {
-        List<CategoryResponse> children = new ArrayList<>();
-
-        if(childrenMap.containsKey(category.getId())) {
-            children = childrenMap.get(category.getId()).stream()
-                    .map(child -> buildCategoryHierarchy(child, childrenMap))
-                    .toList();
-        }
-
-        return new CategoryResponse(
-                category.getId(),
-                category.getName(),
-                category.getDepth(),
-                category.getParentId(),
-                children
-        );
+        return categoryTreeCache.current().roots();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public CategoryResponse getCategory(Long id) {
-        Category category = categoryQueryService.findById(id)
+        return categoryTreeCache.current().find(id)
                 .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다."));
+    }
 
-        List<Category> allCategories = categoryQueryService.findAll();
-
-        Map<Long, List<Category>> childrenMap = allCategories.stream()
-                .filter(cat -> cat.getParentId() != null)
-                .collect(Collectors.groupingBy(Category::getParentId));
+    // 카테고리 조회 응답의 ETag (트리 스냅샷 내용 해시)
+    @Override
+    public String getCategoryTreeETag() {
+        return categoryTreeCache.current().eTag();
+    }
 
-        return buildCategoryHierarchy(category, childrenMap);
+    // 카테고리 상품 수 (카운터 조회, 하위 카테고리 합계 포함)
+    @Override
+    public CategoryProductCountResponse getProductCount(Long id) {
+        return categoryQueryService.findProductCount(id)
+                .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다."));
     }
 
     @Override
@@ -95,7 +67,8 @@ public class CategoryFacadeServiceImpl implements CategoryFacadeService {
                 .parentId(parentId)
                 .build();
 
-        categoryCommandService.addCategory(category.getName(), category.getDepth(), category.getParentId());
+        category = categoryCommandService.addCategory(category.getName(), category.getDepth(), category.getParentId());
+        eventPublisher.publishEvent(CategoryChangedEvent.created(this, category.getId()));
 
         return new CategoryResponse(
                 category.getId(),
@@ -127,18 +100,13 @@ public class CategoryFacadeServiceImpl implements CategoryFacadeService {
             }
 
             // 자신이 하위 카테고리를 부모로 설정하는 순환참조 금지
-            if(isDescendant(category, parent)) {
+            if(categoryTreeCache.current().isDescendant(category.getId(), parent.getId())) {
                 throw new IllegalArgumentException("하위 카테고리를 상위 카테고리로 설정할 수 없습니다.");
             }
         }
 
-        category = Category.builder()
-                .name(request.name())
-                .depth(depth)
-                .parentId(parentId)
-                .build();
-
-        categoryCommandService.addCategory(category.getName(), category.getDepth(), category.getParentId());
+        category = categoryCommandService.updateCategory(id, request.name(), depth, parentId);
+        eventPublisher.publishEvent(CategoryChangedEvent.updated(this, category.getId()));
 
         return new CategoryResponse(
                 category.getId(),
@@ -165,21 +133,6 @@ public class CategoryFacadeServiceImpl implements CategoryFacadeService {
         }
 
         categoryCommandService.removeCategory(id);
-    }
-
-    private boolean isDescendant(Category ancestor, Category descendant) {
-        if(descendant.getParentId() == null) {
-            return false;
-        }
-
-        if(descendant.getParentId().equals(ancestor.getId())) {
-            return true;
-        }
-
-        // descendant 의 부모 카테고리를 조회
-        Category parent = categoryQueryService.findById(descendant.getParentId())
-                .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다."));
-
-        return isDescendant(ancestor, parent);
+        eventPublisher.publishEvent(CategoryChangedEvent.deleted(this, id));
     }
 }
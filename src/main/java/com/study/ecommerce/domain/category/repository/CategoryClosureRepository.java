@@ -0,0 +1,48 @@
+package com.study.ecommerce.domain.category.repository;
+
+import com.study.ecommerce.domain.category.entity.CategoryClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosure.Key> {
+
+    // 자기 자신을 포함한 하위 카테고리 id
+    @Query("select c.descendantId from CategoryClosure c where c.ancestorId = :ancestorId")
+    List<Long> findDescendantIds(@Param("ancestorId") Long ancestorId);
+
+    // 새 카테고리: 자기 자신 행
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) VALUES (:id, :id, 0)",
+            nativeQuery = true)
+    int insertSelf(@Param("id") Long categoryId);
+
+    // 새 카테고리: 부모의 조상 목록(부모 자신 포함)을 복사
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT ancestor_id, :id, depth + 1 FROM category_closure WHERE descendant_id = :parentId",
+            nativeQuery = true)
+    int insertAncestors(@Param("id") Long categoryId, @Param("parentId") Long parentId);
+
+    // 하위 트리를 기존 조상들과 분리 (하위 트리 내부의 관계는 유지)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CategoryClosure c where c.descendantId in :subtreeIds and c.ancestorId not in :subtreeIds")
+    int detachSubtree(@Param("subtreeIds") Collection<Long> subtreeIds);
+
+    // 하위 트리를 새 부모 아래에 연결 (새 부모의 조상 x 하위 트리의 자손)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+            "FROM category_closure p CROSS JOIN category_closure s " +
+            "WHERE p.descendant_id = :parentId AND s.ancestor_id = :id",
+            nativeQuery = true)
+    int attachSubtree(@Param("id") Long categoryId, @Param("parentId") Long parentId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CategoryClosure c where c.descendantId = :id or c.ancestorId = :id")
+    int deleteNode(@Param("id") Long categoryId);
+}
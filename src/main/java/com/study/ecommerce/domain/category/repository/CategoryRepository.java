@@ -3,9 +3,11 @@ package com.study.ecommerce.domain.category.repository;
 import com.study.ecommerce.domain.category.entity.Category;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,5 +18,11 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     @Query("SELECT COUNT(p) FROM Product p WHERE p.categoryId = :categoryId")
     Long countProductsByCategory(@Param("categoryId") Long id);
 
+    // 상위 카테고리가 바뀐 하위 트리의 depth 를 한 번에 조정
+    // 벌크 UPDATE 는 영속성 컨텍스트를 거치지 않으므로 실행 후 비워서 이미 읽은 하위 카테고리의 옛 depth 를 쓰지 않도록
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c SET c.depth = c.depth + :delta WHERE c.id IN :ids")
+    int shiftDepth(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
 
 }
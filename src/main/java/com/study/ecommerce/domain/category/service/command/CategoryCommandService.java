@@ -8,5 +8,7 @@ public interface CategoryCommandService {
 
     Category addCategory(String name, Integer depth, Long parentId);
 
+    Category updateCategory(Long id, String name, Integer depth, Long parentId);
+
     void removeCategory(Long id);
 }
@@ -1,8 +1,10 @@
 package com.study.ecommerce.domain.category.service.command;
 
 import com.study.ecommerce.domain.category.dto.req.CategoryRequest;
+import com.study.ecommerce.domain.category.counter.CategoryProductCounter;
 import com.study.ecommerce.domain.category.dto.resp.CategoryResponse;
 import com.study.ecommerce.domain.category.entity.Category;
+import com.study.ecommerce.domain.category.repository.CategoryClosureRepository;
 import com.study.ecommerce.domain.category.repository.CategoryRepository;
 import com.study.ecommerce.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -17,11 +20,55 @@ import java.util.List;
 public class CategoryCommandServiceImpl implements CategoryCommandService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategoryProductCounter categoryProductCounter;
 
+    // 카테고리 저장 후 클로저 행 + 상품 수 카운터 행 추가
     @Override
     public Category addCategory(String name, Integer depth, Long parentId) {
-        Category category = new Category(name, depth, parentId);
-        return categoryRepository.save(category);
+        Category category = categoryRepository.save(new Category(name, depth, parentId));
+
+        categoryClosureRepository.insertSelf(category.getId());
+        if(parentId != null) {
+            categoryClosureRepository.insertAncestors(category.getId(), parentId);
+        }
+        categoryProductCounter.initialize(category.getId());
+        return category;
+    }
+
+    /*
+        카테고리 수정 (순환 참조 검사는 호출하는 쪽에서)
+        - 상위 카테고리가 바뀌면 하위 트리 전체를 기존 조상들과 분리한 뒤 새 부모 아래에 연결
+        - 하위 카테고리들의 depth 도 같은 만큼 조정
+     */
+    @Override
+    public Category updateCategory(Long id, String name, Integer depth, Long parentId) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다."));
+
+        boolean parentChanged = !Objects.equals(category.getParentId(), parentId);
+        int delta = depth - category.getDepth();
+
+        // shiftDepth 가 영속성 컨텍스트를 비우므로 (flush 후 clear) 그 전에 수정
+        category.update(name, depth, parentId);
+
+        if(parentChanged) {
+            List<Long> subtreeIds = categoryClosureRepository.findDescendantIds(id);
+
+            categoryClosureRepository.detachSubtree(subtreeIds);
+            if(parentId != null) {
+                categoryClosureRepository.attachSubtree(id, parentId);
+            }
+
+            List<Long> descendantIds = subtreeIds.stream()
+                    .filter(descendantId -> !descendantId.equals(id))
+                    .toList();
+            if(delta != 0 && !descendantIds.isEmpty()) {
+                categoryRepository.shiftDepth(descendantIds, delta);
+            }
+        }
+
+        return category;
     }
 
     @Override
@@ -29,6 +76,8 @@ public class CategoryCommandServiceImpl implements CategoryCommandService {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다."));
 
+        categoryClosureRepository.deleteNode(id);
+        categoryProductCounter.remove(id);
         categoryRepository.delete(category);
     }
 
@@ -1,5 +1,6 @@
 package com.study.ecommerce.domain.category.service.query;
 
+import com.study.ecommerce.domain.category.dto.resp.CategoryProductCountResponse;
 import com.study.ecommerce.domain.category.dto.resp.CategoryResponse;
 import com.study.ecommerce.domain.category.entity.Category;
 import org.springframework.data.jpa.repository.Query;
@@ -18,4 +19,6 @@ public interface CategoryQueryService {
 
     Long countProductsByCategory(@Param("categoryId") Long id);
 
+    Optional<CategoryProductCountResponse> findProductCount(Long id);
+
 }
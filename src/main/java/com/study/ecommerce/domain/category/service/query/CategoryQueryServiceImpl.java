@@ -1,5 +1,7 @@
 package com.study.ecommerce.domain.category.service.query;
 
+import com.study.ecommerce.domain.category.counter.CategoryProductCounter;
+import com.study.ecommerce.domain.category.dto.resp.CategoryProductCountResponse;
 import com.study.ecommerce.domain.category.dto.resp.CategoryResponse;
 import com.study.ecommerce.domain.category.entity.Category;
 import com.study.ecommerce.domain.category.repository.CategoryRepository;
@@ -19,6 +21,7 @@ import java.util.stream.Collectors;
 public class CategoryQueryServiceImpl implements CategoryQueryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryProductCounter categoryProductCounter;
 
 
     @Override
@@ -36,8 +39,14 @@ public class CategoryQueryServiceImpl implements CategoryQueryService {
         return categoryRepository.findByParentId(parentId);
     }
 
+    // COUNT 쿼리 대신 카운터 행 조회
     @Override
     public Long countProductsByCategory(Long id) {
-        return categoryRepository.countProductsByCategory(id);
+        return categoryProductCounter.productCount(id);
+    }
+
+    @Override
+    public Optional<CategoryProductCountResponse> findProductCount(Long id) {
+        return categoryProductCounter.find(id);
     }
 }
@@ -0,0 +1,53 @@
+package com.study.ecommerce.domain.category.tree;
+
+import com.study.ecommerce.domain.category.event.CategoryChangedEvent;
+import com.study.ecommerce.domain.category.repository.CategoryRepository;
+import com.study.ecommerce.global.responsecache.ResponseBodyCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+    카테고리 트리 스냅샷 보관소
+    - 조회는 현재 스냅샷을 읽기만 함 (DB 조회 없음)
+    - 카테고리 변경이 커밋되면 전체를 다시 읽어 새 스냅샷(버전 + 1)으로 원자적으로 교체
+    - 첫 조회 시 스냅샷이 없으면 그때 구성
+    - 교체한 뒤 트리로 만든 응답 본문 캐시(카테고리 조회, 상품 상세)를 비움
+ */
+@Slf4j
+@Component
+public class CategoryTreeCache {
+    private final CategoryRepository categoryRepository;
+    private final ResponseBodyCache responseBodyCache;
+    private final AtomicReference<CategoryTreeSnapshot> snapshot = new AtomicReference<>();
+
+    public CategoryTreeCache(CategoryRepository categoryRepository, ResponseBodyCache responseBodyCache) {
+        this.categoryRepository = categoryRepository;
+        this.responseBodyCache = responseBodyCache;
+    }
+
+    public CategoryTreeSnapshot current() {
+        CategoryTreeSnapshot current = snapshot.get();
+        return current != null ? current : refresh();
+    }
+
+    public synchronized CategoryTreeSnapshot refresh() {
+        CategoryTreeSnapshot previous = snapshot.get();
+        long version = previous != null ? previous.version() + 1 : 1;
+
+        CategoryTreeSnapshot rebuilt = CategoryTreeSnapshot.build(version, categoryRepository.findAll());
+        snapshot.set(rebuilt);
+        // 새 스냅샷을 걸어 둔 뒤에 비워야 이전 트리로 만든 응답이 다시 저장되지 않음
+        responseBodyCache.invalidate(ResponseBodyCache.CATEGORY_TAG);
+
+        log.debug("카테고리 트리 스냅샷 교체: version={}, 카테고리 {}개", version, rebuilt.size());
+        return rebuilt;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCategoryChanged(CategoryChangedEvent event) {
+        refresh();
+    }
+}
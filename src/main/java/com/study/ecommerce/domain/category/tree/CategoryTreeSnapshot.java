@@ -0,0 +1,163 @@
+package com.study.ecommerce.domain.category.tree;
+
+import com.study.ecommerce.domain.category.dto.resp.CategoryResponse;
+import com.study.ecommerce.domain.category.entity.Category;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/*
+    카테고리 트리 스냅샷 (불변)
+    - 생성 시 전체 트리를 한 번만 구성: id -> 노드, 노드별 하위 트리 응답, 루트부터 자신까지의 경로
+    - 하위 트리 응답은 부모와 자식이 같은 객체를 공유 (노드 수만큼만 생성)
+    - 변경 시에는 새 스냅샷을 만들어 통째로 교체 (CategoryTreeCache)
+    - 내용 해시(id, 이름, depth, 상위 id)로 ETag 를 만듦 -> 재시작이나 다른 인스턴스에서도 같은 트리면 같은 값
+ */
+public final class CategoryTreeSnapshot {
+    private final long version;
+    private final String eTag;
+    private final Map<Long, Node> nodes;
+    private final List<CategoryResponse> roots;
+
+    private CategoryTreeSnapshot(long version, String eTag, Map<Long, Node> nodes, List<CategoryResponse> roots) {
+        this.version = version;
+        this.eTag = eTag;
+        this.nodes = nodes;
+        this.roots = roots;
+    }
+
+    public static CategoryTreeSnapshot build(long version, List<Category> categories) {
+        // id 순으로 정렬해서 같은 트리면 응답(자식 순서)과 해시가 항상 같도록
+        categories = new ArrayList<>(categories);
+        categories.sort(Comparator.comparing(Category::getId));
+
+        Map<Long, List<Category>> childrenMap = new HashMap<>();
+        List<Category> rootCategories = new ArrayList<>();
+
+        for(Category category : categories) {
+            if(category.getParentId() == null) {
+                rootCategories.add(category);
+            } else {
+                childrenMap.computeIfAbsent(category.getParentId(), key -> new ArrayList<>()).add(category);
+            }
+        }
+
+        Map<Long, Node> nodes = new HashMap<>(categories.size() * 4 / 3 + 1);
+        List<CategoryResponse> roots = new ArrayList<>(rootCategories.size());
+        for(Category root : rootCategories) {
+            roots.add(buildNode(root, List.of(), childrenMap, nodes).response());
+        }
+
+        return new CategoryTreeSnapshot(version, "c-" + Long.toHexString(contentHash(categories)),
+                Collections.unmodifiableMap(nodes), List.copyOf(roots));
+    }
+
+    // FNV-1a (64bit) - 카테고리별 id, 이름, depth, 상위 id
+    private static long contentHash(List<Category> categories) {
+        long hash = 0xcbf29ce484222325L;
+        for(Category category : categories) {
+            hash = mix(hash, category.getId());
+            hash = mix(hash, category.getName() != null ? category.getName().hashCode() : 0);
+            hash = mix(hash, category.getDepth() != null ? category.getDepth() : 0);
+            hash = mix(hash, category.getParentId() != null ? category.getParentId() : -1L);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * 0x100000001b3L;
+    }
+
+    private static Node buildNode(Category category, List<Long> parentPath, Map<Long, List<Category>> childrenMap, Map<Long, Node> nodes) {
+        List<Long> path = new ArrayList<>(parentPath.size() + 1);
+        path.addAll(parentPath);
+        path.add(category.getId());
+        List<Long> immutablePath = List.copyOf(path);
+
+        List<CategoryResponse> children = new ArrayList<>();
+        for(Category child : childrenMap.getOrDefault(category.getId(), List.of())) {
+            children.add(buildNode(child, immutablePath, childrenMap, nodes).response());
+        }
+
+        Node node = new Node(
+                new CategoryResponse(
+                        category.getId(),
+                        category.getName(),
+                        category.getDepth(),
+                        category.getParentId(),
+                        List.copyOf(children)
+                ),
+                immutablePath
+        );
+
+        nodes.put(category.getId(), node);
+        return node;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    // 트리 내용이 같으면 같은 값 (조건부 조회용)
+    public String eTag() {
+        return eTag;
+    }
+
+    public List<CategoryResponse> roots() {
+        return roots;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    // 해당 카테고리의 하위 트리
+    public Optional<CategoryResponse> find(Long id) {
+        Node node = nodes.get(id);
+        return node != null ? Optional.of(node.response()) : Optional.empty();
+    }
+
+    // 루트부터 해당 카테고리까지의 id 경로 (없는 카테고리면 빈 목록)
+    public List<Long> path(Long id) {
+        Node node = nodes.get(id);
+        return node != null ? node.path() : List.of();
+    }
+
+    // 자기 자신을 포함한 하위 카테고리 id (없는 카테고리면 빈 집합)
+    public Set<Long> descendantIds(Long id) {
+        Node node = nodes.get(id);
+        if(node == null) {
+            return Set.of();
+        }
+
+        Set<Long> ids = new HashSet<>();
+        ArrayDeque<CategoryResponse> stack = new ArrayDeque<>();
+        stack.push(node.response());
+        while(!stack.isEmpty()) {
+            CategoryResponse current = stack.pop();
+            ids.add(current.id());
+            current.children().forEach(stack::push);
+        }
+        return ids;
+    }
+
+    // descendantId 가 ancestorId 의 하위(자기 자신 제외)인지
+    public boolean isDescendant(Long ancestorId, Long descendantId) {
+        List<Long> path = path(descendantId);
+        return path.size() > 1 && path.subList(0, path.size() - 1).contains(ancestorId);
+    }
+
+    private record Node(
+            CategoryResponse response,
+            List<Long> path
+    ) {
+    }
+}
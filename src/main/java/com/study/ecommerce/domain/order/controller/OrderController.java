@@ -3,8 +3,11 @@ package com.study.ecommerce.domain.order.controller;
 
 import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest;
 import com.study.ecommerce.domain.order.dto.resp.OrderDetailResponse;
+import com.study.ecommerce.domain.order.dto.resp.OrderPipelineResponse;
 import com.study.ecommerce.domain.order.dto.resp.OrderResponse;
 import com.study.ecommerce.domain.order.service.OrderService;
+import com.study.ecommerce.domain.order.templete.OrderPipeline;
+import com.study.ecommerce.domain.order.templete.OrderPipelineJob;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -15,11 +18,14 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/v1/orders")
 @RequiredArgsConstructor
 public class OrderController {
     private final OrderService orderService;
+    private final OrderPipeline orderPipeline;
 
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(
@@ -29,6 +35,25 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // 비동기 주문 접수: 처리 결과는 상태 조회 API 로 확인
+    @PostMapping("/async")
+    public ResponseEntity<OrderPipelineResponse> createOrderAsync(
+            @Valid @RequestBody OrderCreateRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        OrderPipelineJob job = orderPipeline.submit(request, userDetails.getUsername());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/orders/async/" + job.getHandle()))
+                .body(OrderPipelineResponse.from(job));
+    }
+
+    @GetMapping("/async/{handle}")
+    public ResponseEntity<OrderPipelineResponse> getOrderAsyncStatus(
+            @PathVariable String handle,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        OrderPipelineJob job = orderPipeline.getJob(handle, userDetails.getUsername());
+        return ResponseEntity.ok(OrderPipelineResponse.from(job));
+    }
+
     @GetMapping
     public ResponseEntity<Page<OrderResponse>> getOrders(
             @AuthenticationPrincipal UserDetails userDetails,
@@ -2,11 +2,13 @@ package com.study.ecommerce.domain.order.dto.resp;
 
 import com.study.ecommerce.domain.order.dto.OrderItemDto;
 import com.study.ecommerce.domain.order.entity.Order.OrderStatus;
+import com.study.ecommerce.global.common.id.TsidJson;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public record OrderDetailResponse(
+        @TsidJson
         Long id,
         Long memberId,
         String memberName,
@@ -0,0 +1,32 @@
+package com.study.ecommerce.domain.order.dto.resp;
+
+import com.study.ecommerce.domain.order.templete.OrderPipeline.Stage;
+import com.study.ecommerce.domain.order.templete.OrderPipelineJob;
+import com.study.ecommerce.domain.order.templete.OrderPipelineJob.JobStatus;
+import com.study.ecommerce.global.common.id.TsidJson;
+
+import java.time.LocalDateTime;
+
+public record OrderPipelineResponse(
+        String handle,
+        Stage stage,
+        JobStatus status,
+        @TsidJson
+        Long orderId,
+        String message,
+        LocalDateTime acceptedAt,
+        LocalDateTime finishedAt
+) {
+
+    public static OrderPipelineResponse from(OrderPipelineJob job) {
+        return new OrderPipelineResponse(
+                job.getHandle(),
+                job.getStage(),
+                job.getStatus(),
+                job.getOrderId(),
+                job.getMessage(),
+                job.getAcceptedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
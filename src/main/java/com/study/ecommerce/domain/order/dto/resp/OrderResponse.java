@@ -2,8 +2,10 @@ package com.study.ecommerce.domain.order.dto.resp;
 
 import com.study.ecommerce.domain.order.entity.Order;
 import com.study.ecommerce.domain.order.entity.Order.OrderStatus;
+import com.study.ecommerce.global.common.id.TsidJson;
 
 public record OrderResponse(
+        @TsidJson
         Long id,
         OrderStatus status,
         Long totalAmount
@@ -1,6 +1,9 @@
 package com.study.ecommerce.domain.order.entity;
 
 import com.study.ecommerce.global.common.BaseTimeEntity;
+import com.study.ecommerce.global.common.id.TsidId;
+import com.study.ecommerce.global.error.ErrorCode;
+import com.study.ecommerce.global.error.exception.BusinessException;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -20,7 +23,7 @@ import java.util.List;
 public class Order extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(name = "member_id", nullable = false)
@@ -62,6 +65,24 @@ public class Order extends BaseTimeEntity {
         this.status = status;
     }
 
+    // 결제 완료: CREATED -> PAID
+    public void pay() {
+        if(this.status != OrderStatus.CREATED) {
+            throw new BusinessException("결제할 수 없는 주문 상태입니다: " + this.status, ErrorCode.INVALID_ORDER_STATUS);
+        }
+
+        this.status = OrderStatus.PAID;
+    }
+
+    // 주문 취소: CREATED / PAID -> CANCELED
+    public void cancel() {
+        if(this.status != OrderStatus.CREATED && this.status != OrderStatus.PAID) {
+            throw new BusinessException("취소할 수 없는 주문 상태입니다: " + this.status, ErrorCode.CANNOT_CANCEL_ORDER);
+        }
+
+        this.status = OrderStatus.CANCELED;
+    }
+
     public void updateTotalAmount(BigDecimal totalAmount) {
         this.totalAmount = totalAmount;
     }
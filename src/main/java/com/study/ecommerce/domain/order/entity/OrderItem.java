@@ -2,6 +2,7 @@ package com.study.ecommerce.domain.order.entity;
 
 import com.study.ecommerce.domain.product.entity.Product;
 import com.study.ecommerce.global.common.BaseTimeEntity;
+import com.study.ecommerce.global.common.id.TsidId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,7 +17,7 @@ import java.math.BigDecimal;
 public class OrderItem extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,9 +1,33 @@
 package com.study.ecommerce.domain.order.event;
 
+import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest;
 import com.study.ecommerce.domain.order.entity.Order;
+import lombok.Getter;
 
+import java.util.List;
+
+@Getter
 public class OrderCreatedEvent extends OrderEvent {
-    public OrderCreatedEvent(Object source, Order order) {
+    // 주문 상품별 수량 (Order 의 orderItems 는 채워져 있지 않을 수 있으므로 발행하는 쪽에서 넘김)
+    private final List<Line> lines;
+
+    public OrderCreatedEvent(Object source, Order order, List<Line> lines) {
         super(source, order, "ORDER_CREATED");
+        this.lines = List.copyOf(lines);
+    }
+
+    // 요청의 상품 목록으로 만듦 (카테고리는 모름)
+    public static List<Line> linesOf(OrderCreateRequest request) {
+        if(request.items() == null) {
+            return List.of();
+        }
+
+        return request.items().stream()
+                .map(item -> new Line(item.getProductId(), null, item.getQuantity()))
+                .toList();
+    }
+
+    // categoryId 를 모르면 null
+    public record Line(Long productId, Long categoryId, int quantity) {
     }
 }
@@ -2,22 +2,25 @@ package com.study.ecommerce.domain.order.event.listener;
 
 import com.study.ecommerce.domain.order.entity.Order;
 import com.study.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.study.ecommerce.domain.product.ranking.BestSellerRanking;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class AnalyticsEventListener {
+    private final BestSellerRanking bestSellerRanking;
 
-    @EventListener
-    @Async
+    // 커밋된 주문만 집계 (트랜잭션 밖에서 발행하면 바로 실행), 카운터 증가만 하므로 비동기로 넘기지 않음
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleOrderCreated(OrderCreatedEvent event) {
         // 주문 생성 통계 수집
         collectOrderCreationStats(event.getOrder());
         // 상품별 주문 통계 업데이트
-        updateProductOrderStats(event.getOrder());
+        updateProductOrderStats(event);
     }
 
     private void collectOrderCreationStats(Order order) {
@@ -25,9 +28,8 @@ public class AnalyticsEventListener {
         log.info("주문 생성 통계 수집 : 주문번호: {}, 총액: {}", order.getId(), order.getTotalAmount());
     }
 
-    private void updateProductOrderStats(Order order) {
-        order.getOrderItems().forEach(item -> {
-            log.debug("상품 {}, 주문량 증가: {}", item.getProduct().getId(), item.getQuantity());
-        });
+    // 판매 순위 (최근 1시간 / 1일)
+    private void updateProductOrderStats(OrderCreatedEvent event) {
+        bestSellerRanking.record(event.getLines());
     }
 }
@@ -3,7 +3,11 @@ package com.study.ecommerce.domain.order.repository;
 import com.study.ecommerce.domain.order.entity.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -16,4 +20,9 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findByMemberId(Long id);
 
     List<Order> findByOrderDate(LocalDate orderDate);
+
+    // 상태를 바꾸는 작업(결제 완료 / 보상 / 취소)끼리 겹치지 않도록 주문 행을 잠그고 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") Long orderId);
 }
@@ -5,10 +5,8 @@ import com.study.ecommerce.domain.order.entity.Order;
 import com.study.ecommerce.domain.order.event.OrderCreatedEvent;
 import com.study.ecommerce.domain.order.event.OrderPaidEvent;
 import com.study.ecommerce.domain.order.templete.OrderProcessTemplate;
-import com.study.ecommerce.domain.order.templete.PremiumOrderProcessor;
-import com.study.ecommerce.domain.order.templete.RegularOrderProcessor;
+import com.study.ecommerce.domain.order.templete.OrderProcessorSelector;
 import com.study.ecommerce.domain.order.validation.OrderValidationChain;
-import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -20,8 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 @RequiredArgsConstructor
 public class OrderPatternService {
-    private final RegularOrderProcessor regularOrderProcessor;
-    private final PremiumOrderProcessor premiumOrderProcessor;
+    private final OrderProcessorSelector orderProcessorSelector;
     private final ApplicationEventPublisher eventPublisher;
     private final OrderValidationChain validationChain;
 
@@ -29,11 +26,13 @@ public class OrderPatternService {
         try {
             validationChain.validateOrder(request);
 
-            OrderProcessTemplate orderProcessTemplate = selectOrderProcessor(request);
+            OrderProcessTemplate orderProcessTemplate = orderProcessorSelector.select(request);
             Order order = orderProcessTemplate.processOrder(request);
 
-            publishOrderCreateEvent(order);
-            publishOrderPaidEvent(order, request.paymentMethod());
+            publishOrderCreateEvent(order, request);
+            if(order.getStatus() == Order.OrderStatus.PAID) {
+                publishOrderPaidEvent(order, request.paymentMethod());
+            }
 
             return order;
         } catch (Exception e) {
@@ -42,22 +41,8 @@ public class OrderPatternService {
         }
     }
 
-    private OrderProcessTemplate selectOrderProcessor(OrderCreateRequest request) {
-        boolean isVipMember = isVipMember(request.memberId());
-
-        if(isVipMember) {
-            return premiumOrderProcessor;
-        } else {
-            return regularOrderProcessor;
-        }
-    }
-
-    private boolean isVipMember(@NotNull Long memberId) {
-        return memberId % 10 == 0;
-    }
-
-    private void publishOrderCreateEvent(Order order) {
-        OrderCreatedEvent event = new OrderCreatedEvent(this, order);
+    private void publishOrderCreateEvent(Order order, OrderCreateRequest request) {
+        OrderCreatedEvent event = new OrderCreatedEvent(this, order, OrderCreatedEvent.linesOf(request));
         eventPublisher.publishEvent(event);
     }
 
@@ -1,14 +1,9 @@
 package com.study.ecommerce.domain.order.service;
 
-import com.study.ecommerce.domain.cart.entity.Cart;
-import com.study.ecommerce.domain.cart.entity.CartItem;
-import com.study.ecommerce.domain.cart.repository.CartItemRepository;
-import com.study.ecommerce.domain.cart.repository.CartRepository;
 import com.study.ecommerce.domain.member.entity.Member;
 import com.study.ecommerce.domain.member.repository.MemberRepository;
 import com.study.ecommerce.domain.order.dto.OrderItemDto;
 import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest;
-import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest.OrderItemRequest;
 import com.study.ecommerce.domain.order.dto.resp.OrderDetailResponse;
 import com.study.ecommerce.domain.order.dto.resp.OrderResponse;
 import com.study.ecommerce.domain.order.entity.Order;
@@ -18,19 +13,21 @@ import com.study.ecommerce.domain.order.repository.OrderItemRepository;
 import com.study.ecommerce.domain.order.repository.OrderRepository;
 import com.study.ecommerce.domain.payment.entity.Payment;
 import com.study.ecommerce.domain.payment.repository.PaymentRepository;
-import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.cache.ProductCache;
+import com.study.ecommerce.domain.product.cache.ProductSnapshot;
 import com.study.ecommerce.domain.product.repository.ProductRepository;
+import com.study.ecommerce.global.error.ErrorCode;
+import com.study.ecommerce.global.error.exception.BusinessException;
 import com.study.ecommerce.global.error.exception.EntityNotFoundException;
 import com.study.ecommerce.infra.payment.service.MockPaymentService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.study.ecommerce.domain.order.entity.Order.OrderStatus.CANCELED;
@@ -38,6 +35,7 @@ import static com.study.ecommerce.domain.order.entity.Order.OrderStatus.CREATED;
 import static com.study.ecommerce.domain.payment.entity.Payment.*;
 import static com.study.ecommerce.domain.payment.entity.Payment.PaymentStatus.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderServiceCustom implements OrderService {
@@ -45,66 +43,67 @@ public class OrderServiceCustom implements OrderService {
     private final OrderItemRepository orderItemRepository;
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
-    private final CartRepository cartRepository;
-    private final CartItemRepository cartItemRepository;
+    private final ProductCache productCache;
     private final PaymentRepository paymentRepository;
     private final MockPaymentService mockPaymentService;
-
-    // 주문서 생성
-    // 1. 빈 주문서 만들기
-    // 2. save
-    // 3.
+    private final OrderTransactionService orderTransactionService;
+
+    /*
+        주문 생성 (2단계)
+        1. 재고 차감 + 주문 생성 트랜잭션을 먼저 커밋 (상품 행 락 해제)
+        2. 트랜잭션 밖에서 결제 (PG 지연이 락 보유 시간에 포함되지 않음)
+        3. 결제 성공이면 PAID, 실패면 재고를 복구하고 CANCELED
+     */
     @Override
-    @Transactional(isolation = Isolation.READ_COMMITTED)    // commit이 된 것만 읽어오겠다 
     public OrderResponse createOrder(OrderCreateRequest request, String email) {
-        // 1. 회원 조회
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        // 재고를 차감하기 전에 결제 수단부터 검증
+        PaymentMethod paymentMethod = request.payNow() ? toPaymentMethod(request.paymentMethod()) : null;
 
-        // 2. 주문 생성(초기 총액 자체를 0원으로 설정)
-        Order order = Order.builder()
-                .memberId(member.getId())
-                .status(CREATED)
-                .orderDate(LocalDateTime.now())
-                .totalAmount(BigDecimal.valueOf(0L))
-                .build();
-
-        order = orderRepository.save(order);
-
-        // 주문서 생성한 뒤 총액 업데이트
-        // 3. 주문 상품 처리 및 총액 계산
-        long totalAmount = 0L;
-
-        if(request.cartItemIds() != null && !request.cartItemIds().isEmpty()) {
-            // 장바구니로 상품을 주문
-            totalAmount = processCartItems(order, request.cartItemIds(), member);
-        } else if(request.items() != null && !request.items().isEmpty()) {
-            // 직접 지정한 상품 (장바구니에 있는건 아님)
-            totalAmount = processDirectItems(order, request.items());
-        } else {
-            throw new IllegalArgumentException("주문한 상품이 지정되지 않았습니다.");
+        // 1단계
+        Order order = orderTransactionService.placeOrder(request, email);
+
+        if(!request.payNow()) {
+            return new OrderResponse(order.getId(), order.getStatus(), order.getTotalAmount().longValue());
         }
 
-        // 4. 총액 업데이트
-        order.updateTotalAmount(BigDecimal.valueOf(totalAmount));
-        order = orderRepository.save(order);
+        // 2단계
+        Payment payment;
+        try {
+            payment = mockPaymentService.processPayment(order, paymentMethod);
+        } catch (RuntimeException e) {
+            log.error("결제 실패 - 주문 {} 보상 처리: {}", order.getId(), e.getMessage());
+            orderTransactionService.compensateOrder(order.getId());
+            throw new BusinessException("결제에 실패했습니다.", ErrorCode.PAYMENT_FAILED);
+        }
 
-        // 5. 결제 진행 (비동기로 처리해도 됨)
-        if(request.payNow()) {
-            Payment payment = mockPaymentService.processPayment(order, PaymentMethod.valueOf(request.paymentMethod()));
-            order.updateStatus(OrderStatus.PAID);
-            orderRepository.save(order);
+        // 3단계
+        try {
+            order = orderTransactionService.completeOrder(order.getId());
+        } catch (RuntimeException e) {
+            // 결제 중에 주문 상태가 바뀌었거나 (ex. 취소) DB 오류: 결제를 되돌리고 재고 복구 + 주문 취소
+            // (이미 취소된 주문이면 compensateOrder 는 아무것도 하지 않음)
+            log.error("주문 완료 처리 실패 - 주문 {} 결제 취소 및 보상 처리: {}", order.getId(), e.getMessage());
+            mockPaymentService.cancelPayment(payment);
+            orderTransactionService.compensateOrder(order.getId());
+            throw e;
         }
 
         return new OrderResponse(order.getId(), order.getStatus(), order.getTotalAmount().longValue());
+    }
 
+    private PaymentMethod toPaymentMethod(String paymentMethod) {
+        try {
+            return PaymentMethod.valueOf(paymentMethod);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 결제 수단입니다: " + paymentMethod);
+        }
     }
 
     @Override
     @Transactional
     public OrderResponse cancelOrder(Long orderId, String email) {
-        // 주문 조회
-        Order order = orderRepository.findById(orderId)
+        // 주문 조회 (결제 완료 / 보상 처리와 겹치지 않도록 잠그고, 아래 상태 확인은 잠근 뒤의 상태로 함)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
 
         // 주문자 확인
@@ -125,18 +124,14 @@ public class OrderServiceCustom implements OrderService {
             Payment payment = paymentRepository.findByOrderId(order.getId())
                     .orElseThrow(() -> new EntityNotFoundException("결제 정보를 찾을 수 없습니다."));
             mockPaymentService.cancelPayment(payment);
+        }
 
-            List<OrderItem> orderItems = orderItemRepository.findByOrderId(order.getId());
-            for (OrderItem item : orderItems) {
-                Product product = productRepository.findById(item.getProduct().getId())
-                        .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다."));
-
-                product.increasesStock(item.getQuantity());
-                productRepository.save(product);
-            }
+        // 재고 복구 (결제 전 주문도 주문 생성 시점에 재고가 차감되어 있음)
+        if (order.getStatus() == OrderStatus.PAID || order.getStatus() == OrderStatus.CREATED) {
+            orderTransactionService.restoreStock(order);
 
             // 주문 상태를 변경
-            order.updateStatus(OrderStatus.CANCELED);
+            order.cancel();
         }
 
         orderRepository.save(order);
@@ -204,12 +199,12 @@ public class OrderServiceCustom implements OrderService {
         List<OrderItem> orderItems = orderItemRepository.findByOrderId(order.getId());
         List<OrderItemDto> orderItemDtos = orderItems.stream()
                 .map(item -> {
-                    Product product = productRepository.findById(item.getProduct().getId())
+                    ProductSnapshot product = productCache.get(item.getProduct().getId())
                             .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다."));
 
                     return new OrderItemDto(
-                            product.getId(),
-                            product.getName(),
+                            product.id(),
+                            product.name(),
                             item.getQuantity(),
                             item.getPrice().longValue()
                     );
@@ -260,73 +255,6 @@ public class OrderServiceCustom implements OrderService {
 //                ));
 //    }
 
-    // 전체 가격을 계산하기 위한 메서드
-    private long processCartItems(Order order, List<Long> cartItemIds, Member member) {
-        Cart cart = cartRepository.findByMemberId(member.getId())
-                .orElseThrow(() -> new EntityNotFoundException("장바구니를 찾을 수 없습니다."));
-
-        long totalAmount = 0L;
-
-        for(Long cartItemId : cartItemIds) {
-            CartItem cartItem = cartItemRepository.findById(cartItemId)
-                    .orElseThrow(() -> new EntityNotFoundException("장바구니 상품을 찾을 수 없습니다." + cartItemIds));
-
-            // 해당 장바구니 상품이 현재 사용자의 것인지
-            if(!cartItem.getCartId().equals(cart.getId())) {
-                throw new IllegalArgumentException("장바구니 상품 접근 권한이 없습니다.");
-            }
-
-            // 비관적락 사용
-            Product product = productRepository.findByIdWithPessimisticLock(cartItem.getProductId())
-                    .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다."));
-
-            product.decreasesStock(cartItem.getQuantity());
-
-            productRepository.save(product);
-
-            // 주문 상품 추가
-            OrderItem orderItem = OrderItem.builder()
-                    .order(order)
-                    .product(product)
-                    .quantity(cartItem.getQuantity())
-                    .price(BigDecimal.valueOf(product.getPrice()))
-                    .build();
-
-            orderItemRepository.save(orderItem);
-            totalAmount += orderItem.getTotalPrice().longValue();
-
-            // 주문한 상품은 장바구니에서 제거
-            cartItemRepository.delete(cartItem);
-        }
-
-        return totalAmount;
-    }
-
-    private long processDirectItems(Order order, List<OrderItemRequest> items) {
-        long totalAmount = 0L;
-
-        for(OrderItemRequest request : items) {
-            // 상품 재고 확인 및 감소
-            Product product = productRepository.findByIdWithPessimisticLock(request.getProductId())
-                    .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다."));
-
-            product.decreasesStock(request.getQuantity());
-            productRepository.save(product);
-
-            OrderItem orderItem = OrderItem.builder()
-                    .order(order)
-                    .product(product)
-                    .quantity(request.getQuantity())
-                    .price(BigDecimal.valueOf(product.getPrice()))
-                    .build();
-
-            orderItemRepository.save(orderItem);
-            totalAmount += orderItem.getTotalPrice().longValue();
-        }
-        return totalAmount;
-    }
-
-
     public BigDecimal getTodayOrderAmount(OrderCreateRequest request) {
         Order order = orderRepository.findByMemberId(request.memberId())
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않은 주문입니다."));
@@ -0,0 +1,293 @@
+package com.study.ecommerce.domain.order.service;
+
+import com.study.ecommerce.domain.cart.entity.Cart;
+import com.study.ecommerce.domain.cart.entity.CartItem;
+import com.study.ecommerce.domain.cart.repository.CartItemRepository;
+import com.study.ecommerce.domain.cart.repository.CartRepository;
+import com.study.ecommerce.domain.category.counter.CategoryProductCounter;
+import com.study.ecommerce.domain.member.entity.Member;
+import com.study.ecommerce.domain.member.repository.MemberRepository;
+import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest;
+import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest.OrderItemRequest;
+import com.study.ecommerce.domain.order.entity.Order;
+import com.study.ecommerce.domain.order.entity.OrderItem;
+import com.study.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.study.ecommerce.domain.order.repository.OrderItemRepository;
+import com.study.ecommerce.domain.order.repository.OrderRepository;
+import com.study.ecommerce.domain.order.strategy.inventory.InventoryStrategyFactory;
+import com.study.ecommerce.domain.product.cache.ProductCache;
+import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.inventory.InventoryLedger;
+import com.study.ecommerce.domain.product.repository.ProductRepository;
+import com.study.ecommerce.domain.product.search.ProductSearchIndex;
+import com.study.ecommerce.global.error.ErrorCode;
+import com.study.ecommerce.global.error.exception.BusinessException;
+import com.study.ecommerce.global.error.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.study.ecommerce.domain.order.entity.Order.OrderStatus.CREATED;
+
+/*
+    주문 생성의 트랜잭션 단계들
+    - 1단계(placeOrder): 재고 차감 + 주문 생성 후 바로 커밋 (상품 행 락은 여기서 해제)
+    - 결제는 OrderServiceCustom 에서 트랜잭션 밖에서 진행
+    - 3단계: 결제 성공이면 completeOrder, 실패면 compensateOrder(재고 복구 + 주문 취소)
+    - 1단계 끝에서 OrderCreatedEvent 발행 (상품별 수량 / 카테고리 포함)
+    - 재고를 InventoryLedger 에 미리 예약하는 주문 처리기(OrderProcessTemplate)는
+      saveReservedOrder 로 저장하고 finalizeReservedOrder 로 완료 (실패하면 같은 compensateOrder 로 보상)
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderTransactionService {
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final MemberRepository memberRepository;
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final ProductRepository productRepository;
+    private final InventoryStrategyFactory inventoryStrategyFactory;
+    private final ProductCache productCache;
+    private final CategoryProductCounter categoryProductCounter;
+    private final InventoryLedger inventoryLedger;
+    private final ProductSearchIndex productSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)    // commit이 된 것만 읽어오겠다
+    public Order placeOrder(OrderCreateRequest request, String email) {
+        // 1. 회원 조회
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+
+        // 2. 주문 생성(초기 총액 자체를 0원으로 설정)
+        Order order = Order.builder()
+                .memberId(member.getId())
+                .status(CREATED)
+                .orderDate(LocalDateTime.now())
+                .totalAmount(BigDecimal.valueOf(0L))
+                .build();
+
+        order = orderRepository.save(order);
+
+        // 주문서 생성한 뒤 총액 업데이트
+        // 3. 주문 상품 처리 및 총액 계산
+        List<OrderItem> orderItems;
+
+        if(request.cartItemIds() != null && !request.cartItemIds().isEmpty()) {
+            // 장바구니로 상품을 주문
+            orderItems = processCartItems(order, request.cartItemIds(), member);
+        } else if(request.items() != null && !request.items().isEmpty()) {
+            // 직접 지정한 상품 (장바구니에 있는건 아님)
+            orderItems = processDirectItems(order, request.items());
+        } else {
+            throw new IllegalArgumentException("주문한 상품이 지정되지 않았습니다.");
+        }
+
+        long totalAmount = 0L;
+        List<OrderCreatedEvent.Line> lines = new ArrayList<>(orderItems.size());
+        for(OrderItem orderItem : orderItems) {
+            totalAmount += orderItem.getTotalPrice().longValue();
+            lines.add(new OrderCreatedEvent.Line(orderItem.getProduct().getId(),
+                    orderItem.getProduct().getCategoryId(), orderItem.getQuantity()));
+        }
+
+        // 4. 총액 업데이트
+        order.updateTotalAmount(BigDecimal.valueOf(totalAmount));
+        order = orderRepository.save(order);
+
+        eventPublisher.publishEvent(new OrderCreatedEvent(this, order, lines));
+        return order;
+    }
+
+    // 결제 성공: CREATED -> PAID (그 사이 취소됐으면 pay() 에서 예외)
+    @Transactional
+    public Order completeOrder(Long orderId) {
+        Order order = orderRepository.findByIdForUpdate(orderId)
+                .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
+
+        order.pay();
+        return order;
+    }
+
+    // 결제 실패: 차감한 재고를 복구하고 CREATED -> CANCELED
+    // 잠근 뒤 상태를 다시 확인 (이미 취소된 주문이면 재고가 복구돼 있으므로 그대로 둠)
+    @Transactional
+    public Order compensateOrder(Long orderId) {
+        Order order = orderRepository.findByIdForUpdate(orderId)
+                .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
+
+        if(order.getStatus() != CREATED) {
+            return order;
+        }
+
+        restoreStock(order);
+        order.cancel();
+        return order;
+    }
+
+    /*
+        재고를 미리 예약한 주문 저장 (재고 차감은 InventoryLedger 가 DB 에 반영하므로 여기서는 차감하지 않음)
+        - 주문 상품 가격과 총액은 요청 값이 아니라 상품 가격으로 계산
+        - 호출하는 쪽이 같은 트랜잭션에서 재고 예약을 확정 (롤백되면 원장이 예약을 되돌림)
+        @param order 저장할 주문 (CREATED)
+        @param items 주문 상품
+     */
+    @Transactional
+    public Order saveReservedOrder(Order order, List<OrderItemRequest> items) {
+        List<Long> productIds = items.stream().map(OrderItemRequest::getProductId).distinct().toList();
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        if(products.size() != productIds.size()) {
+            throw new EntityNotFoundException("상품을 찾을 수 없습니다." + productIds);
+        }
+
+        order = orderRepository.save(order);
+
+        List<OrderItem> orderItems = new ArrayList<>(items.size());
+        long totalAmount = 0L;
+        for(OrderItemRequest item : items) {
+            Product product = products.get(item.getProductId());
+
+            OrderItem orderItem = OrderItem.builder()
+                    .order(order)
+                    .product(product)
+                    .quantity(item.getQuantity())
+                    .price(BigDecimal.valueOf(product.getPrice()))
+                    .build();
+
+            orderItems.add(orderItem);
+            totalAmount += orderItem.getTotalPrice().longValue();
+        }
+
+        orderItemRepository.saveAll(orderItems);
+        order.updateTotalAmount(BigDecimal.valueOf(totalAmount));
+        return order;
+    }
+
+    /*
+        재고를 미리 예약한 주문 완료: 할인 / 배송비 저장, 결제했으면 CREATED -> PAID
+        - 잠근 뒤 상태를 다시 확인 (처리 중에 취소된 주문이면 예외)
+        @param processed 할인 / 배송비를 계산한 주문
+        @param paid 결제 여부
+     */
+    @Transactional
+    public Order finalizeReservedOrder(Order processed, boolean paid) {
+        Order order = orderRepository.findByIdForUpdate(processed.getId())
+                .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
+
+        if(order.getStatus() != CREATED) {
+            throw new BusinessException("완료할 수 없는 주문 상태입니다: " + order.getStatus(), ErrorCode.INVALID_ORDER_STATUS);
+        }
+
+        order.updateDiscountAmount(processed.getDiscountAmount());
+        order.updateShippingCost(processed.getShippingCost());
+        if(paid) {
+            order.pay();
+        }
+        return order;
+    }
+
+    // 주문 상품 수량만큼 재고 복구 (차감과 같은 재고 전략 사용)
+    public void restoreStock(Order order) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for(OrderItem item : orderItemRepository.findByOrderId(order.getId())) {
+            quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+        }
+
+        inventoryStrategyFactory.getInventoryStrategy().increaseStock(quantities);
+        productCache.evict(quantities.keySet());
+        categoryProductCounter.markStockChanged(quantities.keySet());
+        inventoryLedger.resync(quantities.keySet());
+        productSearchIndex.markStockChanged(quantities.keySet());
+    }
+
+    // 장바구니 상품으로 주문 상품 생성
+    private List<OrderItem> processCartItems(Order order, List<Long> cartItemIds, Member member) {
+        Cart cart = cartRepository.findByMemberId(member.getId())
+                .orElseThrow(() -> new EntityNotFoundException("장바구니를 찾을 수 없습니다."));
+
+        // 장바구니 상품을 한 번에 조회
+        List<CartItem> cartItems = cartItemRepository.findAllById(cartItemIds);
+        if(cartItems.size() != new HashSet<>(cartItemIds).size()) {
+            throw new EntityNotFoundException("장바구니 상품을 찾을 수 없습니다." + cartItemIds);
+        }
+
+        List<OrderLine> lines = new ArrayList<>(cartItems.size());
+        for(CartItem cartItem : cartItems) {
+            // 해당 장바구니 상품이 현재 사용자의 것인지
+            if(!cartItem.getCartId().equals(cart.getId())) {
+                throw new IllegalArgumentException("장바구니 상품 접근 권한이 없습니다.");
+            }
+            lines.add(new OrderLine(cartItem.getProductId(), cartItem.getQuantity()));
+        }
+
+        List<OrderItem> orderItems = createOrderItems(order, lines);
+
+        // 주문한 상품은 장바구니에서 제거 (한 번의 delete 문)
+        cartItemRepository.deleteAllInBatch(cartItems);
+
+        return orderItems;
+    }
+
+    private List<OrderItem> processDirectItems(Order order, List<OrderItemRequest> items) {
+        List<OrderLine> lines = items.stream()
+                .map(item -> new OrderLine(item.getProductId(), item.getQuantity()))
+                .toList();
+
+        return createOrderItems(order, lines);
+    }
+
+    /*
+        주문 상품의 재고를 차감한 뒤 주문 상품을 일괄 저장
+        - 상품별 수량을 합산한 뒤 설정된 재고 전략(비관적/낙관적/조건부 UPDATE)으로 차감
+        - 재고 원장 예약은 롤백되면 원장이 스스로 되돌린다
+     */
+    private List<OrderItem> createOrderItems(Order order, List<OrderLine> lines) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for(OrderLine line : lines) {
+            quantities.merge(line.productId(), line.quantity(), Integer::sum);
+        }
+
+        // 재고 원장이 관리하는 상품은 원장에 먼저 예약 (비동기 주문 경로와 같은 재고를 따로 팔지 않도록)
+        inventoryLedger.reserveDirect(quantities);
+
+        Map<Long, Product> products = inventoryStrategyFactory.getInventoryStrategy().decreaseStock(quantities);
+        productCache.evict(quantities.keySet());
+        categoryProductCounter.markStockChanged(quantities.keySet());
+
+        List<OrderItem> orderItems = new ArrayList<>(lines.size());
+
+        for(OrderLine line : lines) {
+            Product product = products.get(line.productId());
+
+            // 주문 상품 추가
+            OrderItem orderItem = OrderItem.builder()
+                    .order(order)
+                    .product(product)
+                    .quantity(line.quantity())
+                    .price(BigDecimal.valueOf(product.getPrice()))
+                    .build();
+
+            orderItems.add(orderItem);
+        }
+
+        return orderItemRepository.saveAll(orderItems);
+    }
+
+    private record OrderLine(Long productId, Integer quantity) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.study.ecommerce.domain.order.strategy.inventory;
+
+import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+import com.study.ecommerce.domain.product.repository.ProductRepository;
+import com.study.ecommerce.global.error.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+    조건부 UPDATE 재고 전략
+    - UPDATE product SET stock_quantity = stock_quantity - ? WHERE id = ? AND stock_quantity >= ?
+    - SELECT ... FOR UPDATE 로 행을 잠근 채 엔티티를 수정하고 flush 하는 과정이 없다
+    - 조회한 상품 엔티티의 재고 값은 갱신 전 값이므로 가격/이름 용도로만 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class AtomicInventoryStrategy implements InventoryStrategy {
+    private final ProductRepository productRepository;
+
+    @Override
+    public Map<Long, Product> decreaseStock(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = findProducts(quantities);
+
+        new TreeMap<>(quantities).forEach((productId, quantity) -> {
+            int updated = productRepository.decreaseStockIfAvailable(productId, quantity, ProductStatus.SOLD_OUT);
+            if(updated == 0) {
+                throw new IllegalArgumentException("재고가 부족합니다.");
+            }
+        });
+
+        return products;
+    }
+
+    @Override
+    public void increaseStock(Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach((productId, quantity) -> {
+            int updated = productRepository.increaseStock(productId, quantity, ProductStatus.SOLD_OUT, ProductStatus.ACTIVE);
+            if(updated == 0) {
+                throw new EntityNotFoundException("상품을 찾을 수 없습니다.");
+            }
+        });
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "atomic";
+    }
+
+    private Map<Long, Product> findProducts(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = new HashMap<>();
+        for(Product product : productRepository.findAllById(quantities.keySet())) {
+            products.put(product.getId(), product);
+        }
+
+        if(products.size() != quantities.size()) {
+            throw new EntityNotFoundException("상품을 찾을 수 없습니다.");
+        }
+
+        return products;
+    }
+}
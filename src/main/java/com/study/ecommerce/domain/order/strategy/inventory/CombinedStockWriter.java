@@ -0,0 +1,182 @@
+package com.study.ecommerce.domain.order.strategy.inventory;
+
+import com.study.ecommerce.global.common.id.Tsid;
+import com.study.ecommerce.global.error.exception.EntityNotFoundException;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+    모아진 재고 차감 요청을 한 트랜잭션, 한 번의 행 락으로 반영
+    - 주문 트랜잭션과 별개로 바로 커밋됨 (차감 커밋이 주문 커밋보다 먼저)
+      -> 승인한 요청마다 같은 트랜잭션에 차감 기록(stock_combine_journal)을 남기고,
+         주문 트랜잭션이 settle 로 그 기록을 지운다 (주문 커밋과 기록 삭제가 함께 커밋)
+      -> 주문이 롤백되면 기록이 남으므로 restore 로 재고를 되돌리고 기록을 지운다
+         되돌리기 전에 서버가 죽어도 기록이 남아 있어서, 시작할 때와 주기적으로 reconcile 이 복구
+    - 전용 커넥션 풀(connections 개)을 사용
+      -> 주문 트랜잭션 커넥션을 잡은 채 기다리는 요청 스레드들과 커넥션을 다투지 않고,
+         합치는 스레드가 늘어나도 차감에 쓰는 커넥션 수는 고정
+ */
+@Slf4j
+@Component
+public class CombinedStockWriter {
+    private static final String SELECT_STOCK_SQL =
+            "SELECT stock_quantity FROM product WHERE id = ? FOR UPDATE";
+
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE product SET " +
+            "status = CASE WHEN stock_quantity - ? = 0 THEN 'SOLD_OUT' ELSE status END, " +
+            "stock_quantity = stock_quantity - ?, version = version + 1 " +
+            "WHERE id = ?";
+
+    private static final String INCREASE_STOCK_SQL =
+            "UPDATE product SET " +
+            "status = CASE WHEN status = 'SOLD_OUT' THEN 'ACTIVE' ELSE status END, " +
+            "stock_quantity = stock_quantity + ?, version = version + 1 " +
+            "WHERE id = ?";
+
+    private static final String INSERT_JOURNAL_SQL =
+            "INSERT INTO stock_combine_journal (id, product_id, quantity, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_JOURNAL_SQL =
+            "SELECT product_id, quantity FROM stock_combine_journal WHERE id = ? FOR UPDATE";
+
+    private static final String DELETE_JOURNAL_SQL =
+            "DELETE FROM stock_combine_journal WHERE id = ?";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate combinerJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    // 주문 트랜잭션에 참여하는 기본 커넥션 풀
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration reconcileAfter;
+
+    public CombinedStockWriter(DataSourceProperties dataSourceProperties,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${ecommerce.inventory.combining.connections:2}") int connections,
+                               @Value("${ecommerce.inventory.combining.reconcile-after:5m}") Duration reconcileAfter) {
+        // 처음 사용할 때 커넥션을 만듦 (combining 전략을 쓰지 않으면 커넥션을 열지 않음)
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("stock-combiner");
+        this.dataSource.setMaximumPoolSize(connections);
+        this.dataSource.setMinimumIdle(0);
+
+        this.combinerJdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.jdbcTemplate = jdbcTemplate;
+        this.reconcileAfter = reconcileAfter;
+    }
+
+    /*
+        요청 순서대로 재고가 남아 있는 만큼 승인하고, 승인한 요청마다 차감 기록을 남김
+        @return 요청별 차감 기록 id (재고 부족으로 거절하면 null)
+     */
+    public Long[] decrease(Long productId, List<Integer> quantities) {
+        return transactionTemplate.execute(status -> {
+            List<Integer> stocks = combinerJdbcTemplate.queryForList(SELECT_STOCK_SQL, Integer.class, productId);
+            if(stocks.isEmpty()) {
+                throw new EntityNotFoundException("상품을 찾을 수 없습니다.");
+            }
+
+            int stock = stocks.get(0);
+            int decreased = 0;
+            Long[] journalIds = new Long[quantities.size()];
+            List<Object[]> journals = new ArrayList<>();
+            LocalDateTime now = LocalDateTime.now();
+
+            for(int i = 0; i < quantities.size(); i++) {
+                int quantity = quantities.get(i);
+
+                if(stock - decreased >= quantity) {
+                    decreased += quantity;
+                    journalIds[i] = Tsid.next();
+                    journals.add(new Object[]{journalIds[i], productId, quantity, now});
+                }
+            }
+
+            if(decreased > 0) {
+                combinerJdbcTemplate.update(DECREASE_STOCK_SQL, decreased, decreased, productId);
+                combinerJdbcTemplate.batchUpdate(INSERT_JOURNAL_SQL, journals);
+            }
+
+            return journalIds;
+        });
+    }
+
+    /*
+        주문 트랜잭션 안에서 차감 기록을 지움 (주문이 커밋되어야 차감이 확정됨)
+        - 기록이 이미 없으면 reconcile 이 먼저 되돌린 것이므로 주문을 실패시킨다
+     */
+    public void settle(Long journalId) {
+        if(jdbcTemplate.update(DELETE_JOURNAL_SQL, journalId) == 0) {
+            throw new IllegalStateException("재고 차감이 이미 취소되었습니다.");
+        }
+    }
+
+    /*
+        주문 트랜잭션이 롤백되어 남은 차감 기록의 재고를 되돌리고 기록을 지움
+        - 기록 행을 잠그고 처리하므로 아직 진행 중인 주문의 settle 과 겹치면 그 주문이 끝날 때까지 기다리고,
+          주문이 커밋되어 기록이 없어졌으면 아무것도 하지 않는다
+     */
+    public void restore(Long journalId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Map<String, Object>> journals = combinerJdbcTemplate.queryForList(SELECT_JOURNAL_SQL, journalId);
+            if(journals.isEmpty()) {
+                return;
+            }
+
+            Map<String, Object> journal = journals.get(0);
+            long productId = ((Number) journal.get("product_id")).longValue();
+            int quantity = ((Number) journal.get("quantity")).intValue();
+
+            combinerJdbcTemplate.update(INCREASE_STOCK_SQL, quantity, productId);
+            combinerJdbcTemplate.update(DELETE_JOURNAL_SQL, journalId);
+        });
+    }
+
+    /*
+        정리되지 않은 차감 기록 복구 (롤백 뒤 되돌리기 전에 서버가 죽었거나 되돌리기에 실패한 경우)
+        - reconcile-after 보다 오래된 기록만 (차감 직후 아직 settle 하지 않은 기록은 건드리지 않도록)
+        - 남은 기록이 없으면 전용 커넥션 풀을 열지 않는다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ecommerce.inventory.combining.reconcile-interval:1m}",
+            fixedDelayString = "${ecommerce.inventory.combining.reconcile-interval:1m}")
+    public void reconcile() {
+        List<Long> journalIds = jdbcTemplate.queryForList(
+                "SELECT id FROM stock_combine_journal WHERE created_at < ?",
+                Long.class, LocalDateTime.now().minus(reconcileAfter));
+
+        for(Long journalId : journalIds) {
+            try {
+                restore(journalId);
+            } catch (RuntimeException e) {
+                log.warn("합쳐서 차감한 재고 복구 실패 - 기록 {} (다음 주기에 다시 시도): {}", journalId, e.getMessage());
+            }
+        }
+
+        if(!journalIds.isEmpty()) {
+            log.info("정리되지 않은 재고 차감 기록 {}건 복구", journalIds.size());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        dataSource.close();
+    }
+}
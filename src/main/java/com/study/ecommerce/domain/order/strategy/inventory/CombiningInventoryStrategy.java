@@ -0,0 +1,131 @@
+package com.study.ecommerce.domain.order.strategy.inventory;
+
+import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.repository.ProductRepository;
+import com.study.ecommerce.global.error.exception.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    경합 상품은 요청을 합쳐서 처리하는 재고 전략
+    - 설정된 상품(ecommerce.inventory.combining.product-ids)이거나
+      같은 상품을 동시에 차감하려는 요청이 기준(contention-threshold) 이상이면 StockCombiner 로 처리
+    - 그 외 상품은 비관적 락 전략으로 처리
+    - 합쳐서 처리한 차감은 CombinedStockWriter 의 전용 커넥션으로 주문과 별개로 먼저 커밋되므로,
+      주문 트랜잭션에서 차감 기록을 지워 확정하고, 롤백되면 끝난 뒤에 기록으로 되돌린다
+      (되돌리기 전까지는 재고가 비어 보일 수 있고, 되돌리지 못한 기록은 CombinedStockWriter.reconcile 이 복구)
+ */
+@Slf4j
+@Component
+public class CombiningInventoryStrategy implements InventoryStrategy {
+    private final PessimisticInventoryStrategy pessimisticInventoryStrategy;
+    private final StockCombiner stockCombiner;
+    private final CombinedStockWriter combinedStockWriter;
+    private final ProductRepository productRepository;
+    private final Set<Long> combinedProductIds;
+    private final int contentionThreshold;
+
+    // 상품별로 지금 차감 중인 요청 수 (경합 감지용)
+    private final Map<Long, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public CombiningInventoryStrategy(PessimisticInventoryStrategy pessimisticInventoryStrategy,
+                                      StockCombiner stockCombiner,
+                                      CombinedStockWriter combinedStockWriter,
+                                      ProductRepository productRepository,
+                                      @Value("${ecommerce.inventory.combining.product-ids:}") Set<Long> combinedProductIds,
+                                      @Value("${ecommerce.inventory.combining.contention-threshold:4}") int contentionThreshold) {
+        this.pessimisticInventoryStrategy = pessimisticInventoryStrategy;
+        this.stockCombiner = stockCombiner;
+        this.combinedStockWriter = combinedStockWriter;
+        this.productRepository = productRepository;
+        this.combinedProductIds = Set.copyOf(combinedProductIds);
+        this.contentionThreshold = contentionThreshold;
+    }
+
+    @Override
+    public Map<Long, Product> decreaseStock(Map<Long, Integer> quantities) {
+        Map<Long, Integer> combined = new TreeMap<>();
+        Map<Long, Integer> direct = new TreeMap<>();
+        Map<Long, AtomicInteger> counters = new HashMap<>();
+
+        quantities.forEach((productId, quantity) -> {
+            AtomicInteger counter = inFlight.computeIfAbsent(productId, id -> new AtomicInteger());
+            counters.put(productId, counter);
+
+            boolean contended = counter.incrementAndGet() >= contentionThreshold;
+            if(contended || combinedProductIds.contains(productId)) {
+                combined.put(productId, quantity);
+            } else {
+                direct.put(productId, quantity);
+            }
+        });
+
+        try {
+            Map<Long, Product> products = new HashMap<>();
+
+            for(Map.Entry<Long, Integer> entry : combined.entrySet()) {
+                Long productId = entry.getKey();
+                Integer quantity = entry.getValue();
+
+                Long journalId = stockCombiner.decrease(productId, quantity);
+                if(journalId == null) {
+                    throw new IllegalArgumentException("재고가 부족합니다.");
+                }
+                restoreOnRollback(journalId);
+                combinedStockWriter.settle(journalId);
+
+                products.put(productId, productRepository.findById(productId)
+                        .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다.")));
+            }
+
+            if(!direct.isEmpty()) {
+                products.putAll(pessimisticInventoryStrategy.decreaseStock(direct));
+            }
+
+            return products;
+        } finally {
+            counters.values().forEach(AtomicInteger::decrementAndGet);
+        }
+    }
+
+    @Override
+    public void increaseStock(Map<Long, Integer> quantities) {
+        pessimisticInventoryStrategy.increaseStock(quantities);
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "combining";
+    }
+
+    private void restoreOnRollback(Long journalId) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if(status != STATUS_COMMITTED) {
+                    log.info("주문 롤백 - 합쳐서 차감한 재고 복구: 기록 {}", journalId);
+                    try {
+                        combinedStockWriter.restore(journalId);
+                    } catch (RuntimeException e) {
+                        // 기록이 남아 있으므로 reconcile 이 다시 복구
+                        log.warn("합쳐서 차감한 재고 복구 실패 - 기록 {}: {}", journalId, e.getMessage());
+                    }
+                }
+            }
+        });
+    }
+}
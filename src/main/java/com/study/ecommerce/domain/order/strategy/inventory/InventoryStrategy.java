@@ -0,0 +1,39 @@
+package com.study.ecommerce.domain.order.strategy.inventory;
+
+import com.study.ecommerce.domain.product.entity.Product;
+
+import java.util.Map;
+
+/*
+    재고 차감/복구 전략 인터페이스
+    - 호출하는 쪽의 트랜잭션 안에서 실행된다
+    - 여러 상품은 항상 상품 id 오름차순으로 처리한다 (교착상태 방지)
+ */
+public interface InventoryStrategy {
+
+    /*
+        재고 차감
+        @param quantities 상품 id 별 차감 수량
+        @return 상품 id 별 상품 (주문 상품 생성에 사용)
+     */
+    Map<Long, Product> decreaseStock(Map<Long, Integer> quantities);
+
+    /*
+        재고 복구 (주문 취소 등)
+        @param quantities 상품 id 별 복구 수량
+     */
+    void increaseStock(Map<Long, Integer> quantities);
+
+    /*
+        전략 이름을 반환
+        @return 전략명 (설정값과 동일)
+     */
+    String getStrategyName();
+
+    /*
+        설정된 전략 이름을 지원하는지 확인
+     */
+    default boolean supports(String strategyName) {
+        return getStrategyName().equalsIgnoreCase(strategyName);
+    }
+}
@@ -0,0 +1,40 @@
+package com.study.ecommerce.domain.order.strategy.inventory;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+    설정(ecommerce.inventory.strategy)에 맞는 재고 전략을 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryStrategyFactory {
+    private final List<InventoryStrategy> inventoryStrategies;
+
+    @Value("${ecommerce.inventory.strategy:pessimistic}")
+    private String strategyName;
+
+    private InventoryStrategy inventoryStrategy;
+
+    @PostConstruct
+    public void init() {
+        inventoryStrategy = inventoryStrategies.stream()
+                .filter(strategy -> strategy.supports(strategyName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "지원하지 않는 재고 전략입니다: " + strategyName
+                ));
+
+        log.info("재고 전략: {}", inventoryStrategy.getStrategyName());
+    }
+
+    public InventoryStrategy getInventoryStrategy() {
+        return inventoryStrategy;
+    }
+}
@@ -0,0 +1,97 @@
+package com.study.ecommerce.domain.order.strategy.inventory;
+
+import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+import com.study.ecommerce.domain.product.repository.ProductRepository;
+import com.study.ecommerce.global.error.ErrorCode;
+import com.study.ecommerce.global.error.exception.BusinessException;
+import com.study.ecommerce.global.error.exception.EntityNotFoundException;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+    버전 기반 낙관적 락 재고 전략
+    - 잠금 없이 조회한 뒤 "WHERE version = ?" 조건부 UPDATE 로 반영
+    - 충돌(갱신 0건)이면 최신 상태로 다시 읽어서 최대 N번 재시도
+    - 예외 대신 갱신 건수로 충돌을 판단하므로 트랜잭션이 rollback-only 로 바뀌지 않는다
+ */
+@Slf4j
+@Component
+public class OptimisticInventoryStrategy implements InventoryStrategy {
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final int maxRetries;
+
+    public OptimisticInventoryStrategy(ProductRepository productRepository,
+                                       EntityManager entityManager,
+                                       @Value("${ecommerce.inventory.optimistic-max-retries:5}") int maxRetries) {
+        this.productRepository = productRepository;
+        this.entityManager = entityManager;
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public Map<Long, Product> decreaseStock(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = new HashMap<>();
+
+        new TreeMap<>(quantities).forEach((productId, quantity) ->
+                products.put(productId, updateStock(productId, -quantity)));
+
+        return products;
+    }
+
+    @Override
+    public void increaseStock(Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach(this::updateStock);
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "optimistic";
+    }
+
+    private Product updateStock(Long productId, int delta) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다."));
+
+        for(int attempt = 1; attempt <= maxRetries; attempt++) {
+            int restStock = product.getStockQuantity() + delta;
+            if(restStock < 0) {
+                throw new IllegalArgumentException("재고가 부족합니다.");
+            }
+
+            int updated = productRepository.updateStockIfVersionMatches(
+                    productId, restStock, nextStatus(product.getStatus(), restStock), product.getVersion());
+
+            // 성공/실패 모두 DB 의 최신 상태(재고, 버전)로 동기화
+            entityManager.refresh(product);
+
+            if(updated == 1) {
+                return product;
+            }
+
+            log.debug("재고 버전 충돌 - 상품 {} ({}/{})", productId, attempt, maxRetries);
+        }
+
+        throw new BusinessException("재고 변경 충돌이 반복되어 처리할 수 없습니다.", ErrorCode.STOCK_CONFLICT);
+    }
+
+    // Product.decreasesStock / increasesStock 과 동일한 상태 전이
+    private ProductStatus nextStatus(ProductStatus status, int restStock) {
+        if(restStock == 0) {
+            return ProductStatus.SOLD_OUT;
+        }
+
+        if(status == ProductStatus.SOLD_OUT) {
+            return ProductStatus.ACTIVE;
+        }
+
+        return status;
+    }
+}
@@ -0,0 +1,58 @@
+package com.study.ecommerce.domain.order.strategy.inventory;
+
+import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.repository.ProductRepository;
+import com.study.ecommerce.global.error.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+    비관적 락 재고 전략
+    - 주문 상품 전체를 id 순서로 한 번에 SELECT ... FOR UPDATE
+    - 재고 검증/차감은 메모리에서 처리하고 더티체킹으로 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class PessimisticInventoryStrategy implements InventoryStrategy {
+    private final ProductRepository productRepository;
+
+    @Override
+    public Map<Long, Product> decreaseStock(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = lockProducts(quantities);
+
+        new TreeMap<>(quantities).forEach((productId, quantity) ->
+                products.get(productId).decreasesStock(quantity));
+
+        return products;
+    }
+
+    @Override
+    public void increaseStock(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = lockProducts(quantities);
+
+        new TreeMap<>(quantities).forEach((productId, quantity) ->
+                products.get(productId).increasesStock(quantity));
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "pessimistic";
+    }
+
+    private Map<Long, Product> lockProducts(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = new HashMap<>();
+        for(Product product : productRepository.findAllByIdInWithPessimisticLock(quantities.keySet())) {
+            products.put(product.getId(), product);
+        }
+
+        if(products.size() != quantities.size()) {
+            throw new EntityNotFoundException("상품을 찾을 수 없습니다.");
+        }
+
+        return products;
+    }
+}
@@ -0,0 +1,116 @@
+package com.study.ecommerce.domain.order.strategy.inventory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    상품별 재고 차감 요청 합치기 (flat combining)
+    - 요청 스레드는 자기 요청을 상품별 대기열에 넣고, 락을 잡은 스레드 하나(combiner)가
+      짧은 시간/개수 범위 안에 모인 요청을 한 번에 DB 에 반영한 뒤 각 요청에 결과를 돌려준다
+    - 락을 잡지 못한 스레드는 자기 결과가 나올 때까지 기다린다
+ */
+@Slf4j
+@Component
+public class StockCombiner {
+    private final CombinedStockWriter combinedStockWriter;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final Map<Long, ProductSlot> slots = new ConcurrentHashMap<>();
+
+    public StockCombiner(CombinedStockWriter combinedStockWriter,
+                         @Value("${ecommerce.inventory.combining.window:2ms}") Duration window,
+                         @Value("${ecommerce.inventory.combining.max-batch-size:64}") int maxBatchSize) {
+        this.combinedStockWriter = combinedStockWriter;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /*
+        재고 차감 요청
+        @return 승인되면 차감 기록 id (주문 트랜잭션에서 CombinedStockWriter.settle 로 확정), 재고 부족이면 null
+     */
+    public Long decrease(Long productId, int quantity) {
+        ProductSlot slot = slots.computeIfAbsent(productId, id -> new ProductSlot());
+        Request request = new Request(quantity);
+        slot.pending.add(request);
+
+        // 내 요청이 처리될 때까지 combiner 역할을 시도
+        while(!request.result.isDone()) {
+            if(slot.lock.tryLock()) {
+                try {
+                    combine(productId, slot);
+                } finally {
+                    slot.lock.unlock();
+                }
+            } else {
+                LockSupport.parkNanos(windowNanos);
+            }
+        }
+
+        try {
+            return request.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재고 차감이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 모인 요청을 한 번에 반영 (락을 잡은 스레드만 호출)
+    private void combine(Long productId, ProductSlot slot) {
+        // 요청이 더 모일 수 있도록 잠깐 대기
+        if(slot.pending.size() < maxBatchSize) {
+            LockSupport.parkNanos(windowNanos);
+        }
+
+        List<Request> batch = new ArrayList<>();
+        Request request;
+        while(batch.size() < maxBatchSize && (request = slot.pending.poll()) != null) {
+            batch.add(request);
+        }
+
+        if(batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            Long[] journalIds = combinedStockWriter.decrease(productId, batch.stream().map(Request::quantity).toList());
+
+            for(int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(journalIds[i]);
+            }
+
+            log.debug("재고 차감 요청 {}건 합쳐서 반영 - 상품 {}", batch.size(), productId);
+        } catch (RuntimeException e) {
+            batch.forEach(failed -> failed.result.completeExceptionally(e));
+        }
+    }
+
+    private static class ProductSlot {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ConcurrentLinkedQueue<Request> pending = new ConcurrentLinkedQueue<>();
+    }
+
+    private record Request(int quantity, CompletableFuture<Long> result) {
+        private Request(int quantity) {
+            this(quantity, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.study.ecommerce.domain.order.templete;
+
+import com.study.ecommerce.domain.member.entity.Member;
+import com.study.ecommerce.domain.member.repository.MemberRepository;
+import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest;
+import com.study.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.study.ecommerce.domain.order.event.OrderPaidEvent;
+import com.study.ecommerce.domain.order.service.OrderTransactionService;
+import com.study.ecommerce.domain.order.validation.OrderValidationChain;
+import com.study.ecommerce.global.error.ErrorCode;
+import com.study.ecommerce.global.error.exception.BusinessException;
+import com.study.ecommerce.global.error.exception.EntityNotFoundException;
+import com.study.ecommerce.infra.payment.service.MockPaymentService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+    비동기 단계별 주문 파이프라인
+    - OrderProcessTemplate 의 각 단계를 별도 스테이지로 실행 (스테이지 = 크기 제한 큐 + 가상 스레드 워커)
+    - 스테이지별 워커 수로 동시에 DB 를 쓰는 작업 수를 제한
+    - 다음 스테이지 큐가 가득 차면 워커가 대기하고 (backpressure), 첫 스테이지 큐가 가득 차면 접수를 거절
+    - 요청 스레드는 접수만 하고 바로 반환 (202 Accepted + 주문 핸들)
+    - 주문 생성 단계에서 주문 + 주문 상품 저장과 재고 확정을 한 트랜잭션으로 처리
+    - 실패하면 보상: 확정 전이면 예약 반환, 결제했으면 결제 취소, 저장된 주문은 compensateOrder (재고 복구 + CANCELED)
+      (보상이 실패하면 작업을 남겨두고 주기적으로 재시도)
+    - 주문 완료 뒤의 후처리 / 이벤트 발행 실패는 주문을 되돌리지 않음
+ */
+@Slf4j
+@Component
+public class OrderPipeline {
+    private final OrderProcessorSelector orderProcessorSelector;
+    private final OrderValidationChain validationChain;
+    private final OrderTransactionService orderTransactionService;
+    private final MemberRepository memberRepository;
+    private final MockPaymentService mockPaymentService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int queueCapacity;
+    private final int workersPerStage;
+    private final Duration retention;
+
+    private final Map<Stage, BlockingQueue<OrderPipelineJob>> queues = new EnumMap<>(Stage.class);
+    private final Map<String, OrderPipelineJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<OrderPipelineJob> failedCompensations = new ConcurrentLinkedQueue<>();
+    private ExecutorService workers;
+
+    public OrderPipeline(OrderProcessorSelector orderProcessorSelector,
+                         OrderValidationChain validationChain,
+                         OrderTransactionService orderTransactionService,
+                         MemberRepository memberRepository,
+                         MockPaymentService mockPaymentService,
+                         TransactionTemplate transactionTemplate,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${ecommerce.order.pipeline.queue-capacity:100}") int queueCapacity,
+                         @Value("${ecommerce.order.pipeline.workers-per-stage:4}") int workersPerStage,
+                         @Value("${ecommerce.order.pipeline.retention:10m}") Duration retention) {
+        this.orderProcessorSelector = orderProcessorSelector;
+        this.validationChain = validationChain;
+        this.orderTransactionService = orderTransactionService;
+        this.memberRepository = memberRepository;
+        this.mockPaymentService = mockPaymentService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.queueCapacity = queueCapacity;
+        this.workersPerStage = workersPerStage;
+        this.retention = retention;
+    }
+
+    @PostConstruct
+    public void start() {
+        workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-pipeline-", 0).factory());
+
+        for(Stage stage : Stage.values()) {
+            queues.put(stage, new ArrayBlockingQueue<>(queueCapacity));
+
+            for(int i = 0; i < workersPerStage; i++) {
+                workers.submit(() -> runStage(stage));
+            }
+        }
+
+        log.info("주문 파이프라인 시작: 스테이지 {}개, 스테이지별 워커 {}개, 큐 크기 {}",
+                Stage.values().length, workersPerStage, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    /*
+        주문 접수
+        @param request 주문 생성 정보
+        @param email 요청한 사용자 (요청의 memberId 가 이 사용자여야 함)
+        @return 주문 핸들이 담긴 작업
+     */
+    public OrderPipelineJob submit(OrderCreateRequest request, String email) {
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+
+        if(!member.getId().equals(request.memberId())) {
+            throw new IllegalArgumentException("주문 권한이 없습니다.");
+        }
+
+        OrderPipelineJob job = new OrderPipelineJob(
+                UUID.randomUUID().toString(), email, request, orderProcessorSelector.select(request));
+
+        jobs.put(job.getHandle(), job);
+
+        if(!queues.get(Stage.VALIDATE).offer(job)) {
+            jobs.remove(job.getHandle());
+            throw new BusinessException("주문 접수 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.", ErrorCode.ORDER_PIPELINE_BUSY);
+        }
+
+        return job;
+    }
+
+    /*
+        주문 처리 상태 조회
+        @param handle 주문 핸들
+        @param email 요청한 사용자 (접수한 사용자만 조회 가능)
+     */
+    public OrderPipelineJob getJob(String handle, String email) {
+        OrderPipelineJob job = jobs.get(handle);
+
+        if(job == null || !job.getRequesterEmail().equals(email)) {
+            throw new BusinessException("주문 처리 내역을 찾을 수 없습니다. handle = " + handle, ErrorCode.ORDER_NOT_FOUND);
+        }
+
+        return job;
+    }
+
+    // 완료/실패 후 보관 기간이 지난 작업 정리
+    @Scheduled(fixedDelayString = "${ecommerce.order.pipeline.cleanup-interval:1m}")
+    public void removeFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+
+    // 보상에 실패한 작업 재시도
+    @Scheduled(fixedDelayString = "${ecommerce.order.pipeline.compensation-retry-interval:30s}")
+    public void retryFailedCompensations() {
+        for(int i = failedCompensations.size(); i > 0; i--) {
+            OrderPipelineJob job = failedCompensations.poll();
+            if(job == null) {
+                return;
+            }
+
+            compensate(job);
+        }
+    }
+
+    private void runStage(Stage stage) {
+        BlockingQueue<OrderPipelineJob> queue = queues.get(stage);
+
+        while(!Thread.currentThread().isInterrupted()) {
+            OrderPipelineJob job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            job.start();
+
+            try {
+                process(stage, job);
+            } catch (Exception e) {
+                handleFailure(stage, job, e);
+                continue;
+            }
+
+            if(stage.next() == null) {
+                job.complete();
+                log.info("비동기 주문 처리 완료: {} - 주문번호: {}", job.getHandle(), job.getOrderId());
+                continue;
+            }
+
+            job.moveTo(stage.next());
+
+            try {
+                // 다음 스테이지가 밀려 있으면 여기서 대기 (backpressure)
+                queues.get(stage.next()).put(job);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                handleFailure(stage, job, e);
+                return;
+            }
+        }
+    }
+
+    // OrderProcessTemplate.processOrder 의 각 단계와 동일
+    private void process(Stage stage, OrderPipelineJob job) {
+        OrderProcessTemplate processor = job.getProcessor();
+        OrderCreateRequest request = job.getRequest();
+
+        switch (stage) {
+            case VALIDATE -> {
+                validationChain.validateOrder(request);
+                processor.validateOrderRequest(request);
+            }
+            case RESERVE -> job.reservation = processor.reserveInventory(request);
+            case CREATE -> {
+                // 주문 저장과 재고 확정을 함께 커밋 (롤백되면 원장이 예약을 되돌림)
+                transactionTemplate.executeWithoutResult(status -> {
+                    job.order = processor.createOrder(request);
+                    processor.confirmInventory(job.reservation);
+                });
+                job.orderSaved = true;
+            }
+            case DISCOUNT -> processor.applyDiscounts(job.order);
+            case SHIPPING -> processor.calculateShipping(job.order);
+            case PAYMENT -> job.payment = processor.processPayment(job.order, request);
+            case FINALIZE -> {
+                job.order = processor.finalizeOrder(job.order, job.payment);
+                postProcess(job);
+            }
+        }
+    }
+
+    // 주문은 이미 완료됐으므로 실패해도 로그만 남긴다
+    private void postProcess(OrderPipelineJob job) {
+        try {
+            job.getProcessor().postProcess(job.order);
+
+            eventPublisher.publishEvent(new OrderCreatedEvent(this, job.order, OrderCreatedEvent.linesOf(job.getRequest())));
+            if(job.payment != null) {
+                eventPublisher.publishEvent(new OrderPaidEvent(this, job.order, job.getRequest().paymentMethod()));
+            }
+        } catch (Exception e) {
+            log.error("비동기 주문 후처리 실패: {} - 주문번호: {} - {}", job.getHandle(), job.getOrderId(), e.getMessage());
+        }
+    }
+
+    private void handleFailure(Stage stage, OrderPipelineJob job, Exception e) {
+        log.error("비동기 주문 처리 실패: {} - {} 단계 - {}", job.getHandle(), stage, e.getMessage());
+
+        compensate(job);
+        job.getProcessor().handleError(job.getRequest(), e);
+        job.fail(e.getMessage());
+    }
+
+    /*
+        실패한 작업이 남긴 재고 예약 / 결제 / 주문을 되돌린다
+        - 단계마다 끝나면 표시를 지우므로 재시도해도 같은 보상을 두 번 하지 않음
+     */
+    private void compensate(OrderPipelineJob job) {
+        try {
+            // 확정 전 예약만 반환 (확정된 예약은 원장에서 이미 빠져 있어 아무것도 하지 않음)
+            if(job.reservation != null) {
+                job.getProcessor().releaseInventory(job.reservation);
+            }
+
+            if(job.payment != null) {
+                mockPaymentService.cancelPayment(job.payment);
+                job.payment = null;
+            }
+
+            // 저장된 주문은 주문 상품만큼 재고 복구 + CANCELED (이미 취소된 주문이면 아무것도 하지 않음)
+            if(job.orderSaved) {
+                orderTransactionService.compensateOrder(job.getOrderId());
+                job.orderSaved = false;
+                log.info("비동기 주문 보상 완료: {} - 주문번호 {} 취소", job.getHandle(), job.getOrderId());
+            }
+        } catch (Exception e) {
+            log.error("비동기 주문 보상 실패 - 재시도 대기: {} - 주문번호 {} - {}", job.getHandle(), job.getOrderId(), e.getMessage());
+            failedCompensations.add(job);
+        }
+    }
+
+    public enum Stage {
+        VALIDATE, RESERVE, CREATE, DISCOUNT, SHIPPING, PAYMENT, FINALIZE;
+
+        Stage next() {
+            int next = ordinal() + 1;
+            return next < values().length ? values()[next] : null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.study.ecommerce.domain.order.templete;
+
+import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest;
+import com.study.ecommerce.domain.order.entity.Order;
+import com.study.ecommerce.domain.payment.entity.Payment;
+import com.study.ecommerce.domain.product.inventory.ReservationToken;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/*
+    비동기 주문 파이프라인의 작업 (주문 핸들 하나)
+    - 각 단계 워커가 순서대로 넘겨받아 처리하므로 한 시점에 하나의 스레드만 수정한다
+ */
+@Getter
+public class OrderPipelineJob {
+    private final String handle;
+    private final String requesterEmail;
+    private final OrderCreateRequest request;
+    private final OrderProcessTemplate processor;
+    private final LocalDateTime acceptedAt = LocalDateTime.now();
+
+    private volatile OrderPipeline.Stage stage = OrderPipeline.Stage.VALIDATE;
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile String message;
+    private volatile LocalDateTime finishedAt;
+
+    // 단계 사이에 전달되는 상태
+    ReservationToken reservation;
+    Order order;
+    Payment payment;
+    boolean orderSaved;
+
+    OrderPipelineJob(String handle, String requesterEmail, OrderCreateRequest request, OrderProcessTemplate processor) {
+        this.handle = handle;
+        this.requesterEmail = requesterEmail;
+        this.request = request;
+        this.processor = processor;
+    }
+
+    public Long getOrderId() {
+        Order current = order;
+        return current != null ? current.getId() : null;
+    }
+
+    void moveTo(OrderPipeline.Stage stage) {
+        this.stage = stage;
+        this.status = JobStatus.QUEUED;
+    }
+
+    void start() {
+        this.status = JobStatus.PROCESSING;
+    }
+
+    void complete() {
+        this.status = JobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    void fail(String message) {
+        this.status = JobStatus.FAILED;
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public enum JobStatus {
+        QUEUED, PROCESSING, COMPLETED, FAILED
+    }
+}
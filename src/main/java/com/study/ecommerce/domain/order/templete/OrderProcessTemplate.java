@@ -2,10 +2,16 @@ package com.study.ecommerce.domain.order.templete;
 
 import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest;
 import com.study.ecommerce.domain.order.entity.Order;
+import com.study.ecommerce.domain.payment.entity.Payment;
+import com.study.ecommerce.domain.payment.entity.Payment.PaymentMethod;
+import com.study.ecommerce.domain.product.inventory.ReservationToken;
 import lombok.extern.slf4j.Slf4j;
 
 /*
     주문 처리 프로세스를 위한 Template Method Pattern 사용
+    - 주문 생성과 재고 확정은 한 트랜잭션에서 (호출하는 쪽이 트랜잭션을 연다)
+      -> 주문이 저장되면 재고도 확정된 것이므로 그 뒤의 실패는
+         동기 처리(OrderPatternService)는 전체 롤백, 비동기 처리(OrderPipeline)는 주문 취소(재고 복구)로 되돌린다
  */
 @Slf4j
 public abstract class OrderProcessTemplate {
@@ -13,15 +19,18 @@ public abstract class OrderProcessTemplate {
     public final Order processOrder(OrderCreateRequest request) {
         log.info("주문 처리 시작: {}", getOrderType());
 
+        ReservationToken reservation = null;
+
         try {
             // 1. 주문 전 검증
             validateOrderRequest(request);
 
             // 2. 재고 확인 및 예약
-            reserveInventory(request);
+            reservation = reserveInventory(request);
 
-            // 3. 주문 생성
+            // 3. 주문 생성 (주문 + 주문 상품 저장) 및 재고 확정
             Order order = createOrder(request);
+            confirmInventory(reservation);
 
             // 4. 할인 적용
             applyDiscounts(order);
@@ -30,10 +39,10 @@ public abstract class OrderProcessTemplate {
             calculateShipping(order);
 
             // 6. 결제 처리
-            processPayment(order);
+            Payment payment = processPayment(order, request);
 
             // 7. 주문 완료 처리
-            finalizeOrder(order);
+            order = finalizeOrder(order, payment);
 
             // 8. 후처리
             postProcess(order);
@@ -42,6 +51,9 @@ public abstract class OrderProcessTemplate {
             return order;
         } catch (Exception e) {
             log.error("주문 처리 실패: {} - {}", "타입", e.getMessage());
+            if(reservation != null) {
+                releaseInventory(reservation);
+            }
             handleError(request, e);
             throw e;
         }
@@ -62,13 +74,26 @@ public abstract class OrderProcessTemplate {
     /*
         재고 확인 및 예약
         @param request 주문 생성 정보
+        @return 재고 예약 토큰
      */
-    protected abstract void reserveInventory(OrderCreateRequest request);
-    
+    protected abstract ReservationToken reserveInventory(OrderCreateRequest request);
+
+    /*
+        주문이 완료되면 예약한 재고를 확정
+        @param reservation 재고 예약 토큰
+     */
+    protected abstract void confirmInventory(ReservationToken reservation);
+
+    /*
+        주문 처리에 실패하면 예약한 재고를 반환
+        @param reservation 재고 예약 토큰
+     */
+    protected abstract void releaseInventory(ReservationToken reservation);
+
     /*
-        주문 생성 
+        주문 생성 - 주문과 주문 상품을 CREATED 로 저장 (가격은 상품 가격으로 계산)
         @param request 주문 생성 정보
-        @return 주문 생성
+        @return 저장한 주문
      */
     protected abstract Order createOrder(OrderCreateRequest request);
     
@@ -85,16 +110,33 @@ public abstract class OrderProcessTemplate {
     protected abstract void calculateShipping(Order order);
 
     /*
-        결제를 처리
+        결제를 처리 (바로 결제하는 주문만)
         @param order 주문 정보
+        @param request 주문 생성 정보 (결제 여부 / 결제 수단)
+        @return 결제 정보 (결제하지 않았으면 null)
      */
-    protected abstract void processPayment(Order order);
+    protected abstract Payment processPayment(Order order, OrderCreateRequest request);
 
     /*
-        주문을 완료 처리
+        주문을 완료 처리 - 할인 / 배송비를 저장하고, 결제했으면 CREATED -> PAID
         @param order 주문정보
+        @param payment 결제 정보 (결제하지 않았으면 null)
+        @return 완료 처리한 주문
+     */
+    protected abstract Order finalizeOrder(Order order, Payment payment);
+
+    /*
+        결제 수단 확인 (재고를 예약하기 전에 검증 단계에서 호출)
+        @param request 주문 생성 정보
+        @return 결제 수단
      */
-    protected abstract void finalizeOrder(Order order);
+    protected static PaymentMethod paymentMethodOf(OrderCreateRequest request) {
+        try {
+            return PaymentMethod.valueOf(request.paymentMethod());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 결제 수단입니다: " + request.paymentMethod());
+        }
+    }
 
     protected void postProcess(Order order) {
         log.info("기본 후처리 완료: {}", order.getId());
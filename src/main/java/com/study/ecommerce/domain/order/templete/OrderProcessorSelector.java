@@ -0,0 +1,27 @@
+package com.study.ecommerce.domain.order.templete;
+
+import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/*
+    회원 등급에 맞는 주문 처리기 선택 (VIP: 프리미엄, 그 외: 일반)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderProcessorSelector {
+    private final RegularOrderProcessor regularOrderProcessor;
+    private final PremiumOrderProcessor premiumOrderProcessor;
+
+    public OrderProcessTemplate select(OrderCreateRequest request) {
+        if(isVipMember(request.memberId())) {
+            return premiumOrderProcessor;
+        }
+
+        return regularOrderProcessor;
+    }
+
+    private boolean isVipMember(Long memberId) {
+        return memberId % 10 == 0;
+    }
+}
@@ -2,16 +2,22 @@ package com.study.ecommerce.domain.order.templete;
 
 import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest;
 import com.study.ecommerce.domain.order.entity.Order;
-import com.study.ecommerce.domain.order.repository.OrderRepository;
+import com.study.ecommerce.domain.order.service.OrderTransactionService;
 import com.study.ecommerce.domain.order.strategy.discount.DiscountStrategy;
 import com.study.ecommerce.domain.order.strategy.shipping.ShippingStrategy;
+import com.study.ecommerce.domain.payment.entity.Payment;
+import com.study.ecommerce.domain.product.inventory.InventoryLedger;
+import com.study.ecommerce.domain.product.inventory.ReservationToken;
+import com.study.ecommerce.infra.payment.service.MockPaymentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /*
     일반 주문 처리기
@@ -23,7 +29,9 @@ public class RegularOrderProcessor extends OrderProcessTemplate {
 
     private final List<DiscountStrategy> discountStrategies;
     private final List<ShippingStrategy> shippingStrategies;
-    private final OrderRepository orderRepository;
+    private final OrderTransactionService orderTransactionService;
+    private final MockPaymentService mockPaymentService;
+    private final InventoryLedger inventoryLedger;
 
     @Override
     protected String getOrderType() {
@@ -44,18 +52,37 @@ public class RegularOrderProcessor extends OrderProcessTemplate {
             }
         });
 
+        if(request.payNow()) {
+            paymentMethodOf(request);
+        }
+
         log.info("일반 주문 요청 검증 완료");
     }
 
     @Override
-    protected void reserveInventory(OrderCreateRequest request) {
+    protected ReservationToken reserveInventory(OrderCreateRequest request) {
         log.info("재고 예약 시작");
 
+        Map<Long, Integer> quantities = new HashMap<>();
         request.items().forEach(item -> {
             log.debug("상품: {} 재고 예약: {}개", item.getProductId(), item.getQuantity());
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
         });
 
+        ReservationToken reservation = inventoryLedger.reserve(quantities);
+
         log.info("재고 예약 완료");
+        return reservation;
+    }
+
+    @Override
+    protected void confirmInventory(ReservationToken reservation) {
+        inventoryLedger.confirm(reservation);
+    }
+
+    @Override
+    protected void releaseInventory(ReservationToken reservation) {
+        inventoryLedger.release(reservation);
     }
 
     @Override
@@ -66,26 +93,16 @@ public class RegularOrderProcessor extends OrderProcessTemplate {
                 .memberId(request.memberId())
                 .status(Order.OrderStatus.CREATED)
                 .orderDate(LocalDateTime.now())
-                .totalAmount(calculateTotalAmount(request))
+                .totalAmount(BigDecimal.ZERO)
                 .build();
 
         order.updateShippingAddress(request.shippingAddress());
         order.updatePhoneNumber(request.phoneNumber());
+        order = orderTransactionService.saveReservedOrder(order, request.items());
         log.info("주문 생성 완료");
         return order;
     }
 
-    private BigDecimal calculateTotalAmount(OrderCreateRequest request) {
-        if(request.items() == null) {
-            return BigDecimal.ZERO;
-        }
-
-        return request.items().stream()
-                .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-    }
-
     @Override
     protected void applyDiscounts(Order order) {
         log.info("할인 적용 시작");
@@ -115,23 +132,26 @@ public class RegularOrderProcessor extends OrderProcessTemplate {
     }
 
     @Override
-    protected void processPayment(Order order) {
+    protected Payment processPayment(Order order, OrderCreateRequest request) {
+        if(!request.payNow()) {
+            return null;
+        }
+
         log.info("결제 처리 시작");
-        BigDecimal totalAmount = order.getTotalAmount()
-                .subtract(order.getDiscountAmount())
-                .add(order.getShippingCost());
+        Payment payment = mockPaymentService.processPayment(order, paymentMethodOf(request));
 
-        log.info("결제 처리 완료: {}원", totalAmount);
+        log.info("결제 처리 완료: {}원", payment.getAmount());
+        return payment;
     }
 
     @Override
-    protected void finalizeOrder(Order order) {
+    protected Order finalizeOrder(Order order, Payment payment) {
         log.info("주문 완료 처리 시작");
-        order.updateStatus(Order.OrderStatus.CONFIRMED);
         // repository 저장
-        orderRepository.save(order);
+        order = orderTransactionService.finalizeReservedOrder(order, payment != null);
         
         log.info("주문 완료 처리 완료");
+        return order;
     }
 
     @Override
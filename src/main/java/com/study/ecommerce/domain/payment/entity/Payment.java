@@ -1,6 +1,7 @@
 package com.study.ecommerce.domain.payment.entity;
 
 import com.study.ecommerce.global.common.BaseTimeEntity;
+import com.study.ecommerce.global.common.id.TsidId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(name = "order_id", nullable = false, unique = true)
@@ -0,0 +1,75 @@
+package com.study.ecommerce.domain.product.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.ecommerce.domain.product.repository.ProductRepository;
+import com.study.ecommerce.global.responsecache.ResponseBodyCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/*
+    상품 조회 캐시 (read-through)
+    - 크기 제한(maximumSize) + 항목별 TTL(expireAfterWrite) -> TTL 이 재고 표시의 최대 지연 시간
+    - 상품 수정/삭제, 재고 변경 시 즉시 제거하고, 트랜잭션이 끝난 뒤 한 번 더 제거
+      (커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우 대비)
+    - 제거할 때 이 상품으로 만든 응답 본문 캐시(상품 상세)도 같이 제거
+    - 적중/미스/제거 건수는 actuator 의 cache.* 메트릭 (cache=product)
+ */
+@Component
+public class ProductCache {
+    private final ProductRepository productRepository;
+    private final ResponseBodyCache responseBodyCache;
+    private final Cache<Long, ProductSnapshot> cache;
+
+    public ProductCache(ProductRepository productRepository,
+                        ResponseBodyCache responseBodyCache,
+                        MeterRegistry meterRegistry,
+                        @Value("${ecommerce.product.cache.ttl:5s}") Duration ttl,
+                        @Value("${ecommerce.product.cache.max-size:10000}") long maxSize) {
+        this.productRepository = productRepository;
+        this.responseBodyCache = responseBodyCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product");
+    }
+
+    // 없는 상품은 캐시하지 않음
+    public Optional<ProductSnapshot> get(Long productId) {
+        return Optional.ofNullable(cache.get(productId, id -> productRepository.findById(id)
+                .map(ProductSnapshot::from)
+                .orElse(null)));
+    }
+
+    public void evict(Long productId) {
+        evict(List.of(productId));
+    }
+
+    public void evict(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        cache.invalidateAll(ids);
+        responseBodyCache.invalidateProducts(ids);
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(ids);
+                    responseBodyCache.invalidateProducts(ids);
+                }
+            });
+        }
+    }
+}
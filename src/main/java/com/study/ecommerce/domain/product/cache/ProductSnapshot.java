@@ -0,0 +1,43 @@
+package com.study.ecommerce.domain.product.cache;
+
+import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+
+/*
+    캐시에 보관하는 상품 값 (엔티티는 영속성 컨텍스트에 묶여 있으므로 불변 값으로 복사)
+ */
+public record ProductSnapshot(
+        Long id,
+        String name,
+        String description,
+        Long price,
+        Integer stockQuantity,
+        ProductStatus status,
+        Long sellerId,
+        Long categoryId,
+        Long version
+) {
+
+    public static ProductSnapshot from(Product product) {
+        return new ProductSnapshot(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getStockQuantity(),
+                product.getStatus(),
+                product.getSellerId(),
+                product.getCategoryId(),
+                product.getVersion()
+        );
+    }
+
+    public boolean isActive() {
+        return status == ProductStatus.ACTIVE;
+    }
+
+    // 상품 수정, 재고 변경(모든 재고 전략과 일괄 수정이 version 을 올림) 때마다 바뀌는 값
+    public String eTag() {
+        return "p" + id + "-" + version;
+    }
+}
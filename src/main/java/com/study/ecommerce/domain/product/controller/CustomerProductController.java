@@ -1,15 +1,30 @@
 package com.study.ecommerce.domain.product.controller;
 
+import com.study.ecommerce.domain.product.dto.req.ProductFacetCondition;
+import com.study.ecommerce.domain.product.dto.resp.BestSellerResponse;
+import com.study.ecommerce.domain.product.dto.resp.ProductFacetResponse;
 import com.study.ecommerce.domain.product.dto.resp.ProductResponse;
+import com.study.ecommerce.domain.product.export.ProductCatalogExporter;
+import com.study.ecommerce.domain.product.export.ProductExportFormat;
+import com.study.ecommerce.domain.product.ranking.RankingWindow;
 import com.study.ecommerce.domain.product.service.CustomerProductService;
+import com.study.ecommerce.global.common.http.ConditionalResponse;
+import com.study.ecommerce.global.common.page.CursorPage;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @RestController
@@ -17,6 +32,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CustomerProductController {
     private final CustomerProductService customerProductService;
+    private final ProductCatalogExporter productCatalogExporter;
 
     /**
      * 카테고리별 상품 조회 (판매중인 상품만)
@@ -36,6 +52,7 @@ public class CustomerProductController {
 
     /**
      * 모든 판매중인 상품 조회 (페이징)
+     * sort=popularity 면 최근 판매량 순 (판매 순위에 없는 상품은 그 뒤에 최신순)
      */
     @GetMapping("/products")
     public ResponseEntity<Page<ProductResponse>> getAllActiveProducts(Pageable pageable) {
@@ -52,16 +69,119 @@ public class CustomerProductController {
         }
     }
 
+    /**
+     * 모든 판매중인 상품 조회 (커서 기반, 깊은 페이지용)
+     * 첫 요청: /products/scroll?size=20&sort=price,desc, 이후: cursor=nextCursor
+     */
+    @GetMapping("/products/scroll")
+    public ResponseEntity<CursorPage<ProductResponse>> scrollActiveProducts(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Sort sort) {
+        try {
+            log.info("전체 상품 커서 조회 요청: cursor={}, size={}, sort={}", cursor, size, sort);
+            CursorPage<ProductResponse> products =
+                    customerProductService.scrollActiveProducts(keyword, categoryId, cursor, size, sort);
+            log.info("전체 상품 커서 조회 성공: {} 개, hasNext={}", products.content().size(), products.hasNext());
+            return ResponseEntity.ok(products);
+        } catch (Exception e) {
+            log.error("전체 상품 커서 조회 실패: cursor={}", cursor, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 판매중인 상품 전체 내보내기 (id 순 스트리밍, 페이지/건수 조회 없음)
+     * 예: /products/export?format=csv&afterId=12345 (Accept-Encoding: gzip 이면 gzip 으로 응답)
+     * 중간에 끊기면 마지막으로 받은 상품 id 를 afterId 로 다시 요청
+     */
+    @GetMapping("/products/export")
+    public void exportProducts(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) Long afterId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        ProductExportFormat exportFormat = ProductExportFormat.from(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        log.info("상품 카탈로그 내보내기 요청: format={}, afterId={}, gzip={}", exportFormat, afterId, gzip);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"products." + exportFormat.getExtension() + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        try {
+            if(gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                try (OutputStream out = new GZIPOutputStream(response.getOutputStream(), 8192)) {
+                    productCatalogExporter.export(exportFormat, afterId, out);
+                }
+            } else {
+                productCatalogExporter.export(exportFormat, afterId, response.getOutputStream());
+            }
+        } catch (IOException e) {
+            // 대부분 클라이언트 연결 종료 (이미 보낸 부분은 afterId 로 이어받기)
+            log.warn("상품 카탈로그 내보내기 중단: afterId={}, {}", afterId, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 패싯 조회 (카테고리 / 가격 구간 / 판매자 / 상태 조합 필터 + 패싯별 건수)
+     * 예: /products/facets?categoryIds=3,4&priceBuckets=1&page=0&size=20
+     */
+    @GetMapping("/products/facets")
+    public ResponseEntity<ProductFacetResponse> getProductFacets(ProductFacetCondition condition, Pageable pageable) {
+        try {
+            log.info("상품 패싯 조회 요청: condition={}", condition);
+            ProductFacetResponse facets = customerProductService.getProductFacets(condition, pageable);
+            log.info("상품 패싯 조회 성공: total={}", facets.total());
+            return ResponseEntity.ok(facets);
+        } catch (Exception e) {
+            log.error("상품 패싯 조회 실패: condition={}", condition, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 판매 순위 (판매중인 상품만)
+     * 예: /products/best-sellers?window=hour&categoryId=3&limit=10 (window: hour | day, 기본 day)
+     */
+    @GetMapping("/products/best-sellers")
+    public ResponseEntity<List<BestSellerResponse>> getBestSellers(
+            @RequestParam(required = false) String window,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            log.info("판매 순위 조회 요청: window={}, categoryId={}, limit={}", window, categoryId, limit);
+            List<BestSellerResponse> bestSellers =
+                    customerProductService.getBestSellers(RankingWindow.from(window), categoryId, limit);
+            log.info("판매 순위 조회 성공: {} 개", bestSellers.size());
+            return ResponseEntity.ok(bestSellers);
+        } catch (Exception e) {
+            log.error("판매 순위 조회 실패: window={}, categoryId={}", window, categoryId, e);
+            throw e;
+        }
+    }
+
     /**
      * 상품 상세 조회 (판매중인 상품만)
+     * ETag 가 If-None-Match 와 같으면 상세 조회 없이 304
      */
     @GetMapping("/products/{id}")
-    public ResponseEntity<ProductResponse> getActiveProduct(@PathVariable Long id) {
+    public ResponseEntity<ProductResponse> getActiveProduct(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             log.info("상품 상세 조회 요청: id={}", id);
-            ProductResponse product = customerProductService.getActiveProduct(id);
-            log.info("상품 상세 조회 성공: productName={}", product.name());
-            return ResponseEntity.ok(product);
+            String eTag = customerProductService.getActiveProductETag(id);
+            return ConditionalResponse.of(ifNoneMatch, eTag, () -> {
+                ProductResponse product = customerProductService.getActiveProduct(id);
+                log.info("상품 상세 조회 성공: productName={}", product.name());
+                return product;
+            });
         } catch (Exception e) {
             log.error("상품 상세 조회 실패: id={}", id, e);
             throw e;
@@ -5,10 +5,14 @@ import com.study.ecommerce.domain.product.dto.req.ProductSearchCondition;
 import com.study.ecommerce.domain.product.dto.req.ProductUpdateRequest;
 import com.study.ecommerce.domain.product.dto.resp.ProductResponse;
 import com.study.ecommerce.domain.product.service.ProductService;
+import com.study.ecommerce.global.common.page.CountType;
+import com.study.ecommerce.global.common.page.CountedPage;
+import com.study.ecommerce.global.common.page.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,9 +25,27 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
     private final ProductService productService;
 
+    // count: exact | capped (기본, 10,000건 이상은 "10,000+") | cached -> 응답 헤더 X-Total-Count-Type
     @GetMapping
-    public ResponseEntity<Page<ProductResponse>> getProducts(ProductSearchCondition condition, Pageable pageable) {
-        Page<ProductResponse> products = productService.getProducts(condition, pageable);
+    public ResponseEntity<Page<ProductResponse>> getProducts(
+            ProductSearchCondition condition,
+            Pageable pageable,
+            @RequestParam(required = false) String count) {
+        CountedPage<ProductResponse> products =
+                productService.getProducts(condition, pageable, CountType.from(count, CountType.CAPPED));
+        return ResponseEntity.ok()
+                .header(CountType.HEADER, products.countType().headerValue())
+                .body(products.page());
+    }
+
+    // 커서 기반 조회: /api/v1/products/scroll?size=20&sort=price,desc -> 다음 요청에 cursor=nextCursor
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<ProductResponse>> scrollProducts(
+            ProductSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Sort sort) {
+        CursorPage<ProductResponse> products = productService.scrollProducts(condition, cursor, size, sort);
         return ResponseEntity.ok(products);
     }
 
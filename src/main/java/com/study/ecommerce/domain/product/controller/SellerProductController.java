@@ -0,0 +1,56 @@
+package com.study.ecommerce.domain.product.controller;
+
+import com.study.ecommerce.domain.product.dto.req.ProductBulkUpdateRequest;
+import com.study.ecommerce.domain.product.dto.resp.ProductBulkUpdateResponse;
+import com.study.ecommerce.domain.product.dto.resp.ProductImportResponse;
+import com.study.ecommerce.domain.product.importer.ProductImportJob;
+import com.study.ecommerce.domain.product.importer.ProductImporter;
+import com.study.ecommerce.domain.product.service.ProductBulkUpdateService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/seller/products")
+@RequiredArgsConstructor
+public class SellerProductController {
+    private final ProductImporter productImporter;
+    private final ProductBulkUpdateService productBulkUpdateService;
+
+    // 가격 / 재고 일괄 수정: 상품별 절대값 또는 변경량, 실패한 상품은 사유와 함께 응답
+    @PatchMapping
+    public ResponseEntity<ProductBulkUpdateResponse> updateProducts(
+            @Valid @RequestBody ProductBulkUpdateRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        ProductBulkUpdateResponse response = productBulkUpdateService.updateProducts(request, userDetails.getUsername());
+        return ResponseEntity.ok(response);
+    }
+
+    // 대량 등록 접수: 본문은 CSV(헤더 포함) 또는 NDJSON, 처리 결과는 상태 조회 API 로 확인
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ProductImportResponse> importProducts(
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        ProductImportJob job = productImporter.submit(
+                request.getInputStream(), request.getContentType(), userDetails.getUsername());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/seller/products/import/" + job.getJobId()))
+                .body(ProductImportResponse.from(job));
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ProductImportResponse> getImportStatus(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        ProductImportJob job = productImporter.getJob(jobId, userDetails.getUsername());
+        return ResponseEntity.ok(ProductImportResponse.from(job));
+    }
+}
@@ -0,0 +1,36 @@
+package com.study.ecommerce.domain.product.dto.req;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.util.List;
+
+/*
+    상품 가격 / 재고 일괄 수정
+    - 가격, 재고는 각각 절대값(price, stockQuantity) 또는 변경량(priceDelta, stockDelta) 중 하나만 지정
+    - 지정하지 않은 항목은 그대로 유지
+ */
+public record ProductBulkUpdateRequest(
+        @NotEmpty(message = "수정할 상품을 입력해 주십시오.")
+        List<@Valid @NotNull Item> items
+) {
+
+    public record Item(
+            @NotNull(message = "상품 id 는 필수입니다.")
+            Long productId,
+
+            @Positive(message = "가격은 양수이어야 합니다.")
+            Long price,
+
+            Long priceDelta,
+
+            @PositiveOrZero(message = "재고수량은 0 이상이어야 합니다.")
+            Integer stockQuantity,
+
+            Integer stockDelta
+    ) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.study.ecommerce.domain.product.dto.req;
+
+import com.study.ecommerce.global.error.ErrorCode;
+import com.study.ecommerce.global.error.exception.BusinessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+/*
+    상품 목록 커서 (정렬 기준 + 마지막으로 본 상품의 정렬 값 + id)
+    - 정렬 기준: price, createdAt, id (같은 값이면 id 로 순서 결정)
+    - 클라이언트에는 "정렬|방향|값|id" 를 Base64(URL-safe) 로 감싼 문자열로 전달
+    - 첫 페이지는 value, id 가 null
+ */
+public record ProductCursor(
+        String sort,
+        boolean ascending,
+        String value,
+        Long id
+) {
+    private static final Set<String> SORT_PROPERTIES = Set.of("price", "createdAt", "id");
+    private static final String SEPARATOR = "|";
+
+    // 첫 페이지 커서 (정렬 조건이 없거나 지원하지 않는 기준이면 id 내림차순)
+    public static ProductCursor first(Sort sort) {
+        for(Sort.Order order : sort) {
+            if(SORT_PROPERTIES.contains(order.getProperty())) {
+                return new ProductCursor(order.getProperty(), order.isAscending(), null, null);
+            }
+        }
+
+        return new ProductCursor("id", false, null, null);
+    }
+
+    // 전달된 커서가 있으면 커서의 정렬 기준을 그대로 사용
+    public static ProductCursor of(String cursor, Sort sort) {
+        return StringUtils.hasText(cursor) ? decode(cursor) : first(sort);
+    }
+
+    public static ProductCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+
+            if(parts.length != 4 || !SORT_PROPERTIES.contains(parts[0])) {
+                throw new BusinessException("잘못된 커서입니다.", ErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            ProductCursor productCursor = new ProductCursor(parts[0], "asc".equals(parts[1]), parts[2], Long.valueOf(parts[3]));
+            productCursor.priceValue();
+            productCursor.createdAtValue();
+            return productCursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("잘못된 커서입니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sort, ascending ? "asc" : "desc", value, String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 마지막으로 조회한 상품 기준으로 다음 커서 생성
+    public ProductCursor next(Long lastId, Long lastPrice, LocalDateTime lastCreatedAt) {
+        String lastValue = switch (sort) {
+            case "price" -> String.valueOf(lastPrice);
+            case "createdAt" -> String.valueOf(lastCreatedAt);
+            default -> String.valueOf(lastId);
+        };
+
+        return new ProductCursor(sort, ascending, lastValue, lastId);
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    public Long priceValue() {
+        return "price".equals(sort) && value != null ? Long.valueOf(value) : null;
+    }
+
+    public LocalDateTime createdAtValue() {
+        return "createdAt".equals(sort) && value != null ? LocalDateTime.parse(value) : null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.study.ecommerce.domain.product.dto.req;
+
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+
+import java.util.List;
+
+/*
+    패싯 필터 조건 (같은 패싯 안에서는 OR, 패싯끼리는 AND)
+    - 예: ?categoryIds=3,4&priceBuckets=1&sellerIds=2&statuses=ACTIVE
+    - statuses 가 없으면 판매중(ACTIVE) 상품만, 쇼핑몰 조회는 ACTIVE / SOLD_OUT 만 허용
+ */
+public record ProductFacetCondition(
+        List<Long> categoryIds,
+        List<Integer> priceBuckets,
+        List<Long> sellerIds,
+        List<ProductStatus> statuses
+) {
+}
@@ -7,4 +7,10 @@ public record ProductSearchCondition(
         Long maxPrice,
         Long sellerId
 ) {
+
+    // 같은 검색을 같은 키로 취급하기 위한 정규화 (키워드 공백 제거 + 소문자, 빈 키워드는 null)
+    public ProductSearchCondition normalize() {
+        String normalizedKeyword = keyword == null || keyword.isBlank() ? null : keyword.trim().toLowerCase();
+        return new ProductSearchCondition(normalizedKeyword, categoryId, minPrice, maxPrice, sellerId);
+    }
 }
@@ -0,0 +1,12 @@
+package com.study.ecommerce.domain.product.dto.resp;
+
+// 판매 순위 항목 (orderedQuantity 는 집계 구간 안의 주문 수량 추정값)
+public record BestSellerResponse(
+        int rank,
+        Long productId,
+        String name,
+        Long price,
+        String categoryName,
+        long orderedQuantity
+) {
+}
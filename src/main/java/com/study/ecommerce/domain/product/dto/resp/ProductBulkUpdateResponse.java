@@ -0,0 +1,13 @@
+package com.study.ecommerce.domain.product.dto.resp;
+
+import java.util.List;
+
+public record ProductBulkUpdateResponse(
+        int requested,
+        int updated,
+        List<Failure> failures
+) {
+
+    public record Failure(Long productId, String reason) {
+    }
+}
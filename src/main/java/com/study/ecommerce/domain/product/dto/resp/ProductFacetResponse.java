@@ -0,0 +1,35 @@
+package com.study.ecommerce.domain.product.dto.resp;
+
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+
+import java.util.List;
+
+/*
+    패싯 조회 결과
+    - total: 모든 필터를 적용한 상품 수, content: 그 중 요청한 페이지 (최신 등록순)
+    - 패싯별 건수는 해당 패싯을 제외한 나머지 필터를 적용한 건수 (선택을 바꿨을 때의 결과 수)
+ */
+public record ProductFacetResponse(
+        long total,
+        List<ProductResponse> content,
+        List<FacetCount<Long>> categories,
+        List<PriceBucketCount> priceBuckets,
+        List<FacetCount<Long>> sellers,
+        List<FacetCount<ProductStatus>> statuses
+) {
+
+    public record FacetCount<T>(
+            T value,
+            long count
+    ) {
+    }
+
+    // minPrice 이상 maxPrice 미만 (maxPrice 가 null 이면 상한 없음)
+    public record PriceBucketCount(
+            int bucket,
+            Long minPrice,
+            Long maxPrice,
+            long count
+    ) {
+    }
+}
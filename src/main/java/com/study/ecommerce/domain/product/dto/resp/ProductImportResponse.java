@@ -0,0 +1,40 @@
+package com.study.ecommerce.domain.product.dto.resp;
+
+import com.study.ecommerce.domain.product.importer.ProductImportFormat;
+import com.study.ecommerce.domain.product.importer.ProductImportJob;
+import com.study.ecommerce.domain.product.importer.ProductImportJob.JobStatus;
+import com.study.ecommerce.domain.product.importer.ProductImportJob.RowError;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ProductImportResponse(
+        String jobId,
+        ProductImportFormat format,
+        JobStatus status,
+        long processed,
+        long imported,
+        long failed,
+        String message,
+        LocalDateTime acceptedAt,
+        LocalDateTime finishedAt,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+
+    public static ProductImportResponse from(ProductImportJob job) {
+        return new ProductImportResponse(
+                job.getJobId(),
+                job.getFormat(),
+                job.getStatus(),
+                job.getProcessed(),
+                job.getImported(),
+                job.getFailed(),
+                job.getMessage(),
+                job.getAcceptedAt(),
+                job.getFinishedAt(),
+                job.getErrors(),
+                job.isErrorsTruncated()
+        );
+    }
+}
@@ -13,4 +13,16 @@ public record ProductResponse(
         String categoryName
 ) {
 
+    // 목록 응답 (목록 조회는 description 을 읽지 않음)
+    public static ProductResponse from(ProductSummaryDto summary) {
+        return new ProductResponse(
+                summary.id(),
+                summary.name(),
+                null,
+                summary.price(),
+                summary.stockQuantity(),
+                summary.status(),
+                summary.categoryName()
+        );
+    }
 }
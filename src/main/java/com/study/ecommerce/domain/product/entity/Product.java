@@ -37,6 +37,10 @@ public class Product extends BaseTimeEntity {
     @Column(name = "category_id")
     private Long categoryId;
 
+    // 낙관적 락을 위한 버전
+    @Version
+    private Long version;
+
     @Builder
     public Product(String name, String description,
                    Long price, Integer stockQuantity,
@@ -0,0 +1,47 @@
+package com.study.ecommerce.domain.product.event;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ *  상품 등록 / 수정 / 삭제 이벤트
+ *  - categoryIds: 영향을 받는 카테고리 (카테고리를 옮긴 경우 이전 카테고리 포함)
+ */
+@Getter
+@ToString
+public class ProductChangedEvent extends ApplicationEvent {
+    private final Long productId;
+    private final Set<Long> categoryIds;
+    private final String eventType;
+
+    public ProductChangedEvent(Object source, Long productId, Long previousCategoryId, Long categoryId, String eventType) {
+        super(source);
+        this.productId = productId;
+        this.eventType = eventType;
+
+        Set<Long> ids = new HashSet<>();
+        if(previousCategoryId != null) {
+            ids.add(previousCategoryId);
+        }
+        if(categoryId != null) {
+            ids.add(categoryId);
+        }
+        this.categoryIds = Set.copyOf(ids);
+    }
+
+    public static ProductChangedEvent created(Object source, Long productId, Long categoryId) {
+        return new ProductChangedEvent(source, productId, null, categoryId, "PRODUCT_CREATED");
+    }
+
+    public static ProductChangedEvent updated(Object source, Long productId, Long previousCategoryId, Long categoryId) {
+        return new ProductChangedEvent(source, productId, previousCategoryId, categoryId, "PRODUCT_UPDATED");
+    }
+
+    public static ProductChangedEvent deleted(Object source, Long productId, Long categoryId) {
+        return new ProductChangedEvent(source, productId, null, categoryId, "PRODUCT_DELETED");
+    }
+}
@@ -0,0 +1,26 @@
+package com.study.ecommerce.domain.product.event;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
+/**
+ *  상품 대량 등록 완료 이벤트 (상품마다 ProductChangedEvent 를 발행하지 않음)
+ *  - categoryIds: 상품이 등록된 카테고리
+ */
+@Getter
+@ToString
+public class ProductsImportedEvent extends ApplicationEvent {
+    private final Long sellerId;
+    private final Set<Long> categoryIds;
+    private final long count;
+
+    public ProductsImportedEvent(Object source, Long sellerId, Set<Long> categoryIds, long count) {
+        super(source);
+        this.sellerId = sellerId;
+        this.categoryIds = Set.copyOf(categoryIds);
+        this.count = count;
+    }
+}
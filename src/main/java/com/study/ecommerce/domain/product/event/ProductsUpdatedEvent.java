@@ -0,0 +1,25 @@
+package com.study.ecommerce.domain.product.event;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
+/**
+ *  상품 일괄 수정 이벤트 (청크마다 한 번 발행)
+ *  - productIds: 수정된 상품
+ *  - categoryIds: 수정된 상품의 카테고리
+ */
+@Getter
+@ToString
+public class ProductsUpdatedEvent extends ApplicationEvent {
+    private final Set<Long> productIds;
+    private final Set<Long> categoryIds;
+
+    public ProductsUpdatedEvent(Object source, Set<Long> productIds, Set<Long> categoryIds) {
+        super(source);
+        this.productIds = Set.copyOf(productIds);
+        this.categoryIds = Set.copyOf(categoryIds);
+    }
+}
@@ -0,0 +1,154 @@
+package com.study.ecommerce.domain.product.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.study.ecommerce.domain.product.dto.resp.ProductSummaryDto;
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/*
+    판매중인 상품 카탈로그 내보내기 (NDJSON / CSV)
+    - 페이지 조회(offset + count) 대신 id 순 단일 쿼리를 전진 전용 커서로 읽어 바로 출력 스트림에 씀
+    - fetch-size 만큼씩 DB 에서 가져오므로 카탈로그 크기와 관계없이 메모리 사용량이 일정
+      (PostgreSQL 은 트랜잭션 안에서만 커서를 사용, MySQL 은 useCursorFetch=true 필요)
+    - afterId 보다 큰 id 부터 내보냄 -> 중간에 끊기면 마지막으로 받은 id 로 이어받기
+ */
+@Slf4j
+@Component
+public class ProductCatalogExporter {
+    private static final String SELECT_SQL =
+            "SELECT p.id, p.name, p.price, p.stock_quantity, c.name AS category_name, p.status " +
+            "FROM product p LEFT JOIN category c ON c.id = p.category_id " +
+            "WHERE p.status = 'ACTIVE' AND p.id > ? ORDER BY p.id";
+    private static final String CSV_HEADER = "id,name,price,stockQuantity,categoryName,status";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public ProductCatalogExporter(DataSource dataSource,
+                                  ObjectMapper objectMapper,
+                                  @Value("${ecommerce.product.export.fetch-size:1000}") int fetchSize) {
+        // 내보내기 전용 (공용 JdbcTemplate 의 fetch size 는 바꾸지 않음)
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+        // 행마다 flush 하면 응답이 행 단위 조각으로 나가므로 끝에서 한 번만
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /*
+        카탈로그를 출력 스트림에 씀
+        @param format NDJSON 또는 CSV
+        @param afterId 이 id 다음부터 (처음부터면 null)
+        @param out 응답 출력 스트림 (닫지 않음)
+        @return 내보낸 상품 수
+     */
+    @Transactional(readOnly = true)
+    public long export(ProductExportFormat format, Long afterId, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count;
+
+        try (Stream<ProductSummaryDto> products = jdbcTemplate.queryForStream(SELECT_SQL, (rs, rowNum) -> new ProductSummaryDto(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getLong("price"),
+                rs.getInt("stock_quantity"),
+                rs.getString("category_name"),
+                ProductStatus.valueOf(rs.getString("status"))
+        ), afterId != null ? afterId : 0L)) {
+            count = switch (format) {
+                case NDJSON -> writeNdjson(products.iterator(), writer);
+                case CSV -> writeCsv(products.iterator(), writer);
+            };
+        }
+
+        writer.flush();
+        log.info("상품 카탈로그 내보내기: {} - afterId={}, {}건 (소요시간: {} ms)",
+                format, afterId, count, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    // 한 줄에 상품 하나, 마지막 줄도 줄바꿈으로 끝남
+    private long writeNdjson(Iterator<ProductSummaryDto> products, Writer writer) throws IOException {
+        long count = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            while(products.hasNext()) {
+                rowWriter.writeValue(generator, products.next());
+                count++;
+            }
+            if(count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<ProductSummaryDto> products, Writer writer) throws IOException {
+        long count = 0;
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        while(products.hasNext()) {
+            ProductSummaryDto product = products.next();
+            writer.write(String.valueOf(product.id()));
+            writer.write(',');
+            writeCsvField(writer, product.name());
+            writer.write(',');
+            writer.write(String.valueOf(product.price()));
+            writer.write(',');
+            writer.write(String.valueOf(product.stockQuantity()));
+            writer.write(',');
+            writeCsvField(writer, product.categoryName());
+            writer.write(',');
+            writer.write(product.status().name());
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 "" 로
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if(value == null) {
+            return;
+        }
+
+        boolean quote = false;
+        for(int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+
+        if(!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
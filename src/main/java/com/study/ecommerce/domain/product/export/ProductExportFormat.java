@@ -0,0 +1,32 @@
+package com.study.ecommerce.domain.product.export;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+// 카탈로그 내보내기 형식 (format 파라미터, 기본 ndjson)
+@Getter
+public enum ProductExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ProductExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static ProductExportFormat from(String format) {
+        if(format == null || format.isBlank()) {
+            return NDJSON;
+        }
+
+        try {
+            return valueOf(format.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package com.study.ecommerce.domain.product.facet;
+
+import com.study.ecommerce.domain.product.dto.req.ProductFacetCondition;
+import com.study.ecommerce.domain.product.dto.resp.ProductFacetResponse.FacetCount;
+import com.study.ecommerce.domain.product.dto.resp.ProductFacetResponse.PriceBucketCount;
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+import com.study.ecommerce.domain.product.event.ProductChangedEvent;
+import com.study.ecommerce.domain.product.event.ProductsImportedEvent;
+import com.study.ecommerce.domain.product.event.ProductsUpdatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    상품 패싯 색인 (메모리, 압축 비트맵)
+    - 상품마다 0부터 증가하는 번호(ordinal)를 붙이고, 카테고리 / 가격 구간 / 판매자 / 상태 값마다
+      해당 상품 번호를 담은 RoaringBitmap 을 유지
+    - 필터 = 패싯 안에서는 OR, 패싯끼리는 AND (비트맵 연산)
+    - 패싯별 건수 = 그 패싯을 뺀 나머지 필터와의 교집합 크기 (andCardinality, 중간 결과 생성 없음)
+    - 상품 등록/수정/삭제(일괄 수정 포함) 이벤트로 해당 상품만 갱신, 재고 소진에 따른 상태 변경은 주기적 재구축으로 반영
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex {
+    private static final String SELECT_SQL = "SELECT id, category_id, seller_id, price, status FROM product";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long[] priceBounds;
+    private final int facetLimit;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FacetData data;
+    private volatile boolean ready;
+
+    // 재구축 중에 변경된 상품 id (재구축 결과를 반영한 뒤 다시 반영)
+    private boolean rebuilding;
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+
+    public ProductFacetIndex(JdbcTemplate jdbcTemplate,
+                             @Value("${ecommerce.product.facet.enabled:false}") boolean enabled,
+                             @Value("${ecommerce.product.facet.price-bounds:10000,30000,50000,100000,200000}") long[] priceBounds,
+                             @Value("${ecommerce.product.facet.limit:50}") int facetLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.priceBounds = priceBounds.clone();
+        this.facetLimit = facetLimit;
+        this.data = new FacetData(this.priceBounds.length + 1);
+    }
+
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    public Optional<ProductFacetResult> query(ProductFacetCondition condition, long offset, int size) {
+        if(!isAvailable()) {
+            return Optional.empty();
+        }
+
+        List<ProductStatus> statuses = condition.statuses() == null || condition.statuses().isEmpty()
+                ? List.of(ProductStatus.ACTIVE)
+                : condition.statuses();
+
+        lock.readLock().lock();
+        try {
+            // null = 필터 없음
+            RoaringBitmap categoryFilter = union(data.categories, condition.categoryIds());
+            RoaringBitmap priceFilter = union(data.priceBuckets, condition.priceBuckets());
+            RoaringBitmap sellerFilter = union(data.sellers, condition.sellerIds());
+            RoaringBitmap statusFilter = union(data.statuses, statuses);
+
+            RoaringBitmap matched = intersect(categoryFilter, priceFilter, sellerFilter, statusFilter);
+
+            return Optional.of(new ProductFacetResult(
+                    matched.getLongCardinality(),
+                    newestIds(matched, offset, size),
+                    topCounts(data.categories, intersect(priceFilter, sellerFilter, statusFilter)),
+                    priceBucketCounts(intersect(categoryFilter, sellerFilter, statusFilter)),
+                    topCounts(data.sellers, intersect(categoryFilter, priceFilter, statusFilter)),
+                    topCounts(data.statuses, intersect(categoryFilter, priceFilter, sellerFilter))));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+        전체 재구축 - 새 색인을 락 없이 만든 뒤 교체 (그동안 조회는 이전 색인 사용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ecommerce.product.facet.rebuild-interval:10m}",
+            fixedDelayString = "${ecommerce.product.facet.rebuild-interval:10m}")
+    public synchronized void rebuild() {
+        if(!enabled) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        FacetData rebuilt = new FacetData(priceBounds.length + 1);
+        try {
+            jdbcTemplate.query(SELECT_SQL + " ORDER BY id", rs -> {
+                rebuilt.put(toFacetValues(rs));
+            });
+            rebuilt.runOptimize();
+        } catch (RuntimeException e) {
+            log.error("상품 패싯 색인 재구축 실패: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            data = rebuilt;
+            for(Long productId : changedDuringRebuild) {
+                applyLocked(productId, load(productId));
+            }
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("상품 패싯 색인 재구축: 상품 {}건 (소요시간: {} ms)",
+                rebuilt.ordinals.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // 대량 등록은 상품마다 반영하지 않고 전체 재구축
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductsImported(ProductsImportedEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductChanged(ProductChangedEvent event) {
+        if(!enabled) {
+            return;
+        }
+
+        Long productId = event.getProductId();
+        Optional<FacetValues> values = load(productId);
+
+        lock.writeLock().lock();
+        try {
+            applyLocked(productId, values);
+            if(rebuilding) {
+                changedDuringRebuild.add(productId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 일괄 수정: 청크의 상품을 한 번의 조회로 읽어 한 번의 쓰기 락 안에서 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductsUpdated(ProductsUpdatedEvent event) {
+        if(!enabled || event.getProductIds().isEmpty()) {
+            return;
+        }
+
+        Map<Long, FacetValues> values = new HashMap<>();
+        for(FacetValues value : loadAll(event.getProductIds())) {
+            values.put(value.productId(), value);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for(Long productId : event.getProductIds()) {
+                applyLocked(productId, Optional.ofNullable(values.get(productId)));
+            }
+            if(rebuilding) {
+                changedDuringRebuild.addAll(event.getProductIds());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocked(Long productId, Optional<FacetValues> values) {
+        if(values.isPresent()) {
+            data.put(values.get());
+        } else {
+            data.remove(productId);
+        }
+    }
+
+    private Optional<FacetValues> load(Long productId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id = ?", (rs, rowNum) -> toFacetValues(rs), productId)
+                .stream()
+                .findFirst();
+    }
+
+    private List<FacetValues> loadAll(Collection<Long> productIds) {
+        String placeholders = String.join(", ", Collections.nCopies(productIds.size(), "?"));
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id IN (" + placeholders + ")",
+                (rs, rowNum) -> toFacetValues(rs), productIds.toArray());
+    }
+
+    private FacetValues toFacetValues(ResultSet rs) throws SQLException {
+        return new FacetValues(
+                rs.getLong("id"),
+                rs.getObject("category_id", Long.class),
+                rs.getObject("seller_id", Long.class),
+                priceBucket(rs.getLong("price")),
+                ProductStatus.valueOf(rs.getString("status")));
+    }
+
+    // 가격 구간: 경계값보다 작은 첫 구간 (마지막 구간은 상한 없음)
+    private int priceBucket(long price) {
+        int bucket = 0;
+        while(bucket < priceBounds.length && price >= priceBounds[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private List<Long> newestIds(RoaringBitmap matched, long offset, int size) {
+        List<Long> ids = new ArrayList<>(size);
+        IntIterator iterator = matched.getReverseIntIterator();
+
+        long skipped = 0;
+        while(iterator.hasNext() && ids.size() < size) {
+            int ordinal = iterator.next();
+            if(skipped++ < offset) {
+                continue;
+            }
+            ids.add(data.productIds.get(ordinal));
+        }
+
+        return ids;
+    }
+
+    private <K> List<FacetCount<K>> topCounts(Map<K, RoaringBitmap> bitmaps, RoaringBitmap base) {
+        List<FacetCount<K>> counts = new ArrayList<>();
+
+        bitmaps.forEach((value, bitmap) -> {
+            long count = base == null ? bitmap.getLongCardinality() : RoaringBitmap.andCardinality(bitmap, base);
+            if(count > 0) {
+                counts.add(new FacetCount<>(value, count));
+            }
+        });
+
+        counts.sort(Comparator.comparingLong(FacetCount<K>::count).reversed());
+        return counts.size() > facetLimit ? List.copyOf(counts.subList(0, facetLimit)) : counts;
+    }
+
+    private List<PriceBucketCount> priceBucketCounts(RoaringBitmap base) {
+        List<PriceBucketCount> counts = new ArrayList<>(priceBounds.length + 1);
+
+        for(int bucket = 0; bucket <= priceBounds.length; bucket++) {
+            RoaringBitmap bitmap = data.priceBuckets.get(bucket);
+            long count = base == null ? bitmap.getLongCardinality() : RoaringBitmap.andCardinality(bitmap, base);
+
+            counts.add(new PriceBucketCount(
+                    bucket,
+                    bucket == 0 ? 0L : priceBounds[bucket - 1],
+                    bucket < priceBounds.length ? priceBounds[bucket] : null,
+                    count));
+        }
+
+        return counts;
+    }
+
+    // 선택한 값들의 비트맵 합집합 (선택이 없으면 null = 필터 없음)
+    private static <K> RoaringBitmap union(Map<K, RoaringBitmap> bitmaps, List<K> selected) {
+        if(selected == null || selected.isEmpty()) {
+            return null;
+        }
+
+        RoaringBitmap result = new RoaringBitmap();
+        for(K value : selected) {
+            RoaringBitmap bitmap = bitmaps.get(value);
+            if(bitmap != null) {
+                result.or(bitmap);
+            }
+        }
+        return result;
+    }
+
+    // null(필터 없음)은 건너뛰고 교집합, 모두 null 이면 null
+    private static RoaringBitmap intersect(RoaringBitmap... filters) {
+        RoaringBitmap result = null;
+
+        for(RoaringBitmap filter : filters) {
+            if(filter == null) {
+                continue;
+            }
+            result = result == null ? filter.clone() : RoaringBitmap.and(result, filter);
+        }
+        return result;
+    }
+
+    private record FacetValues(
+            long productId,
+            Long categoryId,
+            Long sellerId,
+            int priceBucket,
+            ProductStatus status
+    ) {
+    }
+
+    // 상품 번호 + 패싯 값별 비트맵
+    private static final class FacetData {
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final List<Long> productIds = new ArrayList<>();
+        private final List<FacetValues> values = new ArrayList<>();
+
+        private final Map<Long, RoaringBitmap> categories = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> priceBuckets = new HashMap<>();
+        private final Map<Long, RoaringBitmap> sellers = new HashMap<>();
+        private final Map<ProductStatus, RoaringBitmap> statuses = new EnumMap<>(ProductStatus.class);
+
+        FacetData(int bucketCount) {
+            for(int bucket = 0; bucket < bucketCount; bucket++) {
+                priceBuckets.put(bucket, new RoaringBitmap());
+            }
+            for(ProductStatus status : ProductStatus.values()) {
+                statuses.put(status, new RoaringBitmap());
+            }
+        }
+
+        void put(FacetValues facetValues) {
+            Integer ordinal = ordinals.get(facetValues.productId());
+
+            if(ordinal == null) {
+                ordinal = productIds.size();
+                ordinals.put(facetValues.productId(), ordinal);
+                productIds.add(facetValues.productId());
+                values.add(null);
+            } else {
+                clear(ordinal);
+            }
+
+            values.set(ordinal, facetValues);
+            if(facetValues.categoryId() != null) {
+                categories.computeIfAbsent(facetValues.categoryId(), key -> new RoaringBitmap()).add(ordinal);
+            }
+            if(facetValues.sellerId() != null) {
+                sellers.computeIfAbsent(facetValues.sellerId(), key -> new RoaringBitmap()).add(ordinal);
+            }
+            priceBuckets.get(facetValues.priceBucket()).add(ordinal);
+            statuses.get(facetValues.status()).add(ordinal);
+        }
+
+        void remove(long productId) {
+            Integer ordinal = ordinals.get(productId);
+            if(ordinal != null) {
+                clear(ordinal);
+                values.set(ordinal, null);
+            }
+        }
+
+        private void clear(int ordinal) {
+            FacetValues previous = values.get(ordinal);
+            if(previous == null) {
+                return;
+            }
+
+            if(previous.categoryId() != null) {
+                categories.get(previous.categoryId()).remove(ordinal);
+            }
+            if(previous.sellerId() != null) {
+                sellers.get(previous.sellerId()).remove(ordinal);
+            }
+            priceBuckets.get(previous.priceBucket()).remove(ordinal);
+            statuses.get(previous.status()).remove(ordinal);
+        }
+
+        // 연속 구간은 run 컨테이너로 압축
+        void runOptimize() {
+            categories.values().forEach(RoaringBitmap::runOptimize);
+            priceBuckets.values().forEach(RoaringBitmap::runOptimize);
+            sellers.values().forEach(RoaringBitmap::runOptimize);
+            statuses.values().forEach(RoaringBitmap::runOptimize);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.study.ecommerce.domain.product.facet;
+
+import com.study.ecommerce.domain.product.dto.resp.ProductFacetResponse.FacetCount;
+import com.study.ecommerce.domain.product.dto.resp.ProductFacetResponse.PriceBucketCount;
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+
+import java.util.List;
+
+/*
+    패싯 색인 조회 결과 - 요청한 페이지의 상품 id + 패싯별 건수
+ */
+public record ProductFacetResult(
+        long total,
+        List<Long> ids,
+        List<FacetCount<Long>> categories,
+        List<PriceBucketCount> priceBuckets,
+        List<FacetCount<Long>> sellers,
+        List<FacetCount<ProductStatus>> statuses
+) {
+}
@@ -0,0 +1,143 @@
+package com.study.ecommerce.domain.product.importer;
+
+import com.study.ecommerce.domain.product.dto.req.ProductCreateRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+    CSV: 첫 줄 헤더로 컬럼 위치를 정함 (대소문자, '_' 무시 -> stock_quantity 도 허용)
+    - 따옴표로 감싼 필드 안의 쉼표, "" (따옴표 이스케이프) 지원
+    - 한 행은 한 줄 (필드 안의 줄바꿈은 지원하지 않음)
+ */
+class CsvProductImportReader implements ProductImportReader {
+    private static final String[] COLUMNS = {"name", "description", "price", "stockquantity", "categoryid"};
+    private static final int NAME = 0, DESCRIPTION = 1, PRICE = 2, STOCK_QUANTITY = 3, CATEGORY_ID = 4;
+
+    private final BufferedReader reader;
+    private final int[] positions = new int[COLUMNS.length];
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private long lineNumber;
+
+    CsvProductImportReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        readHeader();
+    }
+
+    @Override
+    public ProductImportRecord next() throws IOException {
+        String line;
+        while((line = reader.readLine()) != null) {
+            lineNumber++;
+            if(line.isBlank()) {
+                continue;
+            }
+
+            String error = split(line);
+            if(error != null) {
+                return ProductImportRecord.invalid(lineNumber, error);
+            }
+
+            try {
+                return ProductImportRecord.of(lineNumber, new ProductCreateRequest(
+                        column(NAME),
+                        column(DESCRIPTION),
+                        toLong(column(PRICE)),
+                        toInteger(column(STOCK_QUANTITY)),
+                        toLong(column(CATEGORY_ID))
+                ));
+            } catch (NumberFormatException e) {
+                return ProductImportRecord.invalid(lineNumber, "숫자 형식이 올바르지 않습니다: " + e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        lineNumber++;
+        if(header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        if(header.startsWith("\uFEFF")) {    // UTF-8 BOM
+            header = header.substring(1);
+        }
+
+        String error = split(header);
+        if(error != null) {
+            throw new IllegalArgumentException("CSV 헤더 형식이 올바르지 않습니다: " + error);
+        }
+
+        Map<String, Integer> indexes = new HashMap<>();
+        for(int i = 0; i < fields.size(); i++) {
+            indexes.put(fields.get(i).strip().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+
+        for(int i = 0; i < COLUMNS.length; i++) {
+            Integer index = indexes.get(COLUMNS[i]);
+            if(index == null && i != DESCRIPTION) {
+                throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + COLUMNS[i]);
+            }
+            positions[i] = index != null ? index : -1;
+        }
+    }
+
+    // 빈 값은 null (필수 여부는 검증 단계에서 판단)
+    private String column(int column) {
+        int position = positions[column];
+        if(position < 0 || position >= fields.size()) {
+            return null;
+        }
+
+        String value = fields.get(position).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    // 한 줄을 fields 로 분리, 따옴표가 닫히지 않았으면 오류 메시지
+    private String split(String line) {
+        fields.clear();
+        field.setLength(0);
+        boolean quoted = false;
+
+        for(int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if(quoted) {
+                if(c != '"') {
+                    field.append(c);
+                } else if(i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if(c == '"') {
+                quoted = true;
+            } else if(c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if(quoted) {
+            return "따옴표가 닫히지 않았습니다.";
+        }
+        fields.add(field.toString());
+        return null;
+    }
+
+    private static Long toLong(String value) {
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    private static Integer toInteger(String value) {
+        return value != null ? Integer.valueOf(value) : null;
+    }
+}
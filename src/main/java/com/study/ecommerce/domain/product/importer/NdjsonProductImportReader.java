@@ -0,0 +1,38 @@
+package com.study.ecommerce.domain.product.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ecommerce.domain.product.dto.req.ProductCreateRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+// NDJSON: 한 줄 = ProductCreateRequest 하나
+class NdjsonProductImportReader implements ProductImportReader {
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    NdjsonProductImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ProductImportRecord next() throws IOException {
+        String line;
+        while((line = reader.readLine()) != null) {
+            lineNumber++;
+            if(line.isBlank()) {
+                continue;
+            }
+
+            try {
+                return ProductImportRecord.of(lineNumber, objectMapper.readValue(line, ProductCreateRequest.class));
+            } catch (JsonProcessingException e) {
+                return ProductImportRecord.invalid(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+}
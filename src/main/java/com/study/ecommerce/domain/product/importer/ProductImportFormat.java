@@ -0,0 +1,32 @@
+package com.study.ecommerce.domain.product.importer;
+
+import org.springframework.http.MediaType;
+
+/*
+    대량 등록 요청 본문 형식
+    - CSV: 첫 줄은 헤더 (name, description, price, stockQuantity, categoryId - 순서 무관)
+    - NDJSON: 한 줄에 상품 하나 (POST /api/v1/products 요청 본문과 같은 필드)
+ */
+public enum ProductImportFormat {
+    CSV("text/csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE);
+
+    private final MediaType mediaType;
+
+    ProductImportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public static ProductImportFormat from(String contentType) {
+        if(contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for(ProductImportFormat format : values()) {
+                if(format.mediaType.isCompatibleWith(requested)) {
+                    return format;
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + contentType);
+    }
+}
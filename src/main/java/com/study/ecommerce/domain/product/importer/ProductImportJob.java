@@ -0,0 +1,90 @@
+package com.study.ecommerce.domain.product.importer;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    상품 대량 등록 작업 (진행 상황 조회용)
+    - 건수는 작업 스레드 하나만 갱신하고 조회 요청은 읽기만 한다
+    - 행 오류는 maxErrors 개까지만 보관 (failed 는 전체 실패 건수)
+ */
+@Getter
+public class ProductImportJob {
+    private final String jobId;
+    private final String requesterEmail;
+    private final Long sellerId;
+    private final ProductImportFormat format;
+    private final LocalDateTime acceptedAt = LocalDateTime.now();
+
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile long processed;
+    private volatile long imported;
+    private volatile long failed;
+    private volatile String message;
+    private volatile LocalDateTime finishedAt;
+
+    private final int maxErrors;
+    private final List<RowError> errors = new ArrayList<>();
+
+    ProductImportJob(String jobId, String requesterEmail, Long sellerId, ProductImportFormat format, int maxErrors) {
+        this.jobId = jobId;
+        this.requesterEmail = requesterEmail;
+        this.sellerId = sellerId;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    // 보관 개수를 넘어 잘린 오류가 있는지
+    public boolean isErrorsTruncated() {
+        return failed > maxErrors;
+    }
+
+    void start() {
+        this.status = JobStatus.PROCESSING;
+    }
+
+    void read() {
+        processed++;
+    }
+
+    void imported(int count) {
+        imported += count;
+    }
+
+    void rejected(long line, String reason) {
+        failed++;
+
+        synchronized (errors) {
+            if(errors.size() < maxErrors) {
+                errors.add(new RowError(line, reason));
+            }
+        }
+    }
+
+    void complete() {
+        this.status = JobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    void fail(String message) {
+        this.status = JobStatus.FAILED;
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public record RowError(long line, String message) {
+    }
+
+    public enum JobStatus {
+        QUEUED, PROCESSING, COMPLETED, FAILED
+    }
+}
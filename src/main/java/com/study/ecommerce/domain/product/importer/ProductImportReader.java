@@ -0,0 +1,14 @@
+package com.study.ecommerce.domain.product.importer;
+
+import java.io.IOException;
+
+/*
+    본문을 한 줄씩 읽어 행으로 변환 (전체를 메모리에 올리지 않음)
+    - 빈 줄은 건너뜀
+    - 한 행의 형식 오류는 해당 행만 오류로 돌려주고 다음 행을 계속 읽음
+ */
+interface ProductImportReader {
+
+    // 더 읽을 행이 없으면 null
+    ProductImportRecord next() throws IOException;
+}
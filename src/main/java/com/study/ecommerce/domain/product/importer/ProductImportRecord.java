@@ -0,0 +1,18 @@
+package com.study.ecommerce.domain.product.importer;
+
+import com.study.ecommerce.domain.product.dto.req.ProductCreateRequest;
+
+/*
+    본문에서 읽은 한 행
+    - 형식 오류가 있으면 request 는 null 이고 error 에 사유
+ */
+record ProductImportRecord(long line, ProductCreateRequest request, String error) {
+
+    static ProductImportRecord of(long line, ProductCreateRequest request) {
+        return new ProductImportRecord(line, request, null);
+    }
+
+    static ProductImportRecord invalid(long line, String error) {
+        return new ProductImportRecord(line, null, error);
+    }
+}
@@ -0,0 +1,319 @@
+package com.study.ecommerce.domain.product.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ecommerce.domain.category.counter.CategoryProductCounter;
+import com.study.ecommerce.domain.category.tree.CategoryTreeCache;
+import com.study.ecommerce.domain.member.entity.Member;
+import com.study.ecommerce.domain.member.repository.MemberRepository;
+import com.study.ecommerce.domain.product.dto.req.ProductCreateRequest;
+import com.study.ecommerce.domain.product.event.ProductsImportedEvent;
+import com.study.ecommerce.global.error.ErrorCode;
+import com.study.ecommerce.global.error.exception.BusinessException;
+import com.study.ecommerce.global.error.exception.EntityNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/*
+    판매자 상품 대량 등록 (CSV / NDJSON)
+    - 요청 스레드는 본문을 임시 파일로 흘려 쓰고 작업 id 를 바로 반환 (요청 타임아웃과 무관하게 진행, 상태 조회 API 로 확인)
+    - 작업 스레드(가상 스레드)는 파일을 한 줄씩 읽어 검증 -> chunk-size 행마다 JDBC 배치 INSERT + 커밋 (메모리는 청크 하나 분량)
+    - 판매자는 접수 시 한 번만 조회, 카테고리는 카테고리 트리 스냅샷으로 검증 (행마다 DB 조회 없음)
+    - 검증/저장에 실패한 행은 줄 번호와 사유를 작업에 기록하고 나머지 행은 계속 처리
+    - 카테고리 상품 수 카운터는 청크 트랜잭션 안에서 카테고리별로 합산해 반영
+    - 끝나면 ProductsImportedEvent 한 번 발행 (검색/패싯 색인, 건수 캐시 갱신)
+ */
+@Slf4j
+@Component
+public class ProductImporter {
+    private static final String INSERT_SQL =
+            "INSERT INTO product (name, description, price, stock_quantity, status, seller_id, category_id, version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?, 0, ?, ?)";
+    private static final int MAX_NAME_LENGTH = 255;
+
+    private final MemberRepository memberRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final CategoryProductCounter categoryProductCounter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final long maxBytes;
+    private final int maxErrors;
+    private final Duration retention;
+
+    private final Semaphore permits;
+    private final Map<String, ProductImportJob> jobs = new ConcurrentHashMap<>();
+    private ExecutorService workers;
+
+    public ProductImporter(MemberRepository memberRepository,
+                           CategoryTreeCache categoryTreeCache,
+                           CategoryProductCounter categoryProductCounter,
+                           JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           ObjectMapper objectMapper,
+                           Validator validator,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${ecommerce.product.import.chunk-size:1000}") int chunkSize,
+                           @Value("${ecommerce.product.import.max-size:100MB}") DataSize maxSize,
+                           @Value("${ecommerce.product.import.max-concurrent:2}") int maxConcurrent,
+                           @Value("${ecommerce.product.import.max-errors:1000}") int maxErrors,
+                           @Value("${ecommerce.product.import.retention:1h}") Duration retention) {
+        this.memberRepository = memberRepository;
+        this.categoryTreeCache = categoryTreeCache;
+        this.categoryProductCounter = categoryProductCounter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxBytes = maxSize.toBytes();
+        this.maxErrors = maxErrors;
+        this.retention = retention;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    @PostConstruct
+    public void start() {
+        workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-import-", 0).factory());
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    /*
+        대량 등록 접수
+        @param body 요청 본문 (CSV 또는 NDJSON)
+        @param contentType 요청 Content-Type
+        @param email 요청한 판매자
+        @return 진행 상황을 조회할 작업
+     */
+    public ProductImportJob submit(InputStream body, String contentType, String email) throws IOException {
+        ProductImportFormat format = ProductImportFormat.from(contentType);
+
+        Member seller = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new EntityNotFoundException("판매자를 찾을 수 없습니다."));
+
+        // 동시에 받는 본문 수도 함께 제한 (임시 파일 디스크 사용량)
+        if(!permits.tryAcquire()) {
+            throw new BusinessException("진행 중인 대량 등록이 많습니다. 잠시 후 다시 시도해 주세요.", ErrorCode.PRODUCT_IMPORT_BUSY);
+        }
+
+        Path file;
+        try {
+            file = spool(body);
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+
+        ProductImportJob job = new ProductImportJob(UUID.randomUUID().toString(), email, seller.getId(), format, maxErrors);
+        jobs.put(job.getJobId(), job);
+        log.info("상품 대량 등록 접수: {} - 판매자 {}, 형식 {}, {} bytes", job.getJobId(), seller.getId(), format, Files.size(file));
+
+        workers.submit(() -> run(job, file));
+        return job;
+    }
+
+    /*
+        대량 등록 진행 상황 조회
+        @param jobId 작업 id
+        @param email 요청한 사용자 (접수한 판매자만 조회 가능)
+     */
+    public ProductImportJob getJob(String jobId, String email) {
+        ProductImportJob job = jobs.get(jobId);
+
+        if(job == null || !job.getRequesterEmail().equals(email)) {
+            throw new BusinessException("대량 등록 작업을 찾을 수 없습니다. jobId = " + jobId, ErrorCode.PRODUCT_IMPORT_NOT_FOUND);
+        }
+
+        return job;
+    }
+
+    // 완료/실패 후 보관 기간이 지난 작업 정리
+    @Scheduled(fixedDelayString = "${ecommerce.product.import.cleanup-interval:1m}")
+    public void removeFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+
+    // 본문을 임시 파일로 복사 (최대 크기를 넘으면 중단)
+    private Path spool(InputStream body) throws IOException {
+        Path file = Files.createTempFile("product-import-", ".tmp");
+
+        try (OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while((read = body.read(buffer)) != -1) {
+                total += read;
+                if(total > maxBytes) {
+                    throw new BusinessException("대량 등록 본문이 최대 크기(" + maxBytes + " bytes)를 넘었습니다.", ErrorCode.INVALID_INPUT_VALUE);
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        return file;
+    }
+
+    private void run(ProductImportJob job, Path file) {
+        long startTime = System.currentTimeMillis();
+        Set<Long> categoryIds = new HashSet<>();
+        job.start();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            ProductImportReader rows = switch (job.getFormat()) {
+                case CSV -> new CsvProductImportReader(reader);
+                case NDJSON -> new NdjsonProductImportReader(reader, objectMapper);
+            };
+
+            List<ProductImportRecord> chunk = new ArrayList<>(chunkSize);
+            ProductImportRecord row;
+            while((row = rows.next()) != null) {
+                job.read();
+
+                String error = row.error() != null ? row.error() : validate(row.request());
+                if(error != null) {
+                    job.rejected(row.line(), error);
+                    continue;
+                }
+
+                chunk.add(row);
+                if(chunk.size() >= chunkSize) {
+                    write(job, chunk, categoryIds);
+                    chunk.clear();
+                }
+            }
+            write(job, chunk, categoryIds);
+
+            job.complete();
+            log.info("상품 대량 등록 완료: {} - 등록 {}건, 실패 {}건 (소요시간: {} ms)",
+                    job.getJobId(), job.getImported(), job.getFailed(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("상품 대량 등록 실패: {} - {}", job.getJobId(), e.getMessage());
+            job.fail(e.getMessage());
+        } finally {
+            permits.release();
+            deleteQuietly(file);
+
+            // 실패로 중단되었어도 이미 커밋된 청크는 반영
+            if(job.getImported() > 0) {
+                eventPublisher.publishEvent(new ProductsImportedEvent(this, job.getSellerId(), categoryIds, job.getImported()));
+            }
+        }
+    }
+
+    // 오류 사유 (정상이면 null) - 단건 등록과 같은 제약 + 상품명 길이 + 카테고리 존재
+    private String validate(ProductCreateRequest request) {
+        if(request == null) {
+            return "상품 정보가 없습니다.";
+        }
+
+        Set<ConstraintViolation<ProductCreateRequest>> violations = validator.validate(request);
+        if(!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+
+        if(request.name().length() > MAX_NAME_LENGTH) {
+            return "상품명은 " + MAX_NAME_LENGTH + "자 이하여야 합니다.";
+        }
+
+        if(categoryTreeCache.current().find(request.categoryId()).isEmpty()) {
+            return "카테고리를 찾을 수 없습니다. categoryId = " + request.categoryId();
+        }
+
+        return null;
+    }
+
+    /*
+        청크 저장 (하나의 트랜잭션)
+        - 카운터는 카테고리 id 순서로 갱신 (동시에 진행되는 등록끼리 교착 방지)
+        - 저장에 실패하면 청크의 모든 행을 실패로 기록하고 다음 청크를 계속 처리
+     */
+    private void write(ProductImportJob job, List<ProductImportRecord> chunk, Set<Long> categoryIds) {
+        if(chunk.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<Long, Integer> counts = new TreeMap<>();
+        List<Object[]> args = new ArrayList<>(chunk.size());
+
+        for(ProductImportRecord row : chunk) {
+            ProductCreateRequest request = row.request();
+            args.add(new Object[]{request.name(), request.description(), request.price(), request.stockQuantity(),
+                    job.getSellerId(), request.categoryId(), now, now});
+            counts.merge(request.categoryId(), 1, Integer::sum);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, args);
+                counts.forEach((categoryId, count) -> categoryProductCounter.apply(categoryId, count, count));
+            });
+        } catch (DataAccessException e) {
+            String reason = "저장 실패: " + e.getMostSpecificCause().getMessage();
+            log.warn("상품 대량 등록 청크 저장 실패: {} - {}행, {}", job.getJobId(), chunk.size(), reason);
+            for(ProductImportRecord row : chunk) {
+                job.rejected(row.line(), reason);
+            }
+            return;
+        }
+
+        job.imported(chunk.size());
+        categoryIds.addAll(counts.keySet());
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file);
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package com.study.ecommerce.domain.product.inventory;
+
+import com.study.ecommerce.domain.category.counter.CategoryProductCounter;
+import com.study.ecommerce.domain.product.cache.ProductCache;
+import com.study.ecommerce.domain.product.search.ProductSearchIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    인메모리 재고 예약 원장 (핫 상품용)
+    - 상품 id 별 카운터를 CAS 로 차감해서 DB 행 락 없이 예약을 승인/거절
+    - 확정된 차감량은 모아두었다가 주기적으로 product.stock_quantity 에 배치 반영 (write-behind)
+    - 원장이 관리하는 상품은 원장이 판매 가능 수량의 기준
+      -> DB 재고를 직접 차감하는 주문 경로(OrderTransactionService)도 reserveDirect 로 원장에 먼저 예약하므로
+         두 경로가 같은 재고를 따로 팔지 않음
+    - 상품은 처음 예약할 때 DB 재고로 원장에 올린다 (기동 시 전체 상품을 읽지 않음)
+    - 다른 경로(주문 취소, 상품 수정, 일괄 변경)에서 바뀐 재고는 resync 호출과 주기 동기화(resync-interval)로 원장에 반영
+      -> 주기 동기화는 최근(active-window) 사용한 상품만 하고, 오래 쓰지 않은 상품은 다시 쓸 때 먼저 동기화
+    - DB 반영은 재고가 음수가 되지 않을 때만 적용
+      (관리자가 아직 반영되지 않은 확정 차감량보다 재고를 낮게 고친 경우에만 적용되지 않으며, 충돌로 보고 해당 상품을 다시 동기화)
+    - 단일 인스턴스 기준 (여러 인스턴스가 같은 상품을 나눠 팔면 원장이 서로를 알지 못함)
+ */
+@Slf4j
+@Component
+public class InventoryLedger {
+    private static final String UPDATE_STOCK_SQL =
+            "UPDATE product SET " +
+            "status = CASE WHEN stock_quantity + ? <= 0 THEN 'SOLD_OUT' " +
+            "WHEN status = 'SOLD_OUT' THEN 'ACTIVE' ELSE status END, " +
+            "stock_quantity = stock_quantity + ?, version = version + 1 " +
+            "WHERE id = ? AND stock_quantity + ? >= 0";
+    private static final int SYNC_CHUNK = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ProductCache productCache;
+    private final CategoryProductCounter categoryProductCounter;
+    private final ProductSearchIndex productSearchIndex;
+    private final Duration reservationTtl;
+    private final Duration activeWindow;
+
+    private final Map<Long, StockSlot> slots = new ConcurrentHashMap<>();
+    private final Map<String, ReservationToken> reservations = new ConcurrentHashMap<>();
+
+    public InventoryLedger(JdbcTemplate jdbcTemplate,
+                           NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                           ProductCache productCache,
+                           CategoryProductCounter categoryProductCounter,
+                           ProductSearchIndex productSearchIndex,
+                           @Value("${ecommerce.inventory.ledger.reservation-ttl:30s}") Duration reservationTtl,
+                           @Value("${ecommerce.inventory.ledger.active-window:10m}") Duration activeWindow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.productCache = productCache;
+        this.categoryProductCounter = categoryProductCounter;
+        this.productSearchIndex = productSearchIndex;
+        this.reservationTtl = reservationTtl;
+        this.activeWindow = activeWindow;
+    }
+
+    /*
+        재고 예약
+        - 상품 id 순서로 차감하고, 하나라도 부족하면 앞서 차감한 수량을 되돌린다
+        @param quantities 상품 id 별 예약 수량
+        @return 예약 토큰
+     */
+    public ReservationToken reserve(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        sorted.keySet().forEach(this::getSlot);
+        reserveAll(sorted);
+
+        ReservationToken token = new ReservationToken(
+                UUID.randomUUID().toString(), Map.copyOf(sorted), Instant.now().plus(reservationTtl));
+        reservations.put(token.id(), token);
+
+        return token;
+    }
+
+    /*
+        DB 재고를 직접 차감하는 주문의 수량을 원장에 먼저 예약 (DB 차감 전에, 주문 트랜잭션 안에서 호출)
+        - 원장이 관리하는 상품만 예약하고, 원장에 없는 상품은 DB 재고가 그대로 기준
+        - 원장이 부족하면 DB 에 재고가 남아 있어도 거절 (아직 DB 에 반영되지 않은 확정 차감량이 있음)
+        - 커밋되면 DB 는 이미 차감됐으므로 반영 대기 차감량에 넣지 않고 원장이 아는 DB 재고만 줄이고,
+          롤백되면 예약 수량을 가용 재고로 되돌린다
+        @param quantities 상품 id 별 차감 수량
+     */
+    public void reserveDirect(Map<Long, Integer> quantities) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("재고 원장 직접 예약은 트랜잭션 안에서만 할 수 있습니다.");
+        }
+
+        Map<Long, Integer> tracked = new TreeMap<>();
+        List<Long> untracked = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            StockSlot slot = slots.get(productId);
+            if(slot != null) {
+                activate(productId, slot);
+                tracked.put(productId, quantity);
+            } else {
+                untracked.add(productId);
+            }
+        });
+
+        reserveAll(tracked);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if(status == STATUS_COMMITTED) {
+                    tracked.forEach((productId, quantity) -> slots.get(productId).applied(quantity));
+                    // 그 사이 원장에 올라온 상품은 이 차감 전의 DB 재고를 읽었을 수 있음
+                    List<Long> loaded = untracked.stream().filter(slots::containsKey).toList();
+                    if(!loaded.isEmpty()) {
+                        resyncNow(loaded);
+                    }
+                } else {
+                    tracked.forEach((productId, quantity) -> slots.get(productId).cancel(quantity));
+                }
+            }
+        });
+    }
+
+    // 상품 id 순서로 차감하고, 하나라도 부족하면 앞서 차감한 수량을 되돌린다
+    private void reserveAll(Map<Long, Integer> sorted) {
+        Map<Long, Integer> reserved = new HashMap<>();
+
+        for(Map.Entry<Long, Integer> entry : sorted.entrySet()) {
+            StockSlot slot = slots.get(entry.getKey());
+
+            if(!slot.tryReserve(entry.getValue())) {
+                reserved.forEach((productId, quantity) -> slots.get(productId).cancel(quantity));
+                throw new IllegalArgumentException("재고가 부족합니다.");
+            }
+
+            reserved.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /*
+        예약 확정 - 예약 수량을 DB 반영 대기 차감량으로 옮긴다
+        - 트랜잭션 안이면 커밋된 뒤에 옮기고, 롤백되면 예약 수량을 가용 재고로 되돌린다
+          (확정 시점에 예약 목록에서 빼두므로 그 사이 만료 처리와 겹치지 않음)
+        @param token 예약 토큰
+     */
+    public void confirm(ReservationToken token) {
+        if(reservations.remove(token.id()) == null) {
+            throw new IllegalStateException("만료되었거나 이미 처리된 재고 예약입니다.");
+        }
+
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            token.quantities().forEach((productId, quantity) -> slots.get(productId).confirm(quantity));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if(status == STATUS_COMMITTED) {
+                    token.quantities().forEach((productId, quantity) -> slots.get(productId).confirm(quantity));
+                } else {
+                    log.warn("재고 예약 확정 후 트랜잭션 롤백 - 예약 수량 복구: {}", token.id());
+                    token.quantities().forEach((productId, quantity) -> slots.get(productId).cancel(quantity));
+                }
+            }
+        });
+    }
+
+    /*
+        예약 취소 - 예약 수량을 가용 재고로 되돌린다
+        @param token 예약 토큰
+     */
+    public void release(ReservationToken token) {
+        if(reservations.remove(token.id()) == null) {
+            return;
+        }
+
+        token.quantities().forEach((productId, quantity) -> slots.get(productId).cancel(quantity));
+    }
+
+    /*
+        만료된 예약 회수
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.inventory.ledger.expire-interval:5s}")
+    public void expireReservations() {
+        Instant now = Instant.now();
+
+        for(ReservationToken token : reservations.values()) {
+            if(token.isExpired(now)) {
+                log.debug("재고 예약 만료: {}", token.id());
+                release(token);
+            }
+        }
+    }
+
+    /*
+        확정된 차감량을 product 테이블에 배치 반영
+        - 반영에 실패하면 차감량을 다시 대기열에 돌려놓고 다음 주기에 재시도
+        - 반영된 행이 0건이면 (원장 밖에서 재고가 먼저 줄어 음수가 되는 경우) 그 차감량은 버리고
+          가용 재고를 되돌린 뒤 DB 재고로 다시 동기화 (이미 확정된 주문은 초과 판매로 로그를 남김)
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.inventory.ledger.flush-interval:1s}")
+    public synchronized void flush() {
+        Map<Long, Integer> deltas = new TreeMap<>();
+        slots.forEach((productId, slot) -> {
+            int delta = slot.drainPending();
+            if(delta != 0) {
+                deltas.put(productId, delta);
+            }
+        });
+
+        if(deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((productId, delta) -> batchArgs.add(new Object[]{delta, delta, productId, delta}));
+
+        int[] updated;
+        try {
+            updated = jdbcTemplate.batchUpdate(UPDATE_STOCK_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            log.error("재고 원장 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            deltas.forEach((productId, delta) -> slots.get(productId).restorePending(delta));
+            return;
+        }
+
+        int index = 0;
+        for(Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+            StockSlot slot = slots.get(entry.getKey());
+
+            // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO = -2)는 반영된 것으로 봄
+            if(updated[index++] == 0) {
+                log.error("재고 원장 반영 충돌 - 확정 차감량보다 DB 재고가 적음: productId = {}, 변경량 = {}", entry.getKey(), entry.getValue());
+                slot.cancel(-entry.getValue());
+            } else {
+                slot.flushed(entry.getValue());
+            }
+        }
+
+        productCache.evict(deltas.keySet());
+        categoryProductCounter.markStockChanged(deltas.keySet());
+        productSearchIndex.markStockChanged(deltas.keySet());
+        synchronize(deltas.keySet());
+
+        log.debug("재고 원장 반영 완료: {}건", deltas.size());
+    }
+
+    /*
+        다른 경로에서 재고를 바꾼 상품을 DB 재고로 다시 동기화 (원장에 없는 상품은 무시)
+        - 트랜잭션 안이면 커밋된 뒤에 동기화 (롤백되면 바뀐 재고가 없으므로 하지 않음)
+        @param productIds 재고가 바뀐 상품 id
+     */
+    public void resync(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    resyncNow(ids);
+                }
+            });
+            return;
+        }
+
+        resyncNow(ids);
+    }
+
+    private synchronized void resyncNow(Collection<Long> productIds) {
+        List<Long> ids = productIds.stream().filter(slots::containsKey).toList();
+
+        for(int from = 0; from < ids.size(); from += SYNC_CHUNK) {
+            synchronize(ids.subList(from, Math.min(from + SYNC_CHUNK, ids.size())));
+        }
+    }
+
+    /*
+        최근에 사용한 상품을 DB 재고로 동기화
+        - resync 를 호출하지 않는 경로(직접 SQL 수정 등)나 다른 인스턴스에서 바뀐 재고도 이 주기 안에 반영
+        - 오래 쓰지 않은 상품은 건너뛰고 다시 쓸 때 동기화 (activate)
+     */
+    @Scheduled(initialDelayString = "${ecommerce.inventory.ledger.resync-interval:1m}",
+            fixedDelayString = "${ecommerce.inventory.ledger.resync-interval:1m}")
+    public void resyncAll() {
+        long threshold = activeThreshold();
+
+        resyncNow(slots.entrySet().stream()
+                .filter(entry -> entry.getValue().isUsedSince(threshold))
+                .map(Map.Entry::getKey)
+                .toList());
+    }
+
+    /*
+        종료 시 남은 차감량 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 원장에 없는 상품은 DB 재고로 새로 등록
+    private StockSlot getSlot(Long productId) {
+        StockSlot slot = slots.get(productId);
+        if(slot != null) {
+            activate(productId, slot);
+            return slot;
+        }
+
+        return slots.computeIfAbsent(productId, id -> {
+            List<Integer> stocks = jdbcTemplate.queryForList(
+                    "SELECT stock_quantity FROM product WHERE id = ? AND status <> 'DELETED'", Integer.class, id);
+
+            if(stocks.isEmpty()) {
+                throw new IllegalArgumentException("존재하지 않는 상품입니다. id = " + id);
+            }
+
+            return new StockSlot(stocks.get(0));
+        });
+    }
+
+    // 주기 동기화에서 빠져 있던 상품은 쓰기 전에 DB 재고로 다시 맞춘다
+    private void activate(Long productId, StockSlot slot) {
+        if(!slot.isUsedSince(activeThreshold())) {
+            resyncNow(List.of(productId));
+        }
+        slot.touch();
+    }
+
+    private long activeThreshold() {
+        return System.currentTimeMillis() - activeWindow.toMillis();
+    }
+
+    // 다른 경로(주문 취소, 상품 수정 등)에서 바뀐 DB 재고를 원장에 반영 (flush 와 겹치지 않도록 락 안에서만 호출)
+    private void synchronize(Collection<Long> productIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", productIds);
+
+        namedParameterJdbcTemplate.query("SELECT id, stock_quantity FROM product WHERE id IN (:ids)", params, rs -> {
+            StockSlot slot = slots.get(rs.getLong("id"));
+            if(slot != null) {
+                slot.synchronize(rs.getInt("stock_quantity"));
+            }
+        });
+    }
+
+    /*
+        상품별 재고 카운터
+        - available: 예약 가능한 수량
+        - pending: 확정됐지만 아직 DB 에 반영되지 않은 변경량 (차감은 음수)
+        - expectedStock: 원장이 알고 있는 DB 재고 (외부 변경 감지용)
+        - lastUsedAt: 마지막으로 예약에 쓴 시각 (주기 동기화 대상 선정용)
+     */
+    private static class StockSlot {
+        private final AtomicInteger available;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger expectedStock;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        private StockSlot(int stockQuantity) {
+            this.available = new AtomicInteger(stockQuantity);
+            this.expectedStock = new AtomicInteger(stockQuantity);
+        }
+
+        private boolean tryReserve(int quantity) {
+            while(true) {
+                int current = available.get();
+                if(current < quantity) {
+                    return false;
+                }
+
+                if(available.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+
+        private void cancel(int quantity) {
+            available.addAndGet(quantity);
+        }
+
+        private void confirm(int quantity) {
+            pending.addAndGet(-quantity);
+        }
+
+        private void touch() {
+            lastUsedAt = System.currentTimeMillis();
+        }
+
+        private boolean isUsedSince(long threshold) {
+            return lastUsedAt >= threshold;
+        }
+
+        private int drainPending() {
+            return pending.getAndSet(0);
+        }
+
+        private void restorePending(int delta) {
+            pending.addAndGet(delta);
+        }
+
+        private void flushed(int delta) {
+            expectedStock.addAndGet(delta);
+        }
+
+        // 다른 경로가 DB 에 직접 차감한 수량 (가용 재고는 예약할 때 이미 줄였음)
+        private void applied(int quantity) {
+            expectedStock.addAndGet(-quantity);
+        }
+
+        // 외부에서 바뀐 만큼만 가용 재고에 더한다 (진행 중인 예약과 경합하지 않도록 차이만 반영)
+        private void synchronize(int stockQuantity) {
+            int externalChange = stockQuantity - expectedStock.getAndSet(stockQuantity);
+            if(externalChange != 0) {
+                available.addAndGet(externalChange);
+            }
+        }
+    }
+}
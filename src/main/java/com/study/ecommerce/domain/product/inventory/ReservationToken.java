@@ -0,0 +1,19 @@
+package com.study.ecommerce.domain.product.inventory;
+
+import java.time.Instant;
+import java.util.Map;
+
+/*
+    재고 예약 토큰
+    - 만료 시각까지 확정(confirm)되지 않으면 예약 수량이 자동으로 반환된다
+ */
+public record ReservationToken(
+        String id,
+        Map<Long, Integer> quantities,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt.isBefore(now);
+    }
+}
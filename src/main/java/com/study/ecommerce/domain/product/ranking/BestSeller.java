@@ -0,0 +1,9 @@
+package com.study.ecommerce.domain.product.ranking;
+
+// 집계 구간 안의 상품별 주문 수량 (Count-Min 추정값 - 실제보다 클 수는 있어도 작지는 않음)
+public record BestSeller(
+        Long productId,
+        Long categoryId,
+        long quantity
+) {
+}
@@ -0,0 +1,150 @@
+package com.study.ecommerce.domain.product.ranking;
+
+import com.study.ecommerce.domain.order.event.OrderCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    실시간 판매 순위 (최근 1시간 / 1일)
+    - 주문 처리 스레드는 상품별 LongAdder 에 수량만 더함 (스트라이프 카운터라 인기 상품에 몰려도 경합이 적음)
+    - flush-interval 마다 집계 스레드가 모인 수량을 구간별 시간 칸 sketch 에 옮기고 순위를 다시 만듦
+      (1시간: 1분 칸 60개, 1일: 1시간 칸 24개)
+    - 메모리는 sketch 크기 + 순위 후보 수(top-k, 카테고리별 category-top-k)로 고정 - 카탈로그 크기와 무관
+    - 순위는 구간별 스냅샷으로 교체 -> 조회는 락 없이 읽기만 함
+    - 서버 메모리에만 있으므로 재시작하면 0부터 다시 집계 (서버가 여러 대면 서버별 순위)
+ */
+@Slf4j
+@Component
+public class BestSellerRanking {
+    private static final int CATEGORY_LOOKUP_CHUNK = 1000;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final int topK;
+    private final int categoryTopK;
+    private final RankingWindow popularityWindow;
+    private final Map<RankingWindow, SlidingWindow> windows = new EnumMap<>(RankingWindow.class);
+    private final Map<RankingWindow, BestSellerSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    // 기록 중인 버퍼 / 한 주기 전에 교체한 버퍼 (교체 직전에 버퍼를 받아 간 기록이 끝나도록 한 주기 뒤에 집계)
+    private final AtomicReference<Map<Long, SaleCounter>> active = new AtomicReference<>(new ConcurrentHashMap<>());
+    private Map<Long, SaleCounter> retired = new ConcurrentHashMap<>();
+
+    public BestSellerRanking(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                             @Value("${ecommerce.product.ranking.top-k:1000}") int topK,
+                             @Value("${ecommerce.product.ranking.category-top-k:50}") int categoryTopK,
+                             @Value("${ecommerce.product.ranking.sketch-depth:4}") int sketchDepth,
+                             @Value("${ecommerce.product.ranking.sketch-width:2048}") int sketchWidth,
+                             @Value("${ecommerce.product.ranking.popularity-window:day}") String popularityWindow) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.topK = topK;
+        this.categoryTopK = categoryTopK;
+        this.popularityWindow = RankingWindow.from(popularityWindow);
+
+        for(RankingWindow window : RankingWindow.values()) {
+            windows.put(window, new SlidingWindow(window, sketchDepth, sketchWidth));
+            snapshots.put(window, BestSellerSnapshot.EMPTY);
+        }
+    }
+
+    // 주문 상품별 수량 기록 (수량 0 이하는 무시)
+    public void record(List<OrderCreatedEvent.Line> lines) {
+        Map<Long, SaleCounter> counters = active.get();
+
+        for(OrderCreatedEvent.Line line : lines) {
+            if(line.productId() == null || line.quantity() <= 0) {
+                continue;
+            }
+
+            SaleCounter counter = counters.computeIfAbsent(line.productId(), id -> new SaleCounter());
+            counter.quantity.add(line.quantity());
+            if(line.categoryId() != null) {
+                counter.categoryId = line.categoryId();
+            }
+        }
+    }
+
+    /*
+        모인 수량을 구간별 sketch 에 옮기고 순위 스냅샷 교체
+        - 발행하는 쪽에서 카테고리를 모르는 상품은 여기서 한 번에 조회
+        - 팔린 상품이 없어도 실행 (시간 칸을 넘기고 만료된 수량을 빼야 하므로)
+     */
+    @Scheduled(initialDelayString = "${ecommerce.product.ranking.flush-interval:10s}",
+            fixedDelayString = "${ecommerce.product.ranking.flush-interval:10s}")
+    public synchronized void flush() {
+        long startTime = System.currentTimeMillis();
+
+        Map<Long, SaleCounter> drained = retired;
+        retired = active.getAndSet(new ConcurrentHashMap<>());
+
+        Map<Long, Long> categoryIds = findUnknownCategories(drained);
+        long epochMinute = startTime / 60_000L;
+
+        for(Map.Entry<RankingWindow, SlidingWindow> entry : windows.entrySet()) {
+            SlidingWindow window = entry.getValue();
+            window.advance(epochMinute);
+
+            drained.forEach((productId, counter) -> {
+                Long categoryId = counter.categoryId != null ? counter.categoryId : categoryIds.get(productId);
+                window.add(productId, categoryId, counter.quantity.sum());
+            });
+
+            snapshots.put(entry.getKey(), window.rank(topK, categoryTopK));
+        }
+
+        if(!drained.isEmpty()) {
+            log.debug("판매 순위 집계: 상품 {}개 (소요시간: {} ms)", drained.size(), System.currentTimeMillis() - startTime);
+        }
+    }
+
+    private Map<Long, Long> findUnknownCategories(Map<Long, SaleCounter> counters) {
+        List<Long> unknown = new ArrayList<>();
+        counters.forEach((productId, counter) -> {
+            if(counter.categoryId == null) {
+                unknown.add(productId);
+            }
+        });
+
+        Map<Long, Long> categoryIds = new HashMap<>();
+        for(int from = 0; from < unknown.size(); from += CATEGORY_LOOKUP_CHUNK) {
+            List<Long> chunk = unknown.subList(from, Math.min(from + CATEGORY_LOOKUP_CHUNK, unknown.size()));
+            namedParameterJdbcTemplate.query(
+                    "SELECT id, category_id FROM product WHERE id IN (:ids) AND category_id IS NOT NULL",
+                    new MapSqlParameterSource("ids", chunk),
+                    rs -> {
+                        categoryIds.put(rs.getLong("id"), rs.getLong("category_id"));
+                    });
+        }
+        return categoryIds;
+    }
+
+    public List<BestSeller> top(RankingWindow window, Set<Long> categoryIds, int limit) {
+        return snapshots.get(window).top(categoryIds, limit);
+    }
+
+    /*
+        인기순 정렬(sort=popularity)에 쓰는 구간의 순위
+        - 점수는 quantity(productId), 전체 순위에 없는 상품은 0
+     */
+    public BestSellerSnapshot popularity() {
+        return snapshots.get(popularityWindow);
+    }
+
+    private static final class SaleCounter {
+        private final LongAdder quantity = new LongAdder();
+        private volatile Long categoryId;
+    }
+}
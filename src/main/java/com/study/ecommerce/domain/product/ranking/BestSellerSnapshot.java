@@ -0,0 +1,60 @@
+package com.study.ecommerce.domain.product.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/*
+    집계 구간 하나의 판매 순위 (집계할 때마다 새로 만들어 교체, 조회는 읽기만 함)
+    - products: 전체 상위 top-k, byCategory: 카테고리별 상위 category-top-k (둘 다 수량 내림차순, 같으면 id 내림차순)
+    - quantities: 위 목록에 든 상품의 수량 (인기순 정렬에 사용, 목록에 없는 상품은 0)
+ */
+public record BestSellerSnapshot(
+        List<BestSeller> products,
+        Map<Long, List<BestSeller>> byCategory,
+        Map<Long, Long> quantities
+) {
+    static final Comparator<BestSeller> ORDER = Comparator.comparingLong(BestSeller::quantity).reversed()
+            .thenComparing(BestSeller::productId, Comparator.reverseOrder());
+
+    static final BestSellerSnapshot EMPTY = new BestSellerSnapshot(List.of(), Map.of(), Map.of());
+
+    public long quantity(Long productId) {
+        return quantities.getOrDefault(productId, 0L);
+    }
+
+    /*
+        상위 limit 개
+        @param categoryIds 이 카테고리들의 상품만 (null 이면 전체)
+     */
+    public List<BestSeller> top(Set<Long> categoryIds, int limit) {
+        if(limit <= 0) {
+            return List.of();
+        }
+        if(categoryIds == null) {
+            return products.subList(0, Math.min(limit, products.size()));
+        }
+
+        // 카테고리별 목록(이미 정렬됨)을 합쳐 상위 limit 개만
+        PriorityQueue<BestSeller> heap = new PriorityQueue<>(ORDER.reversed());
+        for(Long categoryId : categoryIds) {
+            for(BestSeller bestSeller : byCategory.getOrDefault(categoryId, List.of())) {
+                if(heap.size() < limit) {
+                    heap.add(bestSeller);
+                } else if(ORDER.compare(bestSeller, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(bestSeller);
+                } else {
+                    break;
+                }
+            }
+        }
+
+        List<BestSeller> result = new ArrayList<>(heap);
+        result.sort(ORDER);
+        return result;
+    }
+}
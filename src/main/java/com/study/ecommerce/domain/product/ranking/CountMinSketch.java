@@ -0,0 +1,75 @@
+package com.study.ecommerce.domain.product.ranking;
+
+import java.util.Arrays;
+
+/*
+    Count-Min sketch (depth x width 카운터 표)
+    - 상품 수와 관계없이 메모리가 depth * width 로 고정
+    - 추정값은 실제 값 이상 (해시 충돌만큼 과대 추정), 오차는 전체 합 * e / width 이내일 확률 1 - e^-depth
+    - 더하기/빼기가 칸 단위로 선형 -> 시간 칸(slot)별 스케치를 창 합계에서 그대로 뺄 수 있음
+    - 스레드 안전하지 않음 (BestSellerRanking 의 집계 스레드에서만 수정)
+ */
+final class CountMinSketch {
+    // 행마다 다른 해시를 쓰기 위한 값
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0x27D4EB2F165667C5L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L, 0x85EBCA77C2B2AE63L
+    };
+
+    private final long[][] table;
+    private final int mask;
+
+    // width 는 2의 거듭제곱으로 올림
+    CountMinSketch(int depth, int width) {
+        if(depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("sketch depth 는 1 ~ " + SEEDS.length + " 입니다: " + depth);
+        }
+        if(width < 1) {
+            throw new IllegalArgumentException("sketch width 는 1 이상입니다: " + width);
+        }
+
+        int size = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+        this.table = new long[depth][size];
+        this.mask = size - 1;
+    }
+
+    void add(long key, long count) {
+        for(int row = 0; row < table.length; row++) {
+            table[row][index(row, key)] += count;
+        }
+    }
+
+    long estimate(long key) {
+        long min = Long.MAX_VALUE;
+        for(int row = 0; row < table.length; row++) {
+            min = Math.min(min, table[row][index(row, key)]);
+        }
+        return min;
+    }
+
+    // 같은 크기의 스케치만 (창 합계에서 만료된 칸을 뺄 때)
+    void subtract(CountMinSketch other) {
+        for(int row = 0; row < table.length; row++) {
+            long[] counts = table[row];
+            long[] expired = other.table[row];
+            for(int i = 0; i < counts.length; i++) {
+                counts[i] -= expired[i];
+            }
+        }
+    }
+
+    void clear() {
+        for(long[] row : table) {
+            Arrays.fill(row, 0L);
+        }
+    }
+
+    // murmur3 fmix64
+    private int index(int row, long key) {
+        long h = key ^ SEEDS[row];
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,32 @@
+package com.study.ecommerce.domain.product.ranking;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+// 판매 순위 집계 구간 (window 파라미터, 기본 day) - 칸(slot) 수 * 칸 길이(분)
+@Getter
+public enum RankingWindow {
+    HOUR(60, 1),
+    DAY(24, 60);
+
+    private final int slots;
+    private final int minutesPerSlot;
+
+    RankingWindow(int slots, int minutesPerSlot) {
+        this.slots = slots;
+        this.minutesPerSlot = minutesPerSlot;
+    }
+
+    public static RankingWindow from(String window) {
+        if(window == null || window.isBlank()) {
+            return DAY;
+        }
+
+        try {
+            return valueOf(window.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 집계 구간입니다: " + window);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.ecommerce.domain.product.ranking;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+    집계 구간 하나 (RankingWindow) 의 시간 칸 링 버퍼
+    - 칸마다 Count-Min sketch 하나 + 구간 합계 sketch 하나 (합계 = 살아 있는 칸의 합)
+    - 칸이 넘어가면 재사용할 칸을 합계에서 빼고 비움 -> 구간 추정은 합계 sketch 한 번 조회
+    - 순위 후보(candidates)는 지난 순위에 든 상품 + 이번에 팔린 상품만 유지 (top-k 힙으로 다시 추림)
+    - 스레드 안전하지 않음 (BestSellerRanking 의 집계 스레드에서만 사용)
+ */
+final class SlidingWindow {
+    private final RankingWindow window;
+    private final CountMinSketch[] slots;
+    private final CountMinSketch total;
+
+    // 상품 id -> 카테고리 id (모르면 null)
+    private Map<Long, Long> candidates = new HashMap<>();
+    private long currentSlot = -1;
+
+    SlidingWindow(RankingWindow window, int depth, int width) {
+        this.window = window;
+        this.slots = new CountMinSketch[window.getSlots()];
+        for(int i = 0; i < slots.length; i++) {
+            slots[i] = new CountMinSketch(depth, width);
+        }
+        this.total = new CountMinSketch(depth, width);
+    }
+
+    // epoch 분 기준으로 칸을 옮기고, 그 사이 지나간 칸을 비움 (오래 멈춰 있었으면 전체)
+    void advance(long epochMinute) {
+        long slot = epochMinute / window.getMinutesPerSlot();
+        if(currentSlot < 0) {
+            currentSlot = slot;
+            return;
+        }
+
+        long last = Math.min(slot, currentSlot + slots.length);
+        for(long next = currentSlot + 1; next <= last; next++) {
+            CountMinSketch expired = slots[(int) (next % slots.length)];
+            total.subtract(expired);
+            expired.clear();
+        }
+        currentSlot = Math.max(currentSlot, slot);
+    }
+
+    void add(Long productId, Long categoryId, long quantity) {
+        slots[(int) (currentSlot % slots.length)].add(productId, quantity);
+        total.add(productId, quantity);
+
+        if(categoryId != null || !candidates.containsKey(productId)) {
+            candidates.put(productId, categoryId);
+        }
+    }
+
+    /*
+        후보를 다시 추정해서 순위를 만들고, 순위에 든 상품만 후보로 남김
+        @param topK 전체 순위 크기
+        @param categoryTopK 카테고리별 순위 크기
+     */
+    BestSellerSnapshot rank(int topK, int categoryTopK) {
+        List<BestSeller> ranked = new ArrayList<>(candidates.size());
+        for(Map.Entry<Long, Long> candidate : candidates.entrySet()) {
+            long quantity = total.estimate(candidate.getKey());
+            if(quantity > 0) {
+                ranked.add(new BestSeller(candidate.getKey(), candidate.getValue(), quantity));
+            }
+        }
+        ranked.sort(BestSellerSnapshot.ORDER);
+
+        List<BestSeller> products = List.copyOf(ranked.subList(0, Math.min(topK, ranked.size())));
+        Map<Long, List<BestSeller>> byCategory = new HashMap<>();
+        Map<Long, Long> retained = new HashMap<>();
+        Map<Long, Long> quantities = new HashMap<>();
+
+        for(BestSeller bestSeller : products) {
+            retained.put(bestSeller.productId(), bestSeller.categoryId());
+            quantities.put(bestSeller.productId(), bestSeller.quantity());
+        }
+
+        // 정렬된 순서대로 카테고리마다 categoryTopK 개까지
+        for(BestSeller bestSeller : ranked) {
+            if(bestSeller.categoryId() == null) {
+                continue;
+            }
+
+            List<BestSeller> list = byCategory.computeIfAbsent(bestSeller.categoryId(), id -> new ArrayList<>());
+            if(list.size() < categoryTopK) {
+                list.add(bestSeller);
+                retained.put(bestSeller.productId(), bestSeller.categoryId());
+                quantities.put(bestSeller.productId(), bestSeller.quantity());
+            }
+        }
+
+        candidates = retained;
+
+        Map<Long, List<BestSeller>> categoryLists = new HashMap<>();
+        byCategory.forEach((categoryId, list) -> categoryLists.put(categoryId, List.copyOf(list)));
+        return new BestSellerSnapshot(products, Map.copyOf(categoryLists), Map.copyOf(quantities));
+    }
+}
@@ -0,0 +1,132 @@
+package com.study.ecommerce.domain.product.repository;
+
+import com.study.ecommerce.domain.category.event.CategoryChangedEvent;
+import com.study.ecommerce.domain.category.tree.CategoryTreeCache;
+import com.study.ecommerce.domain.category.tree.CategoryTreeSnapshot;
+import com.study.ecommerce.domain.product.dto.req.ProductSearchCondition;
+import com.study.ecommerce.domain.product.event.ProductChangedEvent;
+import com.study.ecommerce.domain.product.event.ProductsImportedEvent;
+import com.study.ecommerce.domain.product.event.ProductsUpdatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/*
+    상품 검색 건수 캐시 (정규화된 검색 조건 -> 건수)
+    - 크기 제한 LRU + TTL
+    - 상품 등록/수정/삭제/대량 등록/일괄 수정 시 해당 카테고리와 상위 카테고리 조건, 카테고리 조건이 없는 항목을 제거
+    - 카테고리 구조가 바뀌면 카테고리 조건이 있는 항목을 모두 제거 (하위 카테고리 포함 건수가 달라짐)
+    - 재고 소진에 따른 상태 변경은 이벤트가 없으므로 TTL 로 반영
+ */
+@Slf4j
+@Component
+public class ProductCountCache {
+    private final CategoryTreeCache categoryTreeCache;
+    private final long ttlNanos;
+    private final Map<ProductSearchCondition, CachedCount> cache;
+
+    public ProductCountCache(CategoryTreeCache categoryTreeCache,
+                             @Value("${ecommerce.product.count.cache-ttl:5m}") Duration ttl,
+                             @Value("${ecommerce.product.count.cache-size:10000}") int cacheSize) {
+        this.categoryTreeCache = categoryTreeCache;
+        this.ttlNanos = ttl.toNanos();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ProductSearchCondition, CachedCount> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    // 캐시된 건수가 없거나 만료되었으면 counter 로 계산해서 저장
+    public long get(ProductSearchCondition condition, LongSupplier counter) {
+        ProductSearchCondition key = condition.normalize();
+        long now = System.nanoTime();
+
+        synchronized (cache) {
+            CachedCount cached = cache.get(key);
+            if(cached != null && now < cached.expiresAt()) {
+                return cached.count();
+            }
+        }
+
+        // count 쿼리는 락 밖에서 실행 (같은 조건이 동시에 들어오면 중복 계산될 수 있음)
+        long count = counter.getAsLong();
+
+        synchronized (cache) {
+            cache.put(key, new CachedCount(count, now + ttlNanos));
+        }
+        return count;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductChanged(ProductChangedEvent event) {
+        int removed = removeCategories(event.getCategoryIds());
+
+        log.debug("상품 검색 건수 캐시 무효화: productId={}, categoryIds={}, {}건",
+                event.getProductId(), event.getCategoryIds(), removed);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductsImported(ProductsImportedEvent event) {
+        int removed = removeCategories(event.getCategoryIds());
+
+        log.debug("상품 대량 등록으로 상품 검색 건수 캐시 무효화: {}개 카테고리, {}건", event.getCategoryIds().size(), removed);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductsUpdated(ProductsUpdatedEvent event) {
+        int removed = removeCategories(event.getCategoryIds());
+
+        log.debug("상품 일괄 수정으로 상품 검색 건수 캐시 무효화: 상품 {}건, {}개 카테고리, {}건",
+                event.getProductIds().size(), event.getCategoryIds().size(), removed);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCategoryChanged(CategoryChangedEvent event) {
+        int removed = removeIf(condition -> condition.categoryId() != null);
+
+        log.debug("카테고리 변경으로 상품 검색 건수 캐시 무효화: categoryId={}, {}건", event.getCategoryId(), removed);
+    }
+
+    // 카테고리와 그 상위 카테고리 조건, 카테고리 조건이 없는 항목 제거 (카테고리 조건은 하위 카테고리를 포함하므로)
+    private int removeCategories(Collection<Long> categoryIds) {
+        CategoryTreeSnapshot snapshot = categoryTreeCache.current();
+        Set<Long> affectedCategoryIds = new HashSet<>();
+        for(Long categoryId : categoryIds) {
+            affectedCategoryIds.add(categoryId);
+            affectedCategoryIds.addAll(snapshot.path(categoryId));
+        }
+
+        return removeIf(condition ->
+                condition.categoryId() == null || affectedCategoryIds.contains(condition.categoryId()));
+    }
+
+    private int removeIf(Predicate<ProductSearchCondition> predicate) {
+        int removed = 0;
+
+        synchronized (cache) {
+            var iterator = cache.keySet().iterator();
+            while(iterator.hasNext()) {
+                if(predicate.test(iterator.next())) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
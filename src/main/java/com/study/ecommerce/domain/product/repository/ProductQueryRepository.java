@@ -1,10 +1,29 @@
 package com.study.ecommerce.domain.product.repository;
 
+import com.study.ecommerce.domain.product.dto.req.ProductCursor;
 import com.study.ecommerce.domain.product.dto.req.ProductSearchCondition;
+import com.study.ecommerce.domain.product.dto.resp.ProductResponse;
 import com.study.ecommerce.domain.product.dto.resp.ProductSummaryDto;
+import com.study.ecommerce.global.common.page.CountType;
+import com.study.ecommerce.global.common.page.CountedPage;
+import com.study.ecommerce.global.common.page.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface ProductQueryRepository {
     Page<ProductSummaryDto> searchProducts(ProductSearchCondition condition, Pageable pageable);
+
+    // 건수 계산 방식(EXACT, CAPPED, CACHED)을 선택하는 검색 - 실제로 사용된 방식을 함께 반환
+    CountedPage<ProductSummaryDto> searchProducts(ProductSearchCondition condition, Pageable pageable, CountType countType);
+
+    // 커서(키셋) 기반 조회 - offset, count 쿼리 없이 다음 페이지 조회
+    CursorPage<ProductResponse> scrollProducts(ProductSearchCondition condition, ProductCursor cursor, int size);
+
+    // 페이징 없이 조건에 맞는 목록용 프로젝션 전체
+    List<ProductSummaryDto> findSummaries(ProductSearchCondition condition);
+
+    // id 목록 순서대로 목록용 프로젝션 조회
+    List<ProductSummaryDto> findSummariesByIds(List<Long> ids);
 }
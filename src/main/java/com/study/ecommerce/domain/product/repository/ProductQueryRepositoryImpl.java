@@ -2,40 +2,107 @@ package com.study.ecommerce.domain.product.repository;
 
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.HQLTemplates;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.impl.JPAUtil;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.study.ecommerce.domain.category.entity.QCategory;
+import com.study.ecommerce.domain.category.entity.QCategoryClosure;
 import com.study.ecommerce.domain.member.entity.QMember;
+import com.study.ecommerce.domain.product.dto.req.ProductCursor;
 import com.study.ecommerce.domain.product.dto.req.ProductSearchCondition;
+import com.study.ecommerce.domain.product.dto.resp.ProductResponse;
 import com.study.ecommerce.domain.product.dto.resp.ProductSummaryDto;
 import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
 import com.study.ecommerce.domain.product.entity.QProduct;
-import lombok.RequiredArgsConstructor;
+import com.study.ecommerce.domain.product.ranking.BestSeller;
+import com.study.ecommerce.domain.product.ranking.BestSellerRanking;
+import com.study.ecommerce.domain.product.search.ProductSearchHits;
+import com.study.ecommerce.domain.product.search.ProductSearchIndex;
+import com.study.ecommerce.global.common.page.CountType;
+import com.study.ecommerce.global.common.page.CountedPage;
+import com.study.ecommerce.global.common.page.CursorPage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
 public class ProductQueryRepositoryImpl implements ProductQueryRepository{
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final ProductCountCache productCountCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final BestSellerRanking bestSellerRanking;
+    private final int countCap;
+
+    public ProductQueryRepositoryImpl(JPAQueryFactory queryFactory,
+                                      EntityManager entityManager,
+                                      ProductCountCache productCountCache,
+                                      ProductSearchIndex productSearchIndex,
+                                      BestSellerRanking bestSellerRanking,
+                                      @Value("${ecommerce.product.count.cap:10000}") int countCap) {
+        this.queryFactory = queryFactory;
+        this.entityManager = entityManager;
+        this.productCountCache = productCountCache;
+        this.productSearchIndex = productSearchIndex;
+        this.bestSellerRanking = bestSellerRanking;
+        this.countCap = countCap;
+    }
 
     @Override
     public Page<ProductSummaryDto> searchProducts(
             ProductSearchCondition condition,
             Pageable pageable
     ) {
+        return searchProducts(condition, pageable, CountType.EXACT).page();
+    }
+
+    /*
+        상품 검색 + 건수 계산 방식 선택
+        - EXACT  : count 쿼리
+        - CAPPED : id 를 최대 countCap + 1 건만 조회해서 상한을 넘는지 판단 (넘으면 countCap 으로 표시)
+        - CACHED : 정규화된 검색 조건별 캐시 (ProductCountCache)
+        마지막 페이지처럼 조회 결과만으로 건수를 알 수 있으면 count 쿼리 자체를 생략 (PageableExecutionUtils)
+        키워드 검색은 검색 색인을 사용할 수 있으면 색인으로 처리 (건수도 색인에서 정확히 계산)
+        인기순(sort=popularity)은 판매 순위를 먼저, 나머지를 id 내림차순으로 (findByPopularity)
+     */
+    @Override
+    public CountedPage<ProductSummaryDto> searchProducts(
+            ProductSearchCondition condition,
+            Pageable pageable,
+            CountType countType
+    ) {
 
         QProduct product = QProduct.product;
         QCategory category = QCategory.category;
         QMember member = QMember.member;
 
+        Optional<ProductSearchHits> hits = productSearchIndex.search(condition, pageable);
+        if (hits.isPresent()) {
+            return new CountedPage<>(findSummariesByIds(hits.get(), pageable), CountType.EXACT);
+        }
+
         // tuple
 //        List<Tuple> tuples = queryFactory
 //                .select(member.name, member.email)
@@ -47,44 +114,294 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository{
 //            String email = tuple.get(member.email);
 //        }
 
-        List<ProductSummaryDto> content = queryFactory
-                .select(Projections.constructor(ProductSummaryDto.class,
-                        product.id,
-                        product.name,
-                        product.price,
-                        product.stockQuantity,
-                        category.name.coalesce("분류 없음").as("categoryName"),
-                        product.status))
+        List<ProductSummaryDto> content = isPopularitySort(pageable)
+                ? findByPopularity(condition, pageable)
+                : queryFactory
+                        .select(summaryProjection(product, category))
+                        .from(product)
+                        .leftJoin(category).on(product.categoryId.eq(category.id))
+                        .where(searchConditions(condition))
+                        .offset(pageable.getOffset())
+                        .limit(pageable.getPageSize())
+                        .orderBy(getOrderSpecifier(pageable, product))
+                        .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(product.count())
+                .from(product)
+                .where(searchConditions(condition));
+
+        switch (countType) {
+            case CAPPED: {
+                Page<ProductSummaryDto> page = PageableExecutionUtils.getPage(content, pageable, () -> cappedCount(condition));
+                if (page.getTotalElements() <= countCap) {
+                    return new CountedPage<>(page, CountType.EXACT);
+                }
+                return new CountedPage<>(new PageImpl<>(content, pageable, countCap), CountType.CAPPED);
+            }
+
+            case CACHED:
+                return new CountedPage<>(PageableExecutionUtils.getPage(content, pageable,
+                        () -> productCountCache.get(condition, () -> fetchCount(countQuery))), CountType.CACHED);
+
+            default:
+                return new CountedPage<>(PageableExecutionUtils.getPage(content, pageable, () -> fetchCount(countQuery)), CountType.EXACT);
+        }
+    }
+
+    private static boolean isPopularitySort(Pageable pageable) {
+        return pageable.getSort().stream()
+                .findFirst()
+                .map(order -> order.getProperty().equals("popularity"))
+                .orElse(false);
+    }
+
+    /*
+        인기순 페이지 (판매 순위는 메모리에만 있으므로 SQL 로 정렬할 수 없음)
+        1. 순위에 든 상품(최대 top-k) 중 조건에 맞는 id 를 한 번에 조회해서 순위 순서로
+        2. 페이지가 순위 목록을 넘어가면 나머지 상품을 id 내림차순으로 이어 붙임
+        정렬 방향과 관계없이 많이 팔린 순
+     */
+    private List<ProductSummaryDto> findByPopularity(ProductSearchCondition condition, Pageable pageable) {
+        QProduct product = QProduct.product;
+        QCategory category = QCategory.category;
+
+        List<Long> rankedIds = bestSellerRanking.popularity().products().stream()
+                .map(BestSeller::productId)
+                .toList();
+
+        List<Long> orderedIds = List.of();
+        if (!rankedIds.isEmpty()) {
+            Set<Long> matched = new HashSet<>(queryFactory
+                    .select(product.id)
+                    .from(product)
+                    .where(searchConditions(condition))
+                    .where(product.id.in(rankedIds))
+                    .fetch());
+            orderedIds = rankedIds.stream()
+                    .filter(matched::contains)
+                    .toList();
+        }
+
+        long offset = pageable.getOffset();
+        List<ProductSummaryDto> content = new ArrayList<>(pageable.getPageSize());
+
+        if (offset < orderedIds.size()) {
+            int to = (int) Math.min(orderedIds.size(), offset + pageable.getPageSize());
+            content.addAll(findSummariesByIds(orderedIds.subList((int) offset, to)));
+        }
+
+        int remaining = pageable.getPageSize() - content.size();
+        if (remaining > 0) {
+            content.addAll(queryFactory
+                    .select(summaryProjection(product, category))
+                    .from(product)
+                    .leftJoin(category).on(product.categoryId.eq(category.id))
+                    .where(searchConditions(condition))
+                    .where(orderedIds.isEmpty() ? null : product.id.notIn(orderedIds))
+                    .offset(Math.max(0, offset - orderedIds.size()))
+                    .limit(remaining)
+                    .orderBy(product.id.desc())
+                    .fetch());
+        }
+
+        return content;
+    }
+
+    // 색인이 정한 순서대로 해당 페이지 상품만 조회
+    private Page<ProductSummaryDto> findSummariesByIds(ProductSearchHits hits, Pageable pageable) {
+        return new PageImpl<>(findSummariesByIds(hits.ids()), pageable, hits.total());
+    }
+
+    /*
+        id 목록 순서대로 목록용 프로젝션 조회 (검색 색인, 패싯 색인 결과)
+     */
+    @Override
+    public List<ProductSummaryDto> findSummariesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        QProduct product = QProduct.product;
+        QCategory category = QCategory.category;
+
+        Map<Long, ProductSummaryDto> summaries = queryFactory
+                .select(summaryProjection(product, category))
+                .from(product)
+                .leftJoin(category).on(product.categoryId.eq(category.id))
+                .where(product.id.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(ProductSummaryDto::id, Function.identity()));
+
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /*
+        페이징 없이 조건에 맞는 판매중 상품 전체 (카테고리별 전체 목록)
+     */
+    @Override
+    public List<ProductSummaryDto> findSummaries(ProductSearchCondition condition) {
+        QProduct product = QProduct.product;
+        QCategory category = QCategory.category;
+
+        return queryFactory
+                .select(summaryProjection(product, category))
                 .from(product)
                 .leftJoin(category).on(product.categoryId.eq(category.id))
-                .where(
-                        keywordContains(condition.keyword()),
-                        categoryIdEq(condition.categoryId()),
-                        priceGoe(BigDecimal.valueOf(condition.minPrice())),
-                        priceLoe(BigDecimal.valueOf(condition.maxPrice())),
-                        sellerIdEq(condition.sellerId()),
-                        statusActive()
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(getOrderSpecifier(pageable, product))
+                .where(searchConditions(condition))
+                .orderBy(product.id.desc())
                 .fetch();
+    }
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(product.count())
+    // 목록용 컬럼만 선택 (description 같은 TEXT 컬럼은 읽지 않음)
+    private ConstructorExpression<ProductSummaryDto> summaryProjection(QProduct product, QCategory category) {
+        return Projections.constructor(ProductSummaryDto.class,
+                product.id,
+                product.name,
+                product.price,
+                product.stockQuantity,
+                category.name.coalesce("분류 없음").as("categoryName"),
+                product.status);
+    }
+
+    private long fetchCount(JPAQuery<Long> countQuery) {
+        Long count = countQuery.fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    /*
+        상한 + 1 건까지만 세기 (인덱스에서 id 만 읽고 멈춤)
+        - select count(*) from (select p.id ... limit cap + 1) - id 목록을 애플리케이션으로 가져오지 않음
+        - Querydsl 은 from 절 서브쿼리를 만들 수 없으므로 검색 조건 부분만 JPQL 로 직렬화해서 HQL 로 감쌈 (Hibernate 6)
+     */
+    private long cappedCount(ProductSearchCondition condition) {
+        QProduct product = QProduct.product;
+
+        JPAQuery<Long> ids = queryFactory
+                .select(product.id)
+                .from(product)
+                .where(searchConditions(condition));
+
+        JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT, entityManager);
+        serializer.serialize(ids.getMetadata(), false, null);
+
+        TypedQuery<Long> query = entityManager.createQuery(
+                "select count(*) from (" + serializer + " limit " + (countCap + 1L) + ") capped", Long.class);
+        JPAUtil.setConstants(query, serializer.getConstants(), ids.getMetadata().getParams());
+
+        return query.getSingleResult();
+    }
+
+
+    /*
+        커서(키셋) 기반 상품 조회
+        - (정렬 값, id) 가 커서보다 뒤에 있는 상품만 조회 -> 앞 페이지를 읽고 버리지 않음
+        - 정렬 순서와 같은 (status, 정렬 컬럼, id) 인덱스를 그대로 탈 수 있도록
+          "정렬 값 <= 커서 값 and (정렬 값 < 커서 값 or id < 커서 id)" 형태로 조건 작성
+        - size + 1 건을 조회해서 다음 페이지 여부 판단 (count 쿼리 없음)
+     */
+    @Override
+    public CursorPage<ProductResponse> scrollProducts(
+            ProductSearchCondition condition,
+            ProductCursor cursor,
+            int size
+    ) {
+        QProduct product = QProduct.product;
+        QCategory category = QCategory.category;
+
+        List<Tuple> rows = queryFactory
+                .select(summaryProjection(product, category), product.createdAt)
                 .from(product)
-                .where(
-                        keywordContains(condition.keyword()),
-                        categoryIdEq(condition.categoryId()),
-                        priceGoe(BigDecimal.valueOf(condition.minPrice())),
-                        priceLoe(BigDecimal.valueOf(condition.maxPrice())),
-                        sellerIdEq(condition.sellerId()),
-                        statusActive()
-                );
+                .leftJoin(category).on(product.categoryId.eq(category.id))
+                .where(searchConditions(condition))
+                .where(afterCursor(cursor, product))
+                .orderBy(getCursorOrderSpecifiers(cursor, product))
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<ProductResponse> content = pageRows.stream()
+                .map(row -> ProductResponse.from(row.get(0, ProductSummaryDto.class)))
+                .toList();
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        String nextCursor = null;
+        if(hasNext) {
+            Tuple last = pageRows.get(pageRows.size() - 1);
+            ProductSummaryDto lastProduct = last.get(0, ProductSummaryDto.class);
+            LocalDateTime lastCreatedAt = last.get(product.createdAt);
+
+            nextCursor = cursor.next(lastProduct.id(), lastProduct.price(), lastCreatedAt).encode();
+        }
+
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+
+    /**
+     * 커서 이후 조건 (정렬 값이 같으면 id 로 비교)
+     * @param cursor
+     * @param product
+     * @return BooleanExpression
+     */
+    private BooleanExpression afterCursor(ProductCursor cursor, QProduct product) {
+        if (cursor.isFirst()) {
+            return null;
+        }
+
+        Long id = cursor.id();
+
+        switch (cursor.sort()) {
+            case "price": {
+                Long price = cursor.priceValue();
+                return cursor.ascending()
+                        ? product.price.goe(price).and(product.price.gt(price).or(product.id.gt(id)))
+                        : product.price.loe(price).and(product.price.lt(price).or(product.id.lt(id)));
+            }
+
+            case "createdAt": {
+                LocalDateTime createdAt = cursor.createdAtValue();
+                return cursor.ascending()
+                        ? product.createdAt.goe(createdAt).and(product.createdAt.gt(createdAt).or(product.id.gt(id)))
+                        : product.createdAt.loe(createdAt).and(product.createdAt.lt(createdAt).or(product.id.lt(id)));
+            }
+
+            default:
+                return cursor.ascending() ? product.id.gt(id) : product.id.lt(id);
+        }
+    }
+
+    private OrderSpecifier<?>[] getCursorOrderSpecifiers(ProductCursor cursor, QProduct product) {
+        OrderSpecifier<Long> idOrder = cursor.ascending() ? product.id.asc() : product.id.desc();
+
+        switch (cursor.sort()) {
+            case "price":
+                return new OrderSpecifier<?>[]{
+                        cursor.ascending() ? product.price.asc() : product.price.desc(), idOrder};
+
+            case "createdAt":
+                return new OrderSpecifier<?>[]{
+                        cursor.ascending() ? product.createdAt.asc() : product.createdAt.desc(), idOrder};
+
+            default:
+                return new OrderSpecifier<?>[]{idOrder};
+        }
     }
 
+    private BooleanExpression[] searchConditions(ProductSearchCondition condition) {
+        return new BooleanExpression[]{
+                keywordContains(condition.keyword()),
+                categoryIdEq(condition.categoryId()),
+                priceGoe(condition.minPrice()),
+                priceLoe(condition.maxPrice()),
+                sellerIdEq(condition.sellerId()),
+                statusActive()
+        };
+    }
 
     /**
      * 키워드 검색 조건 (상품명 또는 설명에 포함)
@@ -102,19 +419,28 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository{
     }
 
     /**
-     *  카테고리 ID 조건
+     *  카테고리 ID 조건 (하위 카테고리 포함, category_closure 의 PK 로 하위 카테고리 id 조회)
      * @param categoryId
      * @return BooleanExpression
      */
     private BooleanExpression categoryIdEq(Long categoryId) {
-        return categoryId != null ? QProduct.product.categoryId.eq(categoryId) : null;
+        if(categoryId == null) {
+            return null;
+        }
+
+        QCategoryClosure closure = QCategoryClosure.categoryClosure;
+        return QProduct.product.categoryId.in(
+                JPAExpressions.select(closure.descendantId)
+                        .from(closure)
+                        .where(closure.ancestorId.eq(categoryId))
+        );
     }
 
-    private BooleanExpression priceGoe(BigDecimal minPrice) {
+    private BooleanExpression priceGoe(Long minPrice) {
         return minPrice != null ? QProduct.product.price.goe(minPrice) : null;
     }
 
-    private BooleanExpression priceLoe(BigDecimal maxPrice) {
+    private BooleanExpression priceLoe(Long maxPrice) {
         return maxPrice != null ? QProduct.product.price.loe(maxPrice) : null;
     }
 
@@ -126,7 +452,7 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository{
         return QProduct.product.status.eq(ProductStatus.ACTIVE);
     }
 
-    private BooleanExpression priceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+    private BooleanExpression priceBetween(Long minPrice, Long maxPrice) {
         return priceGoe(minPrice).and(priceLoe(maxPrice));
     }
 
@@ -144,6 +470,9 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository{
                     case "createdAt":
                         return order.isAscending() ? product.createdAt.asc() : product.createdAt.desc();
 
+                    case "name":
+                        return order.isAscending() ? product.name.asc() : product.name.desc();
+
                     default:
                         return product.id.desc();
                 }
@@ -8,9 +8,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,40 @@ public interface ProductRepository extends JpaRepository<Product, Long> , Produc
     @Query("select p from Product p where p.id = :id")
     Optional<Product> findByIdWithPessimisticLock(@Param("id") Long productId);
 
+    // 여러 상품을 한 번의 SELECT ... FOR UPDATE 로 잠금 (id 순서로 잠가서 교착상태 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id in :ids order by p.id")
+    List<Product> findAllByIdInWithPessimisticLock(@Param("ids") Collection<Long> productIds);
+
+    // 재고가 충분할 때만 차감하는 조건부 UPDATE (재고가 0이 되면 SOLD_OUT)
+    // MySQL 은 SET 절을 왼쪽부터 평가하므로 status 를 stockQuantity 보다 먼저 갱신
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.status = case when p.stockQuantity = :quantity then :soldOut else p.status end, " +
+            "p.stockQuantity = p.stockQuantity - :quantity, p.version = p.version + 1 " +
+            "where p.id = :id and p.stockQuantity >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long productId,
+                                 @Param("quantity") int quantity,
+                                 @Param("soldOut") ProductStatus soldOut);
+
+    // 재고 증가 (SOLD_OUT 상품은 다시 ACTIVE)
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.status = case when p.status = :soldOut then :active else p.status end, " +
+            "p.stockQuantity = p.stockQuantity + :quantity, p.version = p.version + 1 " +
+            "where p.id = :id")
+    int increaseStock(@Param("id") Long productId,
+                      @Param("quantity") int quantity,
+                      @Param("soldOut") ProductStatus soldOut,
+                      @Param("active") ProductStatus active);
+
+    // 버전이 일치할 때만 재고를 변경 (낙관적 락)
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stockQuantity = :stockQuantity, p.status = :status, p.version = p.version + 1 " +
+            "where p.id = :id and p.version = :version")
+    int updateStockIfVersionMatches(@Param("id") Long productId,
+                                    @Param("stockQuantity") int stockQuantity,
+                                    @Param("status") ProductStatus status,
+                                    @Param("version") Long version);
+
     @Lock(LockModeType.OPTIMISTIC)
     @Query("select p from Product p where p.id = :id")
     Optional<Product> findByIdWithOptimisticLock(@Param("id") Long productId);
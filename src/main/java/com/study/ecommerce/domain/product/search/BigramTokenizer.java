@@ -0,0 +1,59 @@
+package com.study.ecommerce.domain.product.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/*
+    2-gram 토크나이저 (한글은 형태소 분석 없이 글자 단위로 잘라서 부분 검색 지원)
+    - 소문자 변환 후 문자/숫자가 아닌 문자를 기준으로 단어 분리
+    - 단어마다 연속된 두 글자를 토큰으로 사용: "노트북" -> [노트, 트북]
+    - 한 글자 단어는 색인하지 않음 (한 글자 검색어는 SQL 로 처리)
+ */
+final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if(text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for(int i = 0; i <= lower.length(); i++) {
+            boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+
+            if(letter && start < 0) {
+                start = i;
+            } else if(!letter && start >= 0) {
+                addBigrams(lower, start, i, tokens);
+                start = -1;
+            }
+        }
+
+        return tokens;
+    }
+
+    // 검색어에 한 글자 단어가 있으면 색인으로 정확히 찾을 수 없음
+    static boolean isSearchable(String keyword) {
+        if(keyword == null || keyword.isBlank()) {
+            return false;
+        }
+
+        for(String term : keyword.split("[^\\p{L}\\p{N}]+")) {
+            if(term.length() == 1) {
+                return false;
+            }
+        }
+        return !tokenize(keyword).isEmpty();
+    }
+
+    private static void addBigrams(String text, int start, int end, Set<String> tokens) {
+        for(int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
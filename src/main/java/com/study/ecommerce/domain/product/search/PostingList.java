@@ -0,0 +1,68 @@
+package com.study.ecommerce.domain.product.search;
+
+import java.util.Arrays;
+
+/*
+    토큰별 상품 id 목록 (정렬된 long 배열, 박싱 없음)
+    - 상품 id 는 증가하므로 대부분 끝에 추가됨
+ */
+final class PostingList {
+    private long[] ids = new long[4];
+    private int size;
+
+    void add(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if(index >= 0) {
+            return;
+        }
+
+        int insertAt = -index - 1;
+        if(size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if(index < 0) {
+            return;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // 정렬된 후보 목록과 교집합 (후보가 null 이면 전체)
+    long[] intersect(long[] candidates) {
+        if(candidates == null) {
+            return Arrays.copyOf(ids, size);
+        }
+
+        long[] result = new long[Math.min(candidates.length, size)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+
+        while(i < candidates.length && j < size) {
+            if(candidates[i] == ids[j]) {
+                result[count++] = candidates[i];
+                i++;
+                j++;
+            } else if(candidates[i] < ids[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+}
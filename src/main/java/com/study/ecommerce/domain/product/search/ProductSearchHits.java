@@ -0,0 +1,12 @@
+package com.study.ecommerce.domain.product.search;
+
+import java.util.List;
+
+/*
+    색인 검색 결과 - 요청한 페이지의 상품 id (정렬 순서 유지) + 전체 건수
+ */
+public record ProductSearchHits(
+        List<Long> ids,
+        long total
+) {
+}
@@ -0,0 +1,455 @@
+package com.study.ecommerce.domain.product.search;
+
+import com.study.ecommerce.domain.category.tree.CategoryTreeCache;
+import com.study.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.study.ecommerce.domain.product.dto.req.ProductSearchCondition;
+import com.study.ecommerce.domain.product.event.ProductChangedEvent;
+import com.study.ecommerce.domain.product.event.ProductsImportedEvent;
+import com.study.ecommerce.domain.product.event.ProductsUpdatedEvent;
+import com.study.ecommerce.domain.product.ranking.BestSellerRanking;
+import com.study.ecommerce.domain.product.ranking.BestSellerSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    상품명 + 설명 역색인 (메모리, 2-gram)
+    - LIKE '%키워드%' 는 인덱스를 탈 수 없으므로 토큰별 상품 id 목록(PostingList)의 교집합으로 후보를 찾음
+    - 검색어의 모든 2-gram 을 포함하는 후보 중 상품명/설명에 검색어가 그대로 들어 있는 상품만 결과로 사용
+      (SQL 검색의 대소문자 무시 LIKE 와 같은 결과, 비교용으로 소문자 상품명/설명을 함께 보관)
+    - 카테고리(하위 포함) / 가격 / 판매자 / 판매 상태 필터와 정렬, 페이징은 메모리에서 처리하고 해당 페이지의 id 만 반환
+      (인기순 popularity 는 BestSellerRanking 의 주문 수량)
+    - 상품 등록/수정/삭제(일괄 수정 포함) 이벤트로 해당 상품만 다시 색인
+    - 재고 차감/복구로 판매 상태가 바뀌었을 수 있는 상품(주문 생성 이벤트, markStockChanged)은 모아서
+      stock-sync-interval 마다 한 번의 조회 / 한 번의 쓰기 락으로 다시 색인
+    - 비활성화, 재구축 전, 한 글자 검색어는 empty 를 반환 -> 호출하는 쪽에서 SQL 로 처리
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+    private static final String SELECT_SQL =
+            "SELECT id, name, description, category_id, seller_id, price, created_at, status FROM product";
+    private static final int LOAD_CHUNK = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CategoryTreeCache categoryTreeCache;
+    private final BestSellerRanking bestSellerRanking;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private IndexData data = new IndexData();
+    private volatile boolean ready;
+
+    // 재구축 중에 변경된 상품 id (재구축 결과를 반영한 뒤 다시 색인)
+    private boolean rebuilding;
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+
+    // 재고가 바뀌어 다시 색인할 상품 id
+    private final Set<Long> stockChangedProductIds = ConcurrentHashMap.newKeySet();
+
+    public ProductSearchIndex(JdbcTemplate jdbcTemplate,
+                              CategoryTreeCache categoryTreeCache,
+                              BestSellerRanking bestSellerRanking,
+                              @Value("${ecommerce.product.search-index.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.categoryTreeCache = categoryTreeCache;
+        this.bestSellerRanking = bestSellerRanking;
+        this.enabled = enabled;
+    }
+
+    public boolean isAvailable(String keyword) {
+        return enabled && ready && BigramTokenizer.isSearchable(keyword);
+    }
+
+    public Optional<ProductSearchHits> search(ProductSearchCondition condition, Pageable pageable) {
+        if(!isAvailable(condition.keyword())) {
+            return Optional.empty();
+        }
+
+        Set<String> tokens = BigramTokenizer.tokenize(condition.keyword());
+        String keyword = condition.keyword().toLowerCase(Locale.ROOT);
+        List<ProductDocument> matched = new ArrayList<>();
+
+        // 카테고리 조건은 하위 카테고리까지 포함 (SQL 검색의 category_closure 조건과 같은 결과)
+        Set<Long> categoryIds = condition.categoryId() != null
+                ? categoryTreeCache.current().descendantIds(condition.categoryId())
+                : null;
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(tokens.size());
+            for(String token : tokens) {
+                Integer tokenId = data.tokenIds.get(token);
+                if(tokenId == null) {
+                    return Optional.of(new ProductSearchHits(List.of(), 0));
+                }
+                lists.add(data.postings.get(tokenId));
+            }
+
+            // 가장 짧은 목록부터 교집합 (후보 수를 빨리 줄이기 위해)
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            long[] candidates = null;
+            for(PostingList list : lists) {
+                candidates = list.intersect(candidates);
+                if(candidates.length == 0) {
+                    break;
+                }
+            }
+
+            for(long id : candidates) {
+                ProductDocument document = data.documents.get(id);
+                if(document != null && document.matches(condition, categoryIds) && document.contains(keyword)) {
+                    matched.add(document);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matched.sort(comparator(pageable.getSort()));
+
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        List<Long> pageIds = matched.subList(from, to).stream()
+                .map(ProductDocument::id)
+                .toList();
+
+        return Optional.of(new ProductSearchHits(pageIds, matched.size()));
+    }
+
+    /*
+        전체 재구축 - 새 색인을 락 없이 만든 뒤 교체 (그동안 검색은 이전 색인 사용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ecommerce.product.search-index.rebuild-interval:1h}",
+            fixedDelayString = "${ecommerce.product.search-index.rebuild-interval:1h}")
+    public synchronized void rebuild() {
+        if(!enabled) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IndexData rebuilt = new IndexData();
+        try {
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                rebuilt.add(toDocumentSource(rs));
+            });
+        } catch (RuntimeException e) {
+            log.error("상품 검색 색인 재구축 실패: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            data = rebuilt;
+            for(Long productId : changedDuringRebuild) {
+                reindexLocked(productId, load(productId));
+            }
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("상품 검색 색인 재구축: 상품 {}건, 토큰 {}개 (소요시간: {} ms)",
+                rebuilt.documents.size(), rebuilt.tokenIds.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // 대량 등록은 상품마다 반영하지 않고 전체 재구축
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductsImported(ProductsImportedEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductChanged(ProductChangedEvent event) {
+        if(!enabled) {
+            return;
+        }
+
+        Long productId = event.getProductId();
+        Optional<DocumentSource> source = load(productId);
+
+        lock.writeLock().lock();
+        try {
+            reindexLocked(productId, source);
+            if(rebuilding) {
+                changedDuringRebuild.add(productId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 일괄 수정: 청크의 상품을 한 번의 조회로 읽어 한 번의 쓰기 락 안에서 다시 색인
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductsUpdated(ProductsUpdatedEvent event) {
+        if(!enabled || event.getProductIds().isEmpty()) {
+            return;
+        }
+
+        Map<Long, DocumentSource> sources = new HashMap<>();
+        for(DocumentSource source : loadAll(event.getProductIds())) {
+            sources.put(source.id(), source);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for(Long productId : event.getProductIds()) {
+                reindexLocked(productId, Optional.ofNullable(sources.get(productId)));
+            }
+            if(rebuilding) {
+                changedDuringRebuild.addAll(event.getProductIds());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 주문으로 재고가 줄어든 상품 (품절로 바뀌었을 수 있음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleOrderCreated(OrderCreatedEvent event) {
+        List<Long> productIds = event.getLines().stream()
+                .map(OrderCreatedEvent.Line::productId)
+                .toList();
+        markStockChanged(productIds);
+    }
+
+    /*
+        재고 차감/복구로 판매 상태가 바뀌었을 수 있는 상품 (다음 stock-sync-interval 에 다시 색인)
+        - 트랜잭션 안이면 커밋된 뒤에 등록 (커밋 전 상태로 색인하지 않도록)
+     */
+    public void markStockChanged(Collection<Long> productIds) {
+        if(!enabled || productIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = List.copyOf(productIds);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stockChangedProductIds.addAll(ids);
+                }
+            });
+            return;
+        }
+
+        stockChangedProductIds.addAll(ids);
+    }
+
+    @Scheduled(fixedDelayString = "${ecommerce.product.search-index.stock-sync-interval:2s}")
+    public void reindexStockChanged() {
+        if(!enabled || stockChangedProductIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> productIds = new ArrayList<>(stockChangedProductIds);
+        stockChangedProductIds.removeAll(productIds);
+
+        Map<Long, DocumentSource> sources = new HashMap<>();
+        for(int from = 0; from < productIds.size(); from += LOAD_CHUNK) {
+            for(DocumentSource source : loadAll(productIds.subList(from, Math.min(from + LOAD_CHUNK, productIds.size())))) {
+                sources.put(source.id(), source);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            for(Long productId : productIds) {
+                reindexLocked(productId, Optional.ofNullable(sources.get(productId)));
+            }
+            if(rebuilding) {
+                changedDuringRebuild.addAll(productIds);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.debug("재고 변경 상품 다시 색인: {}건", productIds.size());
+    }
+
+    private void reindexLocked(Long productId, Optional<DocumentSource> source) {
+        data.remove(productId);
+        source.ifPresent(data::add);
+    }
+
+    private Optional<DocumentSource> load(Long productId) {
+        List<DocumentSource> sources = jdbcTemplate.query(SELECT_SQL + " WHERE id = ?",
+                (rs, rowNum) -> toDocumentSource(rs), productId);
+        return sources.stream().findFirst();
+    }
+
+    private List<DocumentSource> loadAll(Collection<Long> productIds) {
+        String placeholders = String.join(", ", Collections.nCopies(productIds.size(), "?"));
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id IN (" + placeholders + ")",
+                (rs, rowNum) -> toDocumentSource(rs), productIds.toArray());
+    }
+
+    private DocumentSource toDocumentSource(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+
+        return new DocumentSource(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getObject("category_id", Long.class),
+                rs.getObject("seller_id", Long.class),
+                rs.getLong("price"),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                "ACTIVE".equals(rs.getString("status")));
+    }
+
+    // 기존 SQL 검색과 같은 정렬 (첫 번째 정렬 조건만 사용, 기본 id 내림차순)
+    private Comparator<ProductDocument> comparator(Sort sort) {
+        Comparator<ProductDocument> idDesc = Comparator.comparingLong(ProductDocument::id).reversed();
+
+        for(Sort.Order order : sort) {
+            Comparator<ProductDocument> comparator;
+            switch (order.getProperty()) {
+                case "price":
+                    comparator = Comparator.comparingLong(ProductDocument::price);
+                    break;
+                case "createdAt":
+                    comparator = Comparator.comparing(ProductDocument::createdAt,
+                            Comparator.nullsFirst(Comparator.naturalOrder()));
+                    break;
+                case "popularity":
+                    // 방향과 관계없이 많이 팔린 순, 정렬하는 동안 같은 순위를 쓰도록 한 번만 읽음
+                    BestSellerSnapshot popularity = bestSellerRanking.popularity();
+                    return Comparator.comparingLong((ProductDocument document) -> popularity.quantity(document.id()))
+                            .reversed()
+                            .thenComparing(idDesc);
+                default:
+                    return idDesc;
+            }
+
+            return (order.isAscending() ? comparator : comparator.reversed()).thenComparing(idDesc);
+        }
+
+        return idDesc;
+    }
+
+    private record DocumentSource(
+            long id,
+            String name,
+            String description,
+            Long categoryId,
+            Long sellerId,
+            long price,
+            LocalDateTime createdAt,
+            boolean active
+    ) {
+    }
+
+    private record ProductDocument(
+            long id,
+            String name,
+            String description,
+            Long categoryId,
+            Long sellerId,
+            long price,
+            LocalDateTime createdAt,
+            boolean active,
+            int[] tokenIds
+    ) {
+
+        boolean matches(ProductSearchCondition condition, Set<Long> categoryIds) {
+            return active
+                    && (categoryIds == null || categoryIds.contains(categoryId))
+                    && (condition.sellerId() == null || condition.sellerId().equals(sellerId))
+                    && (condition.minPrice() == null || price >= condition.minPrice())
+                    && (condition.maxPrice() == null || price <= condition.maxPrice());
+        }
+
+        // 2-gram 후보 확인 (name, description 은 소문자로 보관)
+        boolean contains(String keyword) {
+            return (name != null && name.contains(keyword))
+                    || (description != null && description.contains(keyword));
+        }
+    }
+
+    // 토큰 사전 (토큰 -> 번호) + 번호별 PostingList + 상품별 문서
+    private static final class IndexData {
+        private final Map<String, Integer> tokenIds = new HashMap<>();
+        private final List<PostingList> postings = new ArrayList<>();
+        private final Map<Long, ProductDocument> documents = new HashMap<>();
+
+        void add(DocumentSource source) {
+            Set<String> tokens = BigramTokenizer.tokenize(source.name());
+            tokens.addAll(BigramTokenizer.tokenize(source.description()));
+
+            int[] ids = new int[tokens.size()];
+            int index = 0;
+            for(String token : tokens) {
+                int tokenId = tokenIds.computeIfAbsent(token, key -> {
+                    postings.add(new PostingList());
+                    return postings.size() - 1;
+                });
+
+                postings.get(tokenId).add(source.id());
+                ids[index++] = tokenId;
+            }
+
+            documents.put(source.id(), new ProductDocument(source.id(),
+                    lower(source.name()), lower(source.description()), source.categoryId(), source.sellerId(),
+                    source.price(), source.createdAt(), source.active(), ids));
+        }
+
+        private static String lower(String text) {
+            return text != null ? text.toLowerCase(Locale.ROOT) : null;
+        }
+
+        void remove(long productId) {
+            ProductDocument document = documents.remove(productId);
+            if(document == null) {
+                return;
+            }
+
+            for(int tokenId : document.tokenIds()) {
+                postings.get(tokenId).remove(productId);
+            }
+        }
+    }
+}
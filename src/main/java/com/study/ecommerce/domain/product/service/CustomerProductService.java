@@ -1,59 +1,79 @@
 package com.study.ecommerce.domain.product.service;
 
-import com.study.ecommerce.domain.category.entity.Category;
+import com.study.ecommerce.domain.category.dto.resp.CategoryResponse;
 import com.study.ecommerce.domain.category.repository.CategoryRepository;
+import com.study.ecommerce.domain.category.tree.CategoryTreeCache;
+import com.study.ecommerce.domain.category.tree.CategoryTreeSnapshot;
+import com.study.ecommerce.domain.product.cache.ProductCache;
+import com.study.ecommerce.domain.product.cache.ProductSnapshot;
+import com.study.ecommerce.domain.product.dto.req.ProductCursor;
+import com.study.ecommerce.domain.product.dto.req.ProductFacetCondition;
+import com.study.ecommerce.domain.product.dto.req.ProductSearchCondition;
+import com.study.ecommerce.domain.product.dto.resp.BestSellerResponse;
+import com.study.ecommerce.domain.product.dto.resp.ProductFacetResponse;
 import com.study.ecommerce.domain.product.dto.resp.ProductResponse;
-import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.dto.resp.ProductSummaryDto;
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+import com.study.ecommerce.domain.product.facet.ProductFacetIndex;
+import com.study.ecommerce.domain.product.facet.ProductFacetResult;
+import com.study.ecommerce.domain.product.ranking.BestSeller;
+import com.study.ecommerce.domain.product.ranking.BestSellerRanking;
+import com.study.ecommerce.domain.product.ranking.RankingWindow;
 import com.study.ecommerce.domain.product.repository.ProductRepository;
+import com.study.ecommerce.global.common.page.CursorPage;
+import com.study.ecommerce.global.error.ErrorCode;
+import com.study.ecommerce.global.error.exception.BusinessException;
 import com.study.ecommerce.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Stream;
-
-import static com.study.ecommerce.domain.product.entity.Product.ProductStatus.ACTIVE;
-
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+    판매중인 상품 조회 (고객용)
+    - 목록 조회는 모두 DTO 프로젝션 (id, 이름, 가격, 재고, 상태, 카테고리명) - description(TEXT) 은 읽지 않음
+    - 상품 엔티티(또는 상세 캐시)는 상세 조회에서만 사용
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CustomerProductService {
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final int MAX_BEST_SELLERS = 100;
+    private static final Set<ProductStatus> SHOP_STATUSES = Set.of(ProductStatus.ACTIVE, ProductStatus.SOLD_OUT);
 
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductCache productCache;
+    private final CategoryTreeCache categoryTreeCache;
+    private final BestSellerRanking bestSellerRanking;
 
     /*
-        카테고리별 판매중인 상품을 전체 조회
+        카테고리별 판매중인 상품을 전체 조회 (하위 카테고리 상품 포함)
         List<ProductResponse> getActiveProductsByCategory
         param Long categoryId
      */
     public List<ProductResponse> getActiveProductsByCategory(Long categoryId) {
         // 카테고리의 존재
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다."));
-
-        // 해당 카테고리의 판매 중인 상품을 찾는다
-        List<Product> products = productRepository.findByCategoryIdAndStatus(categoryId, ACTIVE);
-
-        return products.stream()
-                .map(product -> new ProductResponse(
-                                product.getId(),
-                                product.getName(),
-                                product.getDescription(),
-                                product.getPrice(),
-                                product.getStockQuantity(),
-                                product.getStatus(),
-                                category.getName()
-                ))
+        if(!categoryRepository.existsById(categoryId)) {
+            throw new EntityNotFoundException("카테고리를 찾을 수 없습니다.");
+        }
+
+        return productRepository.findSummaries(new ProductSearchCondition(null, categoryId, null, null, null)).stream()
+                .map(ProductResponse::from)
                 .toList();
     }
 
@@ -62,92 +82,138 @@ public class CustomerProductService {
         Page<ProductResponse> getAllActiveProducts
      */
     public Page<ProductResponse> getAllActiveProducts(Pageable pageable) {
-        Page<Product> products = productRepository.findByStatus(ACTIVE, pageable);
-
-        if(products.isEmpty()) {
-            return products.map(product -> new ProductResponse(
-                    product.getId(),
-                    product.getName(),
-                    product.getDescription(),
-                    product.getPrice(),
-                    product.getStockQuantity(),
-                    product.getStatus(),
-                    "분류 없음"
-            ));
-        }
+        return search(new ProductSearchCondition(null, null, null, null, null), pageable);
+    }
 
-        // 카테고리 정보를 조회, 효율적으로 조회를 하기 위해서 맵 생성
-        List<Long> categoryIds = products.getContent().stream()
-                .map(Product::getCategoryId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
+    /*
+        커서 기반 판매 중인 상품 조회 (깊은 페이지도 offset 없이 조회)
+        param String cursor (첫 페이지는 null), size, Sort (첫 페이지에서만 사용)
+        keyword, categoryId 는 선택
+     */
+    public CursorPage<ProductResponse> scrollActiveProducts(String keyword, Long categoryId, String cursor, int size, Sort sort) {
+        ProductSearchCondition condition = new ProductSearchCondition(keyword, categoryId, null, null, null);
 
-        Map<Long, String> categoryMap = new HashMap<>();
-        if(!categoryIds.isEmpty()) {
-            List<Category> categories = categoryRepository.findAllById(categoryIds);
-            categories.forEach(category ->
-                    categoryMap.put(category.getId(), category.getName()));
+        return productRepository.scrollProducts(condition, ProductCursor.of(cursor, sort),
+                Math.min(Math.max(size, 1), MAX_SCROLL_SIZE));
+    }
+
+    /*
+        패싯 조회 (카테고리 / 가격 구간 / 판매자 / 상태 조합 필터 + 패싯별 건수)
+        - 상태는 판매중(ACTIVE) / 품절(SOLD_OUT)만 조회 가능 (없으면 ACTIVE), 상태 패싯 건수도 이 둘만
+        패싯 색인이 준비되지 않았으면 FACET_INDEX_NOT_READY
+     */
+    public ProductFacetResponse getProductFacets(ProductFacetCondition condition, Pageable pageable) {
+        if(condition.statuses() != null && !SHOP_STATUSES.containsAll(condition.statuses())) {
+            throw new IllegalArgumentException("조회할 수 없는 상품 상태입니다: " + condition.statuses());
         }
 
-        Page<ProductResponse> result = products.map(product -> {
-            String categoryName = "분류 없음";
-            if (product.getCategoryId() != null) {
-                categoryName = categoryMap.getOrDefault(product.getCategoryId(), "분류 없음");
-            }
+        ProductFacetResult result = productFacetIndex.query(condition, pageable.getOffset(), pageable.getPageSize())
+                .orElseThrow(() -> new BusinessException("상품 패싯 색인이 준비되지 않았습니다.", ErrorCode.FACET_INDEX_NOT_READY));
 
-            return new ProductResponse(
-                    product.getId(),
-                    product.getName(),
-                    product.getDescription(),
-                    product.getPrice(),
-                    product.getStockQuantity(),
-                    product.getStatus(),
-                    categoryName
-            );
-        });
-
-        return result;
+        List<ProductResponse> content = productRepository.findSummariesByIds(result.ids()).stream()
+                .map(ProductResponse::from)
+                .toList();
+
+        return new ProductFacetResponse(
+                result.total(),
+                content,
+                result.categories(),
+                result.priceBuckets(),
+                result.sellers(),
+                result.statuses().stream()
+                        .filter(count -> SHOP_STATUSES.contains(count.value()))
+                        .toList()
+        );
     }
 
     /*
         판매 중인 상품 상세조회 -> id, ProductResponse
+        카테고리명은 카테고리 트리 스냅샷에서 조회
      */
     public ProductResponse getActiveProduct(Long id) {
-        Product product = productRepository.findByIdAndStatus(id, ACTIVE)
-                .orElseThrow(() -> new EntityNotFoundException("판매중인 상품을 찾을 수 없습니다."));
+        ProductSnapshot product = findActiveProduct(id);
 
         String categoryName = "분류 없음";
-        if(product.getCategoryId() != null) {
-            Category category = categoryRepository.findById(product.getCategoryId())
-                    .orElse(null);
-
-            if(category != null) {
-                categoryName = category.getName();
-            }
+        if(product.categoryId() != null) {
+            categoryName = categoryTreeCache.current().find(product.categoryId())
+                    .map(CategoryResponse::name)
+                    .orElse(categoryName);
         }
 
         return new ProductResponse(
-                product.getId(),
-                product.getName(),
-                product.getDescription(),
-                product.getPrice(),
-                product.getStockQuantity(),
-                product.getStatus(),
+                product.id(),
+                product.name(),
+                product.description(),
+                product.price(),
+                product.stockQuantity(),
+                product.status(),
                 categoryName
         );
     }
 
+    /*
+        판매 중인 상품 상세조회의 ETag = 상품 id + version + 카테고리 트리 해시 (카테고리명이 응답에 포함되므로)
+        상품 캐시와 트리 스냅샷만 사용 (캐시 미스일 때만 상품 한 건 조회, 트랜잭션을 시작하지 않음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String getActiveProductETag(Long id) {
+        CategoryTreeSnapshot tree = categoryTreeCache.current();
+        return findActiveProduct(id).eTag() + "-" + tree.eTag();
+    }
+
+    private ProductSnapshot findActiveProduct(Long id) {
+        return productCache.get(id)
+                .filter(ProductSnapshot::isActive)
+                .orElseThrow(() -> new EntityNotFoundException("판매중인 상품을 찾을 수 없습니다."));
+    }
+
+    /*
+        판매 순위 (최근 1시간 / 1일, 카테고리를 지정하면 하위 카테고리 포함)
+        - 순위는 메모리(BestSellerRanking)에서, 상품 정보는 id IN 조회 한 번
+        - 판매중이 아닌 상품은 빼므로 limit 의 두 배까지 후보를 가져옴
+     */
+    public List<BestSellerResponse> getBestSellers(RankingWindow window, Long categoryId, int limit) {
+        Set<Long> categoryIds = null;
+        if(categoryId != null) {
+            categoryIds = categoryTreeCache.current().descendantIds(categoryId);
+            if(categoryIds.isEmpty()) {
+                throw new EntityNotFoundException("카테고리를 찾을 수 없습니다.");
+            }
+        }
+
+        int size = Math.min(Math.max(limit, 1), MAX_BEST_SELLERS);
+        List<BestSeller> ranked = bestSellerRanking.top(window, categoryIds, size * 2);
+        if(ranked.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductSummaryDto> summaries = productRepository.findSummariesByIds(
+                        ranked.stream().map(BestSeller::productId).toList()).stream()
+                .collect(Collectors.toMap(ProductSummaryDto::id, Function.identity()));
+
+        List<BestSellerResponse> bestSellers = new ArrayList<>(size);
+        for(BestSeller bestSeller : ranked) {
+            ProductSummaryDto summary = summaries.get(bestSeller.productId());
+            if(summary == null || summary.status() != ProductStatus.ACTIVE) {
+                continue;
+            }
+
+            bestSellers.add(new BestSellerResponse(bestSellers.size() + 1, summary.id(), summary.name(),
+                    summary.price(), summary.categoryName(), bestSeller.quantity()));
+            if(bestSellers.size() == size) {
+                break;
+            }
+        }
+        return bestSellers;
+    }
+
     /*
         상품명으로 판매중인 상품을 검색
         Page<ProductResponse>
         pram Pageable, String keyword
      */
-
     public Page<ProductResponse> searchActiveProducts(String keyword, Pageable pageable) {
-        Page<Product> products = productRepository.findByNameContainingIgnoreCaseAndStatus(keyword, ACTIVE, pageable);
-
-        return mapToProductResponse(products);
+        return search(new ProductSearchCondition(keyword, null, null, null, null), pageable);
     }
 
     public Page<ProductResponse> searchActiveProductByProductName(Pageable pageable, String keyword) {
@@ -155,9 +221,7 @@ public class CustomerProductService {
             throw new IllegalArgumentException("검색어를 입력해 주십시오.");
         }
 
-        Page<Product> products = productRepository.findByStatusAndNameContaining(ACTIVE, keyword, pageable);
-
-        return setProductResponse(pageable, products);
+        return search(new ProductSearchCondition(keyword, null, null, null, null), pageable);
     }
 
     /*
@@ -165,8 +229,7 @@ public class CustomerProductService {
         param Pageable, Long minPrice, Long maxPrice
      */
     public Page<ProductResponse> getActiveProductsByPriceRange(Long minPrice, Long maxPrice, Pageable pageable) {
-        Page<Product> products = productRepository.findByPriceBetweenAndStatus(minPrice, maxPrice, ACTIVE, pageable);
-        return mapToProductResponse(products);
+        return search(new ProductSearchCondition(null, null, minPrice, maxPrice, null), pageable);
     }
 
 
@@ -175,31 +238,20 @@ public class CustomerProductService {
             throw new IllegalArgumentException("최소금액 또는 최대금액을 다시 확인해주십시오");
         }
 
-        Page<Product> products = productRepository.findByIdGreaterThanEqualAndIdLessThanEqual(ACTIVE, minPrice, maxPrice, pageable);
-
-        return setProductResponse(pageable, products);
+        return search(new ProductSearchCondition(null, null, minPrice, maxPrice, null), pageable);
     }
 
 
     /*
-        카테고리 내에서 상품명으로 검색
+        카테고리 내에서 상품명으로 검색 (하위 카테고리 상품 포함)
         param Pageable, categoryId, keyword
      */
     public Page<ProductResponse> searchActiveProductsInCategory(Long categoryId, String keyword, Pageable pageable) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다."));
-
-        Page<Product> products =
-                productRepository.findByCategoryIdAndNameContainingIgnoreCaseAndStatus(categoryId, keyword, ACTIVE, pageable);
-        return products.map(product -> new ProductResponse(
-                product.getId(),
-                product.getName(),
-                product.getDescription(),
-                product.getPrice(),
-                product.getStockQuantity(),
-                product.getStatus(),
-                category.getName()
-        ));
+        if(!categoryRepository.existsById(categoryId)) {
+            throw new EntityNotFoundException("카테고리를 찾을 수 없습니다.");
+        }
+
+        return search(new ProductSearchCondition(keyword, categoryId, null, null, null), pageable);
     }
 
     public Page<ProductResponse> searchProductByKeywordInCategory(Pageable pageable, Long categoryId, String keyword) {
@@ -207,96 +259,18 @@ public class CustomerProductService {
             throw new IllegalArgumentException("검색어를 입력해 주십시오.");
         }
 
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 카테고리 입니다."));
-
-        Page<Product> products = productRepository.findByStatusAndCategoryIdAndNameContaining(categoryId, ACTIVE, keyword, pageable);
-
-        return setProductResponse(pageable, products);
-    }
-
-
-
-    /*
-        extract method (공통 관심사 메서드)
-        Product Page를 ProductResponse의 Page로 변환하는 공통 메서드 구현
-        Page<Product> -> Page<ProductResponse>
-     */
-    private Page<ProductResponse> mapToProductResponse(Page<Product> products) {
-        List<Long> categoryIds = products.getContent().stream()
-                .map(Product::getCategoryId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-
-        Map<Long, String> categoryMap = new HashMap<>();
-        if (!categoryIds.isEmpty()) {
-            List<Category> categories = categoryRepository.findAllById(categoryIds);
-            categories.forEach(category ->
-                    categoryMap.put(category.getId(), category.getName()));
+        if(!categoryRepository.existsById(categoryId)) {
+            throw new EntityNotFoundException("존재하지 않는 카테고리 입니다.");
         }
 
-        return products.map(product -> {
-            String categoryName = "분류 없음";
-            if (product.getCategoryId() != null) {
-                categoryName = categoryMap.getOrDefault(product.getCategoryId(), "분류 없음");
-            }
-
-            return new ProductResponse(
-                    product.getId(),
-                    product.getName(),
-                    product.getDescription(),
-                    product.getPrice(),
-                    product.getStockQuantity(),
-                    product.getStatus(),
-                    categoryName
-            );
-        });
-
-    }
-
-
-
-
-    public Page<ProductResponse> setProductResponse(Pageable pageable, Page<Product> products) {
-        Map<Long, String> categoryMap = categoryNameSetting(products.getContent());
-
-        Page<ProductResponse> result = products
-                .map(product -> new ProductResponse(
-                        product.getId(),
-                        product.getName(),
-                        product.getDescription(),
-                        product.getPrice(),
-                        product.getStockQuantity(),
-                        product.getStatus(),
-                        categoryMap.getOrDefault(product.getCategoryId(), "분류 없음")
-                ));
-
-        return result;
+        return search(new ProductSearchCondition(keyword, categoryId, null, null, null), pageable);
     }
 
-
     /*
-        categoryName 구하는 메서드
+        목록 조회 공통 (검색 색인 -> QueryDSL 프로젝션 순서, 카테고리명은 조인으로 함께 조회)
+        Page<ProductSummaryDto> -> Page<ProductResponse>
      */
-    public Map<Long, String> categoryNameSetting(List<Product> products) {
-
-        List<Long> categoryIds = products.stream()
-                .map(Product::getCategoryId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-        Map<Long, String> categoryMap = new HashMap<>();
-
-        if(!categoryIds.isEmpty()) {
-            List<Category> categories = categoryRepository.findAllById(categoryIds);
-            categories.forEach(category ->
-                    categoryMap.put(category.getId(), category.getName()));
-        }
-
-        return categoryMap;
+    private Page<ProductResponse> search(ProductSearchCondition condition, Pageable pageable) {
+        return productRepository.searchProducts(condition, pageable).map(ProductResponse::from);
     }
-
-
-
 }
@@ -0,0 +1,265 @@
+package com.study.ecommerce.domain.product.service;
+
+import com.study.ecommerce.domain.category.counter.CategoryProductCounter;
+import com.study.ecommerce.domain.member.entity.Member;
+import com.study.ecommerce.domain.member.repository.MemberRepository;
+import com.study.ecommerce.domain.product.cache.ProductCache;
+import com.study.ecommerce.domain.product.dto.req.ProductBulkUpdateRequest;
+import com.study.ecommerce.domain.product.dto.req.ProductBulkUpdateRequest.Item;
+import com.study.ecommerce.domain.product.dto.resp.ProductBulkUpdateResponse;
+import com.study.ecommerce.domain.product.dto.resp.ProductBulkUpdateResponse.Failure;
+import com.study.ecommerce.domain.product.event.ProductsUpdatedEvent;
+import com.study.ecommerce.domain.product.inventory.InventoryLedger;
+import com.study.ecommerce.global.error.ErrorCode;
+import com.study.ecommerce.global.error.exception.BusinessException;
+import com.study.ecommerce.global.error.exception.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/*
+    상품 가격 / 재고 일괄 수정 (판매자)
+    - 상품마다 엔티티를 읽어 수정하지 않고 청크(chunk-size)마다
+      1. 존재 / 판매자 확인용 id IN 조회 한 번
+      2. 같은 UPDATE 문을 JDBC 배치로 실행 (새 값 = 현재 값 * scale + offset -> 절대값은 scale 0, 변경량은 scale 1)
+    - 판매 상태는 Product.decreasesStock / increasesStock 과 같게 UPDATE 안에서 전환
+      (재고가 0이 되면 SOLD_OUT, SOLD_OUT 인데 재고가 생기면 ACTIVE)
+    - 재고가 음수가 되거나 가격이 0 이하가 되는 행은 WHERE 조건으로 걸러져 실패로 응답
+    - 청크마다 커밋하고 상품 캐시 제거 / 색인 갱신 이벤트 / 카테고리 카운터 보정 예약 / 재고 원장 동기화도 청크마다 한 번
+    - 청크는 상품 id 순서로 처리 (동시에 실행되는 재고 차감과 같은 순서로 행 락을 잡음)
+ */
+@Slf4j
+@Service
+public class ProductBulkUpdateService {
+    // MySQL 은 SET 절을 왼쪽부터 평가하므로 status 를 stock_quantity 보다 먼저 갱신
+    private static final String UPDATE_SQL =
+            "UPDATE product SET " +
+            "status = CASE WHEN status = 'SOLD_OUT' AND stock_quantity * ? + ? > 0 THEN 'ACTIVE' " +
+            "WHEN stock_quantity <> 0 AND stock_quantity * ? + ? = 0 THEN 'SOLD_OUT' ELSE status END, " +
+            "price = price * ? + ?, " +
+            "stock_quantity = stock_quantity * ? + ?, " +
+            "version = version + 1, " +
+            "updated_at = ? " +
+            "WHERE id = ? AND seller_id = ? AND stock_quantity * ? + ? >= 0 AND price * ? + ? > 0";
+
+    private final MemberRepository memberRepository;
+    private final ProductCache productCache;
+    private final CategoryProductCounter categoryProductCounter;
+    private final InventoryLedger inventoryLedger;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public ProductBulkUpdateService(MemberRepository memberRepository,
+                                    ProductCache productCache,
+                                    CategoryProductCounter categoryProductCounter,
+                                    InventoryLedger inventoryLedger,
+                                    JdbcTemplate jdbcTemplate,
+                                    NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${ecommerce.product.bulk-update.chunk-size:500}") int chunkSize,
+                                    @Value("${ecommerce.product.bulk-update.max-items:10000}") int maxItems) {
+        this.memberRepository = memberRepository;
+        this.productCache = productCache;
+        this.categoryProductCounter = categoryProductCounter;
+        this.inventoryLedger = inventoryLedger;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /*
+        가격 / 재고 일괄 수정
+        @param request 상품별 절대값 또는 변경량
+        @param email 요청한 판매자 (본인 상품만 수정)
+        @return 수정 건수와 실패한 상품별 사유
+     */
+    public ProductBulkUpdateResponse updateProducts(ProductBulkUpdateRequest request, String email) {
+        if(request.items().size() > maxItems) {
+            throw new BusinessException("한 번에 수정할 수 있는 상품은 " + maxItems + "개 입니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Member seller = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new EntityNotFoundException("판매자를 찾을 수 없습니다."));
+
+        List<Failure> failures = new ArrayList<>();
+        Map<Long, Change> changes = new TreeMap<>();
+
+        for(Item item : request.items()) {
+            String error = validate(item);
+            if(error != null) {
+                failures.add(new Failure(item.productId(), error));
+            } else if(changes.putIfAbsent(item.productId(), Change.from(item)) != null) {
+                failures.add(new Failure(item.productId(), "같은 상품이 중복되었습니다."));
+            }
+        }
+
+        List<Change> ordered = new ArrayList<>(changes.values());
+        int updated = 0;
+
+        for(int from = 0; from < ordered.size(); from += chunkSize) {
+            List<Change> chunk = ordered.subList(from, Math.min(from + chunkSize, ordered.size()));
+            Integer count = transactionTemplate.execute(status -> updateChunk(seller.getId(), chunk, failures));
+            updated += count != null ? count : 0;
+        }
+
+        log.info("상품 일괄 수정: 판매자 {} - 요청 {}건, 수정 {}건, 실패 {}건",
+                seller.getId(), request.items().size(), updated, failures.size());
+
+        return new ProductBulkUpdateResponse(request.items().size(), updated, failures);
+    }
+
+    private int updateChunk(Long sellerId, List<Change> chunk, List<Failure> failures) {
+        // 1. 존재 / 판매자 확인 (카테고리는 캐시 무효화에 사용)
+        Map<Long, ProductOwner> owners = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT id, seller_id, category_id FROM product WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", chunk.stream().map(Change::productId).toList()),
+                rs -> {
+                    owners.put(rs.getLong("id"), new ProductOwner(
+                            rs.getObject("seller_id", Long.class), rs.getObject("category_id", Long.class)));
+                });
+
+        List<Change> targets = new ArrayList<>(chunk.size());
+        for(Change change : chunk) {
+            ProductOwner owner = owners.get(change.productId());
+            if(owner == null) {
+                failures.add(new Failure(change.productId(), "상품을 찾을 수 없습니다."));
+            } else if(!Objects.equals(owner.sellerId(), sellerId)) {
+                failures.add(new Failure(change.productId(), "상품을 수정할 권한이 없습니다."));
+            } else {
+                targets.add(change);
+            }
+        }
+
+        if(targets.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 배치 UPDATE
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(targets.size());
+        for(Change change : targets) {
+            args.add(change.toArgs(sellerId, now));
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+
+        Set<Long> updatedIds = new HashSet<>();
+        Set<Long> stockChangedIds = new HashSet<>();
+        Set<Long> categoryIds = new HashSet<>();
+
+        for(int i = 0; i < targets.size(); i++) {
+            Change change = targets.get(i);
+
+            if(counts[i] == 0) {
+                failures.add(new Failure(change.productId(), "재고가 0 미만이 되거나 가격이 0 이하가 됩니다."));
+                continue;
+            }
+            // SUCCESS_NO_INFO: 드라이버가 행 수를 알려주지 않는 경우 (성공으로 처리)
+            if(counts[i] < 0 && counts[i] != Statement.SUCCESS_NO_INFO) {
+                failures.add(new Failure(change.productId(), "상품 수정에 실패했습니다."));
+                continue;
+            }
+
+            updatedIds.add(change.productId());
+            if(change.changesStock()) {
+                stockChangedIds.add(change.productId());
+            }
+
+            Long categoryId = owners.get(change.productId()).categoryId();
+            if(categoryId != null) {
+                categoryIds.add(categoryId);
+            }
+        }
+
+        if(updatedIds.isEmpty()) {
+            return 0;
+        }
+
+        // 3. 청크당 한 번: 상품 캐시 제거, 판매 상태가 바뀌었을 수 있는 상품의 카테고리 카운터 보정 예약,
+        //    재고가 바뀐 상품의 재고 원장 동기화 (커밋 후), 색인/건수 캐시 갱신
+        productCache.evict(updatedIds);
+        categoryProductCounter.markStockChanged(stockChangedIds);
+        inventoryLedger.resync(stockChangedIds);
+        eventPublisher.publishEvent(new ProductsUpdatedEvent(this, updatedIds, categoryIds));
+
+        return updatedIds.size();
+    }
+
+    // 오류 사유 (정상이면 null)
+    private static String validate(Item item) {
+        if(item.price() != null && item.priceDelta() != null) {
+            return "가격과 가격 변경량은 함께 지정할 수 없습니다.";
+        }
+        if(item.stockQuantity() != null && item.stockDelta() != null) {
+            return "재고수량과 재고 변경량은 함께 지정할 수 없습니다.";
+        }
+        if(item.price() == null && item.priceDelta() == null
+                && item.stockQuantity() == null && item.stockDelta() == null) {
+            return "변경할 값이 없습니다.";
+        }
+        return null;
+    }
+
+    /*
+        새 값 = 현재 값 * scale + offset
+        - 절대값: scale 0, offset 값 / 변경량: scale 1, offset 변경량 / 유지: scale 1, offset 0
+     */
+    private record Change(Long productId, long priceScale, long priceOffset, int stockScale, int stockOffset) {
+
+        static Change from(Item item) {
+            long priceScale = item.price() != null ? 0L : 1L;
+            long priceOffset = item.price() != null ? item.price() : Objects.requireNonNullElse(item.priceDelta(), 0L);
+            int stockScale = item.stockQuantity() != null ? 0 : 1;
+            int stockOffset = item.stockQuantity() != null ? item.stockQuantity() : Objects.requireNonNullElse(item.stockDelta(), 0);
+
+            return new Change(item.productId(), priceScale, priceOffset, stockScale, stockOffset);
+        }
+
+        boolean changesStock() {
+            return stockScale != 1 || stockOffset != 0;
+        }
+
+        // UPDATE_SQL 의 ? 순서
+        Object[] toArgs(Long sellerId, Timestamp now) {
+            return new Object[]{
+                    stockScale, stockOffset,
+                    stockScale, stockOffset,
+                    priceScale, priceOffset,
+                    stockScale, stockOffset,
+                    now,
+                    productId, sellerId,
+                    stockScale, stockOffset,
+                    priceScale, priceOffset
+            };
+        }
+    }
+
+    private record ProductOwner(Long sellerId, Long categoryId) {
+    }
+}
@@ -1,20 +1,30 @@
 package com.study.ecommerce.domain.product.service;
 
+import com.study.ecommerce.domain.category.counter.CategoryProductCounter;
 import com.study.ecommerce.domain.category.entity.Category;
 import com.study.ecommerce.domain.category.repository.CategoryRepository;
 import com.study.ecommerce.domain.member.entity.Member;
 import com.study.ecommerce.domain.member.repository.MemberRepository;
+import com.study.ecommerce.domain.product.cache.ProductCache;
+import com.study.ecommerce.domain.product.cache.ProductSnapshot;
 import com.study.ecommerce.domain.product.dto.req.ProductCreateRequest;
+import com.study.ecommerce.domain.product.dto.req.ProductCursor;
 import com.study.ecommerce.domain.product.dto.req.ProductSearchCondition;
 import com.study.ecommerce.domain.product.dto.req.ProductUpdateRequest;
 import com.study.ecommerce.domain.product.dto.resp.ProductResponse;
 import com.study.ecommerce.domain.product.dto.resp.ProductSummaryDto;
 import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.event.ProductChangedEvent;
+import com.study.ecommerce.domain.product.inventory.InventoryLedger;
 import com.study.ecommerce.domain.product.repository.ProductRepository;
+import com.study.ecommerce.global.common.page.CountType;
+import com.study.ecommerce.global.common.page.CountedPage;
+import com.study.ecommerce.global.common.page.CursorPage;
 import com.study.ecommerce.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,23 +36,21 @@ import java.util.Objects;
 @Service
 @RequiredArgsConstructor
 public class ProductService {
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductCache productCache;
+    private final CategoryProductCounter categoryProductCounter;
+    private final InventoryLedger inventoryLedger;
 
     @Transactional(readOnly = true)
-    public Page<ProductResponse> getProducts(ProductSearchCondition condition, Pageable pageable) {
-        Page<ProductSummaryDto> productSummaryDtos = productRepository.searchProducts(condition, pageable);
-
-        return productSummaryDtos.map(dto -> new ProductResponse(
-                dto.id(),
-                dto.name(),
-                null,
-                dto.price(),
-                dto.stockQuantity(),
-                dto.status(),
-                dto.categoryName()
-        ));
+    public CountedPage<ProductResponse> getProducts(ProductSearchCondition condition, Pageable pageable, CountType countType) {
+        CountedPage<ProductSummaryDto> productSummaryDtos = productRepository.searchProducts(condition, pageable, countType);
+
+        return productSummaryDtos.map(ProductResponse::from);
 
 //        List<Long> categoryIds = productSummaryDtos.getContent().stream()
 //                .map(dto -> {
@@ -104,6 +112,8 @@ public class ProductService {
                 .build();
 
         productRepository.save(product);
+        categoryProductCounter.apply(category.getId(), 1, activeCount(product));
+        eventPublisher.publishEvent(ProductChangedEvent.created(this, product.getId(), product.getCategoryId()));
 
         return new ProductResponse(
                 product.getId(),
@@ -130,21 +140,32 @@ public class ProductService {
             throw new IllegalArgumentException("상품 삭제 권한이 없습니다.");
         }
 
+        int previousActive = activeCount(product);
         product.delete();
+        categoryProductCounter.apply(product.getCategoryId(), 0, activeCount(product) - previousActive);
+        productCache.evict(product.getId());
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(this, product.getId(), product.getCategoryId()));
     }
     
+    // 커서 기반 조회 (count 쿼리 없이 다음 페이지 여부만 판단)
+    @Transactional(readOnly = true)
+    public CursorPage<ProductResponse> scrollProducts(ProductSearchCondition condition, String cursor, int size, Sort sort) {
+        return productRepository.scrollProducts(condition, ProductCursor.of(cursor, sort),
+                Math.min(Math.max(size, 1), MAX_SCROLL_SIZE));
+    }
+
     // id 기준으로 가져오기(get)
     @Transactional(readOnly = true)
     public ProductResponse getProduct(Long id) {
-        Product product = productRepository.findById(id)
+        ProductSnapshot product = productCache.get(id)
                 .orElseThrow(() -> new EntityNotFoundException("상품을 찾을 수 없습니다."));
 
         // 카테고리 정보 조회
         Category category = null;
         String categoryName = "분류 없음";
         
-        if(product.getCategoryId() != null) {
-            category = categoryRepository.findById(product.getCategoryId())
+        if(product.categoryId() != null) {
+            category = categoryRepository.findById(product.categoryId())
                     .orElse(null);
             
             if(category != null) {
@@ -153,12 +174,12 @@ public class ProductService {
         }
         
         return new ProductResponse(
-                product.getId(),
-                product.getName(),
-                product.getDescription(),
-                product.getPrice(),
-                product.getStockQuantity(),
-                product.getStatus(),
+                product.id(),
+                product.name(),
+                product.description(),
+                product.price(),
+                product.stockQuantity(),
+                product.status(),
                 categoryName
         );
     }
@@ -179,6 +200,8 @@ public class ProductService {
         // 카테고리 찾기
         Category category = categoryRepository.findById(request.categoryId())
                 .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다."));
+        Long previousCategoryId = product.getCategoryId();
+        int previousActive = activeCount(product);
         // 프로덕트 업데이트하고 -> jpa 더티체킹 더티캐싱
         product.update(
             request.name(),
@@ -188,6 +211,10 @@ public class ProductService {
             request.status(),
             category.getId()
         );
+        updateCategoryCounters(previousCategoryId, previousActive, product);
+        productCache.evict(product.getId());
+        inventoryLedger.resync(List.of(product.getId()));
+        eventPublisher.publishEvent(ProductChangedEvent.updated(this, product.getId(), previousCategoryId, category.getId()));
         // 반환
         return new ProductResponse(
                 product.getId(),
@@ -200,4 +227,18 @@ public class ProductService {
         );
     }
 
+    // 카테고리 이동이면 이전 카테고리에서 빼고 새 카테고리에 더함, 같은 카테고리면 판매 상태 변화만 반영
+    private void updateCategoryCounters(Long previousCategoryId, int previousActive, Product product) {
+        if(Objects.equals(previousCategoryId, product.getCategoryId())) {
+            categoryProductCounter.apply(product.getCategoryId(), 0, activeCount(product) - previousActive);
+            return;
+        }
+
+        categoryProductCounter.apply(previousCategoryId, -1, -previousActive);
+        categoryProductCounter.apply(product.getCategoryId(), 1, activeCount(product));
+    }
+
+    private static int activeCount(Product product) {
+        return product.getStatus() == Product.ProductStatus.ACTIVE ? 1 : 0;
+    }
 }
@@ -0,0 +1,58 @@
+package com.study.ecommerce.global.common.http;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/*
+    ETag 조건부 조회 (If-None-Match)
+    - ETag 는 호출하는 쪽이 메모리 값(버전, 내용 해시)으로 먼저 만들고, 일치하면 본문을 만들지 않고 304
+    - Cache-Control: no-cache -> 클라이언트는 저장해 두되 매번 ETag 로 재검증
+      (Spring Security 기본값 no-store 를 덮어씀)
+ */
+public final class ConditionalResponse {
+
+    private ConditionalResponse() {
+    }
+
+    /*
+        @param ifNoneMatch 요청 헤더 If-None-Match (없으면 null)
+        @param eTag 현재 ETag (따옴표 없이)
+        @param body 일치하지 않을 때만 호출
+     */
+    public static <T> ResponseEntity<T> of(String ifNoneMatch, String eTag, Supplier<T> body) {
+        String quoted = "\"" + eTag + "\"";
+
+        if(matches(ifNoneMatch, quoted)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(quoted)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(quoted)
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+
+    // If-None-Match 는 약한 비교 (W/ 접두어 무시), 여러 값은 쉼표로 구분
+    public static boolean matches(String ifNoneMatch, String quoted) {
+        if(ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for(String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if(tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if(tag.equals("*") || tag.equals(quoted)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,97 @@
+package com.study.ecommerce.global.common.id;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    시간순 정렬 가능한 64bit 식별자 (Snowflake 방식)
+    - 1bit 부호(0) | 41bit 밀리초(기준 시각 2025-01-01) | 10bit 노드 | 12bit 시퀀스
+    - 노드 번호는 인스턴스마다 달라야 함: ecommerce.id.node-id 설정(TsidConfig) >
+      ECOMMERCE_NODE_ID 환경변수(또는 ecommerce.node-id 시스템 프로퍼티) > 임의 값
+    - 같은 밀리초에 4096개를 넘으면 다음 밀리초 값을 미리 사용 (시계는 기다리지 않음)
+ */
+public final class Tsid {
+    private static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+
+    private static volatile long node = resolveNode();
+    private static volatile boolean nodeConfigured = node >= 0;
+
+    // (밀리초 << 12 | 시퀀스) 를 하나의 값으로 관리해서 CAS 한 번으로 갱신
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private Tsid() {
+    }
+
+    public static long next() {
+        long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+
+        long current;
+        long next;
+        do {
+            current = LAST.get();
+            next = Math.max(now, current + 1);
+        } while(!LAST.compareAndSet(current, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeValue() << SEQUENCE_BITS) | sequence;
+    }
+
+    /*
+        노드 번호 지정 (id 를 만들기 전, 기동 시 한 번)
+        @param value 0 ~ 1023
+     */
+    public static void useNode(long value) {
+        node = validate(value);
+        nodeConfigured = true;
+    }
+
+    public static long node() {
+        return nodeValue();
+    }
+
+    // 설정이나 환경변수로 노드 번호를 지정했는지 (임의 값이면 false)
+    public static boolean isNodeConfigured() {
+        return nodeConfigured;
+    }
+
+    private static long nodeValue() {
+        long value = node;
+        if(value < 0) {
+            synchronized (Tsid.class) {
+                if(node < 0) {
+                    node = new SecureRandom().nextInt((int) MAX_NODE + 1);
+                }
+                value = node;
+            }
+        }
+        return value;
+    }
+
+    private static long resolveNode() {
+        String node = System.getenv("ECOMMERCE_NODE_ID");
+        if(node == null) {
+            node = System.getProperty("ecommerce.node-id");
+        }
+
+        if(node != null) {
+            return validate(Long.parseLong(node.trim()));
+        }
+
+        // 지정되지 않음 - 처음 사용할 때 임의 값으로 정함
+        return -1;
+    }
+
+    private static long validate(long value) {
+        if(value < 0 || value > MAX_NODE) {
+            throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE + " 사이여야 합니다: " + value);
+        }
+        return value;
+    }
+}
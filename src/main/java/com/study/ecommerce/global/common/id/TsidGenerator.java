@@ -0,0 +1,15 @@
+package com.study.ecommerce.global.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/*
+    @TsidId 에 연결되는 Hibernate id 생성기
+ */
+public class TsidGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return Tsid.next();
+    }
+}
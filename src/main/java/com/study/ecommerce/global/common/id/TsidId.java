@@ -0,0 +1,18 @@
+package com.study.ecommerce.global.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    시간순 64bit 식별자(TSID)를 사용하는 엔티티 id
+    - IDENTITY 와 달리 INSERT 전에 id 가 정해지므로 Hibernate JDBC 배치 INSERT 가 가능
+ */
+@IdGeneratorType(TsidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidId {
+}
@@ -0,0 +1,22 @@
+package com.study.ecommerce.global.common.id;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    TSID 값을 JSON 문자열로 내보냄
+    - TSID 는 2^53 을 넘으므로 숫자로 내보내면 JavaScript(Number)에서 끝자리가 바뀜
+    - 요청으로 받을 때는 문자열/숫자 모두 Long 으로 읽힘
+ */
+@JacksonAnnotationsInside
+@JsonSerialize(using = ToStringSerializer.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+public @interface TsidJson {
+}
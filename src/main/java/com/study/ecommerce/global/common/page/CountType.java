@@ -0,0 +1,33 @@
+package com.study.ecommerce.global.common.page;
+
+/*
+    페이지 전체 건수(totalElements) 계산 방식
+    - EXACT  : 매번 count 쿼리로 정확한 건수
+    - CAPPED : 최대 N+1 건까지만 세고, N 을 넘으면 N 으로 표시 ("N건 이상")
+    - CACHED : 검색 조건별로 캐시된 건수 (TTL 동안 최신이 아닐 수 있음)
+    응답 헤더 X-Total-Count-Type 으로 어떤 방식의 건수인지 전달
+ */
+public enum CountType {
+    EXACT, CAPPED, CACHED;
+
+    public static final String HEADER = "X-Total-Count-Type";
+
+    // 요청 파라미터 (exact, capped, cached) -> 없거나 잘못된 값이면 기본값
+    public static CountType from(String value, CountType defaultType) {
+        if(value == null || value.isBlank()) {
+            return defaultType;
+        }
+
+        for(CountType type : values()) {
+            if(type.name().equalsIgnoreCase(value.trim())) {
+                return type;
+            }
+        }
+
+        return defaultType;
+    }
+
+    public String headerValue() {
+        return name().toLowerCase();
+    }
+}
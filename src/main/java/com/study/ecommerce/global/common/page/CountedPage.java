@@ -0,0 +1,19 @@
+package com.study.ecommerce.global.common.page;
+
+import org.springframework.data.domain.Page;
+
+import java.util.function.Function;
+
+/*
+    페이지 + 실제로 사용된 건수 계산 방식
+    - CAPPED 로 요청해도 전체 건수가 상한보다 작으면 EXACT
+ */
+public record CountedPage<T>(
+        Page<T> page,
+        CountType countType
+) {
+
+    public <R> CountedPage<R> map(Function<? super T, ? extends R> converter) {
+        return new CountedPage<>(page.map(converter), countType);
+    }
+}
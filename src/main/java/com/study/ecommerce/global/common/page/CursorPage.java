@@ -0,0 +1,21 @@
+package com.study.ecommerce.global.common.page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/*
+    커서 기반 페이지 (전체 건수를 세지 않음)
+    - size + 1 건을 조회해서 다음 페이지 존재 여부(hasNext)를 판단
+    - nextCursor 를 다음 요청의 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        return new CursorPage<>(content.stream().<R>map(converter).toList(), size, hasNext, nextCursor);
+    }
+}
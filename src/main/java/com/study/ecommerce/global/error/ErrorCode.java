@@ -15,6 +15,8 @@ public enum ErrorCode {
     RESOURCE_NOT_FOUND(404, "C004", "Resource Not Found"),
     METHOD_NOT_ALLOWED(405, "C005", "Method Not Allowed"),
     INTERNAL_SERVER_ERROR(500, "C006", "Server Error"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(409, "C007", "Request With Same Idempotency Key Is In Progress"),
+    IDEMPOTENCY_KEY_REUSED(422, "C008", "Idempotency Key Was Used With A Different Request"),
 
     // Member
     EMAIL_DUPLICATION(400, "M001", "Email is Duplicated"),
@@ -24,10 +26,16 @@ public enum ErrorCode {
     // Product
     PRODUCT_NOT_FOUND(404, "P001", "Product Not Found"),
     OUT_OF_STOCK(400, "P002", "Out of Stock"),
+    STOCK_CONFLICT(409, "P003", "Stock Update Conflict"),
+    FACET_INDEX_NOT_READY(503, "P004", "Product Facet Index Is Not Ready"),
+    PRODUCT_IMPORT_NOT_FOUND(404, "P005", "Product Import Job Not Found"),
+    PRODUCT_IMPORT_BUSY(503, "P006", "Product Import Is Busy"),
 
     // Order
     ORDER_NOT_FOUND(404, "O001", "Order Not Found"),
     CANNOT_CANCEL_ORDER(400, "O002", "Cannot Cancel Order"),
+    INVALID_ORDER_STATUS(409, "O003", "Invalid Order Status"),
+    ORDER_PIPELINE_BUSY(503, "O004", "Order Pipeline Is Busy"),
 
     // Cart
     CART_NOT_FOUND(404, "CA001", "Cart Not Found"),
@@ -0,0 +1,261 @@
+package com.study.ecommerce.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ecommerce.global.error.ErrorCode;
+import com.study.ecommerce.global.error.ErrorResponse;
+import com.study.ecommerce.global.idempotency.IdempotencyStore.Claim;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+    주문/결제 POST 요청의 Idempotency-Key 처리
+    - 같은 키로 이미 처리된 요청이면 저장된 응답을 그대로 돌려준다 (컨트롤러를 다시 실행하지 않음)
+    - 같은 키의 요청이 처리 중이면 먼저 들어온 요청이 끝날 때까지 기다렸다가 그 응답을 돌려준다
+      (다른 인스턴스에서 처리 중이면 409 - 실행 전에 DB 에 PENDING 행을 넣어 키를 선점하므로)
+    - 같은 키로 본문이 다른 요청을 보내면 422 (요청 본문 SHA-256 을 응답과 함께 저장해서 비교)
+    - 5xx 응답은 저장하지 않으므로 서버 오류 후의 재시도는 다시 실행된다
+    - Security 필터 뒤에서 실행되므로 키는 사용자별로 구분된다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final String[] IDEMPOTENT_PATHS = {"/api/v1/orders", "/api/v1/payments"};
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    // 처리 중인 요청 (키 -> 응답)
+    private final Map<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${ecommerce.idempotency.wait-timeout:30s}")
+    private Duration waitTimeout;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if(!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+
+        String uri = request.getRequestURI();
+        for(String path : IDEMPOTENT_PATHS) {
+            if(uri.equals(path) || uri.startsWith(path + "/")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = scopedKey(request);
+        byte[] requestBody = StreamUtils.copyToByteArray(request.getInputStream());
+        String requestHash = sha256(requestBody);
+
+        Optional<IdempotentResponse> stored = idempotencyStore.find(key);
+        if(stored.isPresent()) {
+            log.debug("Idempotency-Key 재사용 - 저장된 응답 반환: {}", key);
+            replay(response, stored.get(), requestHash);
+            return;
+        }
+
+        CompletableFuture<IdempotentResponse> mine = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, mine);
+
+        if(running != null) {
+            awaitRunning(key, running, requestHash, response);
+            return;
+        }
+
+        try {
+            Claim claim = idempotencyStore.claim(key, requestHash);
+
+            switch (claim.result()) {
+                case ACQUIRED -> mine.complete(execute(key, requestHash,
+                        new CachedBodyRequest(request, requestBody), response, filterChain));
+                case COMPLETED -> {
+                    mine.complete(claim.response());
+                    write(response, claim.response());
+                }
+                case MISMATCH -> {
+                    mine.completeExceptionally(new IllegalStateException("Idempotency-Key 본문 불일치: " + key));
+                    writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                }
+                case IN_PROGRESS -> {
+                    mine.completeExceptionally(new IllegalStateException("Idempotency-Key 처리 중: " + key));
+                    writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                }
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private IdempotentResponse execute(String key, String requestHash, HttpServletRequest request,
+                                       HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            idempotencyStore.release(key);
+            throw e;
+        }
+
+        int status = responseWrapper.getStatus();
+        String body = new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
+        String contentType = responseWrapper.getContentType();
+        responseWrapper.copyBodyToResponse();
+
+        if(status >= 500) {
+            idempotencyStore.release(key);
+            return new IdempotentResponse(status, contentType, body, requestHash, LocalDateTime.now());
+        }
+
+        return idempotencyStore.complete(key, requestHash, status, contentType, body);
+    }
+
+    private void awaitRunning(String key, CompletableFuture<IdempotentResponse> running,
+                              String requestHash, HttpServletResponse response) throws IOException {
+        log.debug("Idempotency-Key 처리 중 - 앞선 요청 대기: {}", key);
+
+        try {
+            replay(response, running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS), requestHash);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (TimeoutException | ExecutionException e) {
+            writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    // 저장된 응답 반환 (본문이 다른 요청이면 422)
+    private void replay(HttpServletResponse response, IdempotentResponse stored, String requestHash) throws IOException {
+        if(!stored.matches(requestHash)) {
+            writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+        write(response, stored);
+    }
+
+    private String scopedKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = authentication != null ? authentication.getName() : "anonymous";
+
+        return principal + ":" + request.getRequestURI() + ":" + request.getHeader(IDEMPOTENCY_KEY_HEADER);
+    }
+
+    private void write(HttpServletResponse response, IdempotentResponse stored) throws IOException {
+        response.setStatus(stored.statusCode());
+        if(stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(stored.body());
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.of(errorCode));
+    }
+
+    // 해시를 위해 먼저 읽은 요청 본문을 컨트롤러가 다시 읽을 수 있도록
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.study.ecommerce.global.idempotency;
+
+import com.study.ecommerce.global.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+    Idempotency-Key 로 처리 중이거나 처리된 요청
+    - PENDING: 요청 실행 전에 IdempotencyRecordRepository.insertPending 으로 먼저 넣어 키를 선점 (응답 없음)
+    - COMPLETED: 처리된 요청의 응답 (재시도 시 그대로 돌려준다)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord extends BaseTimeEntity {
+
+    // 사용자 + 요청 경로 + Idempotency-Key
+    @Id
+    @Column(name = "idempotency_key", length = 500)
+    private String key;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private State state;
+
+    // 요청 본문 SHA-256 (같은 키로 다른 요청을 보냈는지 확인)
+    @Column(length = 64)
+    private String requestHash;
+
+    private Integer statusCode;
+
+    private String contentType;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public enum State {
+        PENDING, COMPLETED
+    }
+}
@@ -0,0 +1,52 @@
+package com.study.ecommerce.global.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // 키 선점 - save() 는 id 가 정해진 엔티티를 merge(SELECT 후 UPDATE) 하므로 INSERT 를 직접 실행 (키가 있으면 PK 충돌)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_record (idempotency_key, state, request_hash, expires_at, created_at, updated_at) " +
+            "VALUES (:key, 'PENDING', :requestHash, :expiresAt, :now, :now)", nativeQuery = true)
+    int insertPending(@Param("key") String key,
+                      @Param("requestHash") String requestHash,
+                      @Param("expiresAt") LocalDateTime expiresAt,
+                      @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyRecord r set r.state = com.study.ecommerce.global.idempotency.IdempotencyRecord.State.COMPLETED, " +
+            "r.statusCode = :statusCode, r.contentType = :contentType, r.responseBody = :body, " +
+            "r.expiresAt = :expiresAt, r.updatedAt = :now " +
+            "where r.key = :key and r.state = com.study.ecommerce.global.idempotency.IdempotencyRecord.State.PENDING")
+    int complete(@Param("key") String key,
+                 @Param("statusCode") int statusCode,
+                 @Param("contentType") String contentType,
+                 @Param("body") String body,
+                 @Param("expiresAt") LocalDateTime expiresAt,
+                 @Param("now") LocalDateTime now);
+
+    // 선점을 풀어 같은 키로 다시 실행할 수 있게 함 (5xx, 예외)
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.key = :key " +
+            "and r.state = com.study.ecommerce.global.idempotency.IdempotencyRecord.State.PENDING")
+    int deletePending(@Param("key") String key);
+
+    // 만료된 행 하나 삭제 (만료된 키를 다시 선점하기 전에)
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.key = :key and r.expiresAt < :now")
+    int deleteExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,159 @@
+package com.study.ecommerce.global.idempotency;
+
+import com.study.ecommerce.global.idempotency.IdempotencyRecord.State;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+    Idempotency-Key 응답 저장소 (2단계)
+    - 1단계: 최근 키를 담는 크기 제한 LRU (메모리, 처리가 끝난 응답만)
+    - 2단계: idempotency_record 테이블 (재시작/다른 인스턴스 대비), 만료된 행은 주기적으로 삭제
+    - 요청 실행 전에 PENDING 행을 INSERT 해서 키를 선점 (PK 충돌로 다른 인스턴스의 같은 키 요청을 막음)
+      -> 처리가 끝나면 응답으로 COMPLETED, 5xx/예외면 행을 지워 다시 실행할 수 있게 함
+      -> 서버가 죽어 남은 PENDING 행은 pending-ttl 이 지나면 다시 선점 가능
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Duration ttl;
+    private final Duration pendingTtl;
+    private final Map<String, IdempotentResponse> cache;
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            @Value("${ecommerce.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${ecommerce.idempotency.pending-ttl:5m}") Duration pendingTtl,
+                            @Value("${ecommerce.idempotency.cache-size:1000}") int cacheSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttl = ttl;
+        this.pendingTtl = pendingTtl;
+        // accessOrder = true: 가장 오래 사용되지 않은 키부터 제거
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotentResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public Optional<IdempotentResponse> find(String key) {
+        LocalDateTime now = LocalDateTime.now();
+
+        IdempotentResponse cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+
+        if(cached != null && !cached.isExpired(now)) {
+            return Optional.of(cached);
+        }
+
+        Optional<IdempotentResponse> stored = idempotencyRecordRepository.findById(key)
+                .filter(record -> record.getState() == State.COMPLETED)
+                .map(IdempotentResponse::from)
+                .filter(response -> !response.isExpired(now));
+
+        stored.ifPresent(response -> putCache(key, response));
+        return stored;
+    }
+
+    /*
+        키 선점 (PENDING 행 INSERT)
+        - 이미 있으면: 본문 해시가 다르면 MISMATCH, 처리 중이면 IN_PROGRESS, 끝났으면 저장된 응답과 함께 COMPLETED
+        - 만료된 행은 지우고 다시 선점
+        @param requestHash 요청 본문 해시
+     */
+    public Claim claim(String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+
+        for(int attempt = 0; attempt < 2; attempt++) {
+            try {
+                idempotencyRecordRepository.insertPending(key, requestHash, now.plus(pendingTtl), now);
+                return new Claim(ClaimResult.ACQUIRED, null);
+            } catch (DataIntegrityViolationException e) {
+                Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findById(key);
+                if(existing.isEmpty()) {
+                    continue;
+                }
+
+                IdempotencyRecord record = existing.get();
+                if(record.getExpiresAt().isBefore(now)) {
+                    idempotencyRecordRepository.deleteExpired(key, now);
+                    continue;
+                }
+
+                IdempotentResponse response = IdempotentResponse.from(record);
+                if(!response.matches(requestHash)) {
+                    return new Claim(ClaimResult.MISMATCH, null);
+                }
+                if(record.getState() == State.PENDING) {
+                    return new Claim(ClaimResult.IN_PROGRESS, null);
+                }
+
+                putCache(key, response);
+                return new Claim(ClaimResult.COMPLETED, response);
+            }
+        }
+
+        log.warn("Idempotency-Key 선점 실패 (만료된 행 경합): {}", key);
+        return new Claim(ClaimResult.IN_PROGRESS, null);
+    }
+
+    // 선점한 키에 응답 저장 (PENDING -> COMPLETED)
+    public IdempotentResponse complete(String key, String requestHash, int statusCode, String contentType, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotentResponse response = new IdempotentResponse(statusCode, contentType, body, requestHash, now.plus(ttl));
+
+        if(idempotencyRecordRepository.complete(key, statusCode, contentType, body, response.expiresAt(), now) == 0) {
+            // 선점이 만료되어 다른 요청이 가져간 경우 - 메모리에만 보관
+            log.warn("Idempotency-Key 응답 저장 실패 (선점 만료): {}", key);
+        }
+
+        putCache(key, response);
+        return response;
+    }
+
+    // 선점 해제 (5xx, 예외 - 같은 키의 재시도는 다시 실행)
+    public void release(String key) {
+        idempotencyRecordRepository.deletePending(key);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${ecommerce.idempotency.cleanup-interval:10m}")
+    public void removeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+
+        synchronized (cache) {
+            cache.values().removeIf(response -> response.isExpired(now));
+        }
+
+        int deleted = idempotencyRecordRepository.deleteExpired(now);
+        if(deleted > 0) {
+            log.info("만료된 Idempotency-Key 삭제: {}건", deleted);
+        }
+    }
+
+    private void putCache(String key, IdempotentResponse response) {
+        synchronized (cache) {
+            cache.put(key, response);
+        }
+    }
+
+    public enum ClaimResult {
+        ACQUIRED, COMPLETED, IN_PROGRESS, MISMATCH
+    }
+
+    // 선점 결과 (COMPLETED 일 때만 response 가 있음)
+    public record Claim(ClaimResult result, IdempotentResponse response) {
+    }
+}
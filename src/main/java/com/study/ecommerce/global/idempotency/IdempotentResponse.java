@@ -0,0 +1,34 @@
+package com.study.ecommerce.global.idempotency;
+
+import java.time.LocalDateTime;
+
+/*
+    저장된 응답 (상태 코드, Content-Type, 본문) + 응답을 만든 요청의 본문 해시
+ */
+public record IdempotentResponse(
+        int statusCode,
+        String contentType,
+        String body,
+        String requestHash,
+        LocalDateTime expiresAt
+) {
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    // 같은 키로 온 요청의 본문이 처음 요청과 같은지 (해시가 없는 이전 기록은 비교하지 않음)
+    public boolean matches(String requestHash) {
+        return this.requestHash == null || this.requestHash.equals(requestHash);
+    }
+
+    public static IdempotentResponse from(IdempotencyRecord record) {
+        return new IdempotentResponse(
+                record.getStatusCode(),
+                record.getContentType(),
+                record.getResponseBody(),
+                record.getRequestHash(),
+                record.getExpiresAt()
+        );
+    }
+}
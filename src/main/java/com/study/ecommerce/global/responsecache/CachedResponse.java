@@ -0,0 +1,24 @@
+package com.study.ecommerce.global.responsecache;
+
+import java.util.Set;
+
+/*
+    직렬화가 끝난 200 응답
+    - body: 인코딩 없는 원본, gzipBody: gzip 압축본 (작은 응답은 null)
+    - 배열은 저장 후 수정하지 않음 -> 요청마다 복사하지 않고 그대로 출력 스트림에 씀
+    - tags: 무효화 단위 (ResponseBodyCache.CATEGORY_TAG, productTag(id))
+ */
+public record CachedResponse(
+        byte[] body,
+        byte[] gzipBody,
+        String contentType,
+        String eTag,
+        String cacheControl,
+        Set<String> tags
+) {
+
+    // 캐시 크기 제한(max-size)에 쓰는 대략적인 크기
+    int weight() {
+        return body.length + (gzipBody != null ? gzipBody.length : 0);
+    }
+}
@@ -0,0 +1,115 @@
+package com.study.ecommerce.global.responsecache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    응답 본문 캐시 (경로 + 정렬된 쿼리 -> 직렬화된 응답)
+    - 크기 제한은 바이트 기준(max-size), TTL 은 무효화가 빠졌을 때의 안전장치
+    - 무효화는 태그 단위: 응답을 만든 원본 캐시가 바뀔 때 호출
+      (CategoryTreeCache 스냅샷 교체 -> CATEGORY_TAG, ProductCache.evict -> productTag(id))
+    - 무효화마다 세대(generation)를 올리고, 요청을 시작한 뒤 세대가 바뀌었으면 그 응답은 저장하지 않음
+      (이전 값으로 만든 응답이 무효화 뒤에 저장되는 경우 대비)
+    - 적중/미스/제거 건수는 actuator 의 cache.* 메트릭 (cache=response)
+ */
+@Component
+public class ResponseBodyCache {
+    public static final String CATEGORY_TAG = "categories";
+
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, Set<String>> keysByTag = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseBodyCache(MeterRegistry meterRegistry,
+                             @Value("${ecommerce.response-cache.ttl:5m}") Duration ttl,
+                             @Value("${ecommerce.response-cache.max-size:64MB}") DataSize maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, CachedResponse response) -> response.weight())
+                .expireAfterWrite(ttl)
+                .removalListener((String key, CachedResponse response, RemovalCause cause) -> {
+                    if(key != null && response != null) {
+                        unindex(key, response.tags());
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "response");
+    }
+
+    public static String productTag(Long productId) {
+        return "product:" + productId;
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    // 응답을 만들기 전에 읽어 두고 put 에 넘김
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(String key, CachedResponse response, long startGeneration) {
+        if(startGeneration != generation.get()) {
+            return;
+        }
+
+        cache.put(key, response);
+        for(String tag : response.tags()) {
+            keysByTag.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+
+        // 저장하는 사이에 무효화가 지나갔으면 방금 넣은 항목을 뺌
+        if(startGeneration != generation.get()) {
+            cache.invalidate(key);
+        }
+    }
+
+    public void invalidate(String tag) {
+        // 세대를 먼저 올려야 진행 중인 put 이 뒤늦게 저장하지 않음
+        generation.incrementAndGet();
+
+        Set<String> keys = keysByTag.remove(tag);
+        if(keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    public void invalidateProducts(Collection<Long> productIds) {
+        generation.incrementAndGet();
+
+        for(Long productId : productIds) {
+            Set<String> keys = keysByTag.remove(productTag(productId));
+            if(keys != null) {
+                cache.invalidateAll(keys);
+            }
+        }
+    }
+
+    // 제거 알림은 비동기 -> 그 사이 같은 키로 새 응답이 들어왔으면 색인을 남겨 둠
+    private void unindex(String key, Set<String> tags) {
+        for(String tag : tags) {
+            keysByTag.computeIfPresent(tag, (t, keys) -> {
+                if(!cache.asMap().containsKey(key)) {
+                    keys.remove(key);
+                }
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+}
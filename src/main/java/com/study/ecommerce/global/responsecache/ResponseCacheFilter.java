@@ -0,0 +1,185 @@
+package com.study.ecommerce.global.responsecache;
+
+import com.study.ecommerce.global.common.http.ConditionalResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/*
+    자주 읽는 GET 응답을 직렬화된 바이트로 캐시
+    - 대상: 카테고리 목록/단건 (/api/v1/categories, /api/v1/categories/{id}),
+            판매중인 상품 상세 (/api/v1/shop/products/{id})
+    - 키는 경로 + 이름순으로 정렬한 쿼리 -> 파라미터 순서가 달라도 같은 응답
+    - 적중하면 컨트롤러 / JSON 직렬화 / 압축 없이 저장된 배열을 한 번에 씀 (Content-Length 지정)
+    - Accept-Encoding 에 gzip 이 있고 압축본이 있으면 압축본을 그대로 씀
+    - If-None-Match 가 저장된 ETag 와 같으면 본문 없이 304
+    - 200 JSON 응답만 저장, Security 필터 뒤에서 실행되므로 인증이 필요한 경로도 인증된 요청만 도달
+ */
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+    private static final Pattern CATEGORY_PATH = Pattern.compile("/api/v1/categories(/\\d+)?");
+    private static final Pattern PRODUCT_PATH = Pattern.compile("/api/v1/shop/products/(\\d+)");
+
+    private final ResponseBodyCache responseBodyCache;
+    private final boolean enabled;
+    private final int gzipMinSize;
+
+    public ResponseCacheFilter(ResponseBodyCache responseBodyCache,
+                               @Value("${ecommerce.response-cache.enabled:true}") boolean enabled,
+                               @Value("${ecommerce.response-cache.gzip-min-size:1KB}") DataSize gzipMinSize) {
+        this.responseBodyCache = responseBodyCache;
+        this.enabled = enabled;
+        this.gzipMinSize = (int) gzipMinSize.toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !HttpMethod.GET.matches(request.getMethod()) || tags(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = key(request);
+
+        CachedResponse cached = responseBodyCache.get(key);
+        if(cached != null) {
+            write(request, response, cached);
+            return;
+        }
+
+        long generation = responseBodyCache.generation();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+
+        filterChain.doFilter(request, responseWrapper);
+
+        if(isCacheable(responseWrapper)) {
+            byte[] body = responseWrapper.getContentAsByteArray();
+            byte[] gzipBody = body.length >= gzipMinSize ? gzip(body) : null;
+
+            responseBodyCache.put(key, new CachedResponse(
+                    body,
+                    gzipBody,
+                    responseWrapper.getContentType(),
+                    responseWrapper.getHeader(HttpHeaders.ETAG),
+                    responseWrapper.getHeader(HttpHeaders.CACHE_CONTROL),
+                    tags(request.getRequestURI())
+            ), generation);
+
+            if(gzipBody != null) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+        }
+
+        responseWrapper.copyBodyToResponse();
+    }
+
+    // 응답이 의존하는 원본 (대상 경로가 아니면 null)
+    private static Set<String> tags(String uri) {
+        if(CATEGORY_PATH.matcher(uri).matches()) {
+            return Set.of(ResponseBodyCache.CATEGORY_TAG);
+        }
+
+        // 상품 상세에는 카테고리 이름이 들어 있음
+        Matcher product = PRODUCT_PATH.matcher(uri);
+        if(product.matches()) {
+            return Set.of(ResponseBodyCache.CATEGORY_TAG, ResponseBodyCache.productTag(Long.valueOf(product.group(1))));
+        }
+        return null;
+    }
+
+    // 경로 + 이름순 쿼리 (같은 이름의 값 순서는 유지)
+    private static String key(HttpServletRequest request) {
+        String query = request.getQueryString();
+        if(query == null || query.isEmpty()) {
+            return request.getRequestURI();
+        }
+
+        List<String> params = new ArrayList<>();
+        for(String param : query.split("&")) {
+            if(!param.isEmpty()) {
+                params.add(param);
+            }
+        }
+        params.sort(Comparator.comparing(param -> {
+            int eq = param.indexOf('=');
+            return eq < 0 ? param : param.substring(0, eq);
+        }));
+
+        return request.getRequestURI() + "?" + String.join("&", params);
+    }
+
+    private static boolean isCacheable(ContentCachingResponseWrapper response) {
+        String contentType = response.getContentType();
+
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && response.getContentSize() > 0
+                && contentType != null
+                && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))
+                && response.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                && response.getHeader(HttpHeaders.SET_COOKIE) == null;
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, CachedResponse cached) throws IOException {
+        if(cached.eTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, cached.eTag());
+        }
+        if(cached.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cached.cacheControl());
+        }
+        if(cached.gzipBody() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        if(cached.eTag() != null && ConditionalResponse.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.eTag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = cached.body();
+        if(cached.gzipBody() != null && acceptsGzip(request)) {
+            body = cached.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        // 줄어들지 않으면 압축본을 두지 않음
+        return out.size() < body.length ? out.toByteArray() : null;
+    }
+}
@@ -0,0 +1,271 @@
+package com.study.ecommerce.global.seed;
+
+import com.study.ecommerce.domain.category.counter.CategoryProductCounter;
+import com.study.ecommerce.global.common.id.Tsid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/*
+    대용량 테스트 데이터 생성기 (seed 프로파일)
+    - 카테고리 / 회원 / 상품 / 장바구니 / 주문(주문상품, 결제)을 JDBC 배치 INSERT 로 적재
+    - 실행: --spring.profiles.active=local,seed (dev, prod 프로파일과도 함께 사용 가능)
+    - 생성된 회원: seed-{번호}@example.com / ecommerce.seed.password (앞 1%는 판매자)
+    - 이미 생성된 경우(seed-0@example.com 존재) 다시 생성하지 않음
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SeedProperties.class)
+public class SeedDataGenerator implements ApplicationRunner {
+    private static final String[] ADJECTIVES = {
+            "프리미엄", "초경량", "무선", "스마트", "클래식", "빈티지", "휴대용", "고급", "미니", "대용량"
+    };
+    private static final String[] NOUNS = {
+            "노트북", "키보드", "마우스", "모니터", "이어폰", "텀블러", "백팩", "운동화", "자켓", "의자",
+            "책상", "스피커", "카메라", "시계", "가습기", "청소기", "커피머신", "램프", "캠핑의자", "요가매트"
+    };
+    private static final String[] ORDER_STATUSES = {"CREATED", "PAID", "PAID", "DELIVERED", "DELIVERED", "CANCELED"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final SeedProperties properties;
+    private final CategoryProductCounter categoryProductCounter;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM member WHERE email = 'seed-0@example.com'", Integer.class);
+        if(exists != null && exists > 0) {
+            log.info("테스트 데이터가 이미 생성되어 있습니다.");
+            return;
+        }
+
+        Random random = new Random(properties.randomSeed());
+        long startTime = System.currentTimeMillis();
+
+        long[] leafCategoryIds = seedCategories(random);
+        Members members = seedMembers();
+        Products products = seedProducts(random, members.sellerIds(), leafCategoryIds);
+        seedCarts(random, members.customerIds(), products.ids());
+        seedOrders(random, members.customerIds(), products);
+
+        // JDBC 로 넣은 카테고리/상품은 카운터 증감을 거치지 않으므로 전체 재집계
+        categoryProductCounter.reconcileAll();
+
+        log.info("테스트 데이터 생성 완료 (소요시간: {} ms)", System.currentTimeMillis() - startTime);
+    }
+
+    // 3단계 카테고리 (루트 2% / 중분류 18% / 소분류 80%), 상품은 소분류에 연결
+    private long[] seedCategories(Random random) {
+        int total = properties.categories();
+        int rootCount = Math.max(1, total * 2 / 100);
+        int middleCount = Math.max(1, total * 18 / 100);
+        int leafCount = Math.max(1, total - rootCount - middleCount);
+
+        String sql = "INSERT INTO category (name, depth, parent_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long[] rootIds = insertAndCollectIds("category", sql, rootCount,
+                i -> new Object[]{"카테고리-" + i, 1, null, now, now});
+        long[] middleIds = insertAndCollectIds("category", sql, middleCount,
+                i -> new Object[]{"카테고리-" + rootIds.length + "-" + i, 2, pick(random, rootIds), now, now});
+        long[] leafIds = insertAndCollectIds("category", sql, leafCount,
+                i -> new Object[]{"카테고리-" + middleIds.length + "-" + i, 3, pick(random, middleIds), now, now});
+
+        seedCategoryClosure(rootIds[0]);
+
+        log.info("카테고리 생성: {}건", rootIds.length + middleIds.length + leafIds.length);
+        return leafIds;
+    }
+
+    // 생성한 카테고리의 클로저 행 (자기 자신 -> 중분류 -> 소분류 순서로 부모의 조상 목록을 복사)
+    private void seedCategoryClosure(long firstCategoryId) {
+        jdbcTemplate.update("INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+                "SELECT id, id, 0 FROM category WHERE id >= ?", firstCategoryId);
+
+        for(int depth = 2; depth <= 3; depth++) {
+            jdbcTemplate.update("INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+                    "SELECT cc.ancestor_id, c.id, cc.depth + 1 FROM category c " +
+                    "JOIN category_closure cc ON cc.descendant_id = c.parent_id " +
+                    "WHERE c.id >= ? AND c.depth = ?", firstCategoryId, depth);
+        }
+    }
+
+    private Members seedMembers() {
+        int total = properties.members();
+        int sellerCount = Math.max(1, total / 100);
+        String password = passwordEncoder.encode(properties.password());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long[] ids = insertAndCollectIds("member",
+                "INSERT INTO member (email, password, name, address, role, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                total,
+                i -> new Object[]{"seed-" + i + "@example.com", password, "회원" + i, "서울시 테스트구 " + i,
+                        i < sellerCount ? "SELLER" : "CUSTOMER", now, now});
+
+        log.info("회원 생성: {}건 (판매자 {}명)", ids.length, sellerCount);
+        return new Members(Arrays.copyOfRange(ids, 0, sellerCount), Arrays.copyOfRange(ids, sellerCount, ids.length));
+    }
+
+    private Products seedProducts(Random random, long[] sellerIds, long[] categoryIds) {
+        int total = properties.products();
+        long[] prices = new long[total];
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long[] ids = insertAndCollectIds("product",
+                "INSERT INTO product (name, description, price, stock_quantity, status, seller_id, category_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                total,
+                i -> {
+                    String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)] + " " + i;
+                    long price = (10 + random.nextInt(2_000)) * 100L;
+                    int stock = random.nextInt(20) == 0 ? 0 : 1 + random.nextInt(1_000);
+                    prices[i] = price;
+
+                    return new Object[]{name, name + " 상세 설명", price, stock, stock > 0 ? "ACTIVE" : "SOLD_OUT",
+                            pick(random, sellerIds), pick(random, categoryIds), now, now};
+                });
+
+        log.info("상품 생성: {}건", ids.length);
+        return new Products(ids, prices);
+    }
+
+    private void seedCarts(Random random, long[] customerIds, long[] productIds) {
+        int cartCount = (int) (customerIds.length * properties.cartRatio());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long[] cartIds = insertAndCollectIds("cart",
+                "INSERT INTO cart (member_id, created_at, updated_at) VALUES (?, ?, ?)",
+                cartCount,
+                i -> new Object[]{customerIds[i], now, now});
+
+        List<Object[]> items = new ArrayList<>();
+        int itemCount = 0;
+        for(long cartId : cartIds) {
+            int size = 1 + random.nextInt(3);
+            for(int j = 0; j < size; j++) {
+                items.add(new Object[]{Tsid.next(), cartId, pick(random, productIds), 1 + random.nextInt(3), now, now});
+            }
+
+            if(items.size() >= properties.batchSize()) {
+                itemCount += flush("INSERT INTO cart_item (id, cart_id, product_id, quantity, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", items);
+            }
+        }
+        itemCount += flush("INSERT INTO cart_item (id, cart_id, product_id, quantity, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", items);
+
+        log.info("장바구니 생성: {}건 (상품 {}건)", cartIds.length, itemCount);
+    }
+
+    // 주문 -> 주문상품 -> 결제 순서로 배치 단위 적재 (외래키 순서)
+    private void seedOrders(Random random, long[] customerIds, Products products) {
+        String orderSql = "INSERT INTO orders (id, member_id, status, order_date, total_amount, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        String itemSql = "INSERT INTO order_item (id, order_id, product_id, quantity, price, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        String paymentSql = "INSERT INTO payment (id, order_id, payment_method, status, amount, paid_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        List<Object[]> orders = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> payments = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        int orderCount = 0;
+
+        for(int i = 0; i < properties.orders(); i++) {
+            long orderId = Tsid.next();
+            String status = ORDER_STATUSES[random.nextInt(ORDER_STATUSES.length)];
+            Timestamp orderDate = Timestamp.valueOf(now.minusMinutes(random.nextInt(365 * 24 * 60)));
+
+            long totalAmount = 0L;
+            int size = 1 + random.nextInt(5);
+            for(int j = 0; j < size; j++) {
+                int productIndex = random.nextInt(products.ids().length);
+                int quantity = 1 + random.nextInt(3);
+                long price = products.prices()[productIndex];
+
+                items.add(new Object[]{Tsid.next(), orderId, products.ids()[productIndex], quantity, price, orderDate, orderDate});
+                totalAmount += price * quantity;
+            }
+
+            orders.add(new Object[]{orderId, pick(random, customerIds), status, orderDate, totalAmount, orderDate, orderDate});
+
+            if(!status.equals("CREATED")) {
+                String paymentStatus = status.equals("CANCELED") ? "CANCELED" : "COMPLETED";
+                payments.add(new Object[]{Tsid.next(), orderId, "CARD", paymentStatus, totalAmount, orderDate, orderDate, orderDate});
+            }
+
+            if(orders.size() >= properties.batchSize()) {
+                orderCount += flush(orderSql, orders);
+                flush(itemSql, items);
+                flush(paymentSql, payments);
+            }
+        }
+
+        orderCount += flush(orderSql, orders);
+        flush(itemSql, items);
+        flush(paymentSql, payments);
+
+        log.info("주문 생성: {}건", orderCount);
+    }
+
+    /*
+        IDENTITY 테이블에 배치 INSERT 후 새로 생성된 id 를 순서대로 반환
+        - 생성기 외에 동시에 INSERT 하는 곳이 없다고 가정 (적재 전 최대 id 보다 큰 id)
+     */
+    private long[] insertAndCollectIds(String table, String sql, int count, IntFunction<Object[]> rowFactory) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+
+        List<Object[]> rows = new ArrayList<>();
+        for(int i = 0; i < count; i++) {
+            rows.add(rowFactory.apply(i));
+
+            if(rows.size() >= properties.batchSize()) {
+                flush(sql, rows);
+            }
+        }
+        flush(sql, rows);
+
+        long[] ids = new long[count];
+        int[] index = {0};
+        jdbcTemplate.query("SELECT id FROM " + table + " WHERE id > ? ORDER BY id",
+                rs -> {
+                    ids[index[0]++] = rs.getLong(1);
+                }, maxId);
+
+        return Arrays.copyOf(ids, index[0]);
+    }
+
+    private int flush(String sql, List<Object[]> rows) {
+        if(rows.isEmpty()) {
+            return 0;
+        }
+
+        int size = rows.size();
+        jdbcTemplate.batchUpdate(sql, rows);
+        rows.clear();
+        return size;
+    }
+
+    private long pick(Random random, long[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private record Members(long[] sellerIds, long[] customerIds) {
+    }
+
+    private record Products(long[] ids, long[] prices) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.study.ecommerce.global.seed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+    대용량 테스트 데이터 생성 설정 (ecommerce.seed.*)
+ */
+@ConfigurationProperties(prefix = "ecommerce.seed")
+public record SeedProperties(
+        Integer categories,
+        Integer members,
+        Integer products,
+        Double cartRatio,
+        Integer orders,
+        Integer batchSize,
+        String password,
+        Long randomSeed
+) {
+
+    public SeedProperties {
+        categories = categories != null ? categories : 1_000;
+        members = members != null ? members : 100_000;
+        products = products != null ? products : 1_000_000;
+        cartRatio = cartRatio != null ? cartRatio : 0.3;
+        orders = orders != null ? orders : 1_000_000;
+        batchSize = batchSize != null ? batchSize : 1_000;
+        password = password != null ? password : "loadtest1234";
+        randomSeed = randomSeed != null ? randomSeed : 42L;
+    }
+}
@@ -44,7 +44,8 @@ public class MockPaymentService {
         // 실제 PG 사 연동을 해야함. 하지만 우리는 상태만 변경
         simulatePaymentGatewayDelay();
         payment.updateStatus(CANCELED);
-        return payment;
+        // 결제 직후 보상처럼 다른 트랜잭션에서 받은 결제 정보도 저장되도록
+        return paymentRepository.save(payment);
     }
 
     private void simulatePaymentGatewayDelay() {
@@ -0,0 +1,15 @@
+-- 카테고리별 상품 수 카운터 (상품 등록/수정/삭제 트랜잭션에서 증감, 주기적으로 재집계해서 보정)
+-- product_count: 카테고리에 속한 전체 상품 수 (삭제 가드), active_count: 판매중(ACTIVE) 상품 수
+CREATE TABLE category_product_count (
+    category_id BIGINT NOT NULL PRIMARY KEY,
+    product_count BIGINT NOT NULL,
+    active_count BIGINT NOT NULL
+);
+
+INSERT INTO category_product_count (category_id, product_count, active_count)
+SELECT c.id,
+       COUNT(p.id),
+       COALESCE(SUM(CASE WHEN p.status = 'ACTIVE' THEN 1 ELSE 0 END), 0)
+FROM category c
+LEFT JOIN product p ON p.category_id = c.id
+GROUP BY c.id;
@@ -0,0 +1,10 @@
+-- 합쳐서 처리한 재고 차감 기록 (차감과 같은 트랜잭션에 남기고, 주문 트랜잭션이 커밋하면서 삭제)
+-- 주문이 롤백되었거나 되돌리기 전에 서버가 죽어 남은 행은 재고를 복구하고 삭제 (CombinedStockWriter.reconcile)
+CREATE TABLE stock_combine_journal (
+    id BIGINT NOT NULL PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_stock_combine_journal_created_at ON stock_combine_journal (created_at);
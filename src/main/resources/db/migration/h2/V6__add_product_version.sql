@@ -0,0 +1 @@
+ALTER TABLE product ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,5 @@
+-- 주문/주문상품/결제/장바구니상품 id 는 애플리케이션(TSID)에서 생성 (JDBC 배치 INSERT 사용)
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE order_item ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE payment ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE cart_item ALTER COLUMN id DROP IDENTITY;
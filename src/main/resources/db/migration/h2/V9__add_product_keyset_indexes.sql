@@ -0,0 +1,5 @@
+-- 커서(키셋) 페이지 조회용 인덱스 (status 조건 + 정렬 컬럼 + id 순서)
+CREATE INDEX idx_product_status_price_id ON product (status, price, id);
+CREATE INDEX idx_product_status_created_at_id ON product (status, created_at, id);
+CREATE INDEX idx_product_status_id ON product (status, id);
+CREATE INDEX idx_product_category_status_price_id ON product (category_id, status, price, id);
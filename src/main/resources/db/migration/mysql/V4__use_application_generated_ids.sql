@@ -0,0 +1,10 @@
+-- 주문/주문상품/결제/장바구니상품 id 는 애플리케이션(TSID)에서 생성 (JDBC 배치 INSERT 사용)
+-- 외래키가 참조하는 컬럼의 AUTO_INCREMENT 를 제거하기 위해 잠시 외래키 검사를 끈다
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE orders MODIFY id BIGINT NOT NULL;
+ALTER TABLE order_item MODIFY id BIGINT NOT NULL;
+ALTER TABLE payment MODIFY id BIGINT NOT NULL;
+ALTER TABLE cart_item MODIFY id BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,11 @@
+CREATE TABLE idempotency_record (
+    idempotency_key VARCHAR(500) PRIMARY KEY,
+    status_code INT NOT NULL,
+    content_type VARCHAR(255),
+    response_body TEXT,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_idempotency_record_expires_at ON idempotency_record (expires_at);
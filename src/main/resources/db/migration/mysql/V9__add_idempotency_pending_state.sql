@@ -0,0 +1,5 @@
+-- 요청 처리 전에 PENDING 행을 먼저 넣어 키를 선점 (인스턴스 간 중복 실행 방지), 요청 본문 해시 보관
+ALTER TABLE idempotency_record
+    MODIFY COLUMN status_code INT NULL,
+    ADD COLUMN state VARCHAR(20) NOT NULL DEFAULT 'COMPLETED',
+    ADD COLUMN request_hash VARCHAR(64);
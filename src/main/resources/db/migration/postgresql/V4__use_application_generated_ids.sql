@@ -0,0 +1,10 @@
+-- 주문/주문상품/결제/장바구니상품 id 는 애플리케이션(TSID)에서 생성 (JDBC 배치 INSERT 사용)
+ALTER TABLE orders ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE order_item ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE payment ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE cart_item ALTER COLUMN id DROP DEFAULT;
+
+DROP SEQUENCE IF EXISTS orders_id_seq;
+DROP SEQUENCE IF EXISTS order_item_id_seq;
+DROP SEQUENCE IF EXISTS payment_id_seq;
+DROP SEQUENCE IF EXISTS cart_item_id_seq;
@@ -0,0 +1,23 @@
+-- 카테고리 클로저 테이블 (조상 -> 자손, 자기 자신 포함 depth 0)
+-- 상위 카테고리의 모든 하위 카테고리 상품을 category_closure 조인 한 번으로 조회
+CREATE TABLE category_closure (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INT NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    FOREIGN KEY (ancestor_id) REFERENCES category(id),
+    FOREIGN KEY (descendant_id) REFERENCES category(id)
+);
+
+CREATE INDEX idx_category_closure_descendant ON category_closure (descendant_id, ancestor_id);
+
+-- 기존 카테고리 백필 (parent_id 를 따라 내려가는 재귀 CTE)
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM category
+    UNION ALL
+    SELECT t.ancestor_id, c.id, t.depth + 1
+    FROM tree t
+    JOIN category c ON c.parent_id = t.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM tree;
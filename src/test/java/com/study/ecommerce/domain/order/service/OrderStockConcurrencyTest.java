@@ -0,0 +1,160 @@
+package com.study.ecommerce.domain.order.service;
+
+import com.study.ecommerce.domain.member.entity.Member;
+import com.study.ecommerce.domain.member.entity.Member.Role;
+import com.study.ecommerce.domain.member.repository.MemberRepository;
+import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest;
+import com.study.ecommerce.domain.order.dto.req.OrderCreateRequest.OrderItemRequest;
+import com.study.ecommerce.domain.product.entity.Product;
+import com.study.ecommerce.domain.product.entity.Product.ProductStatus;
+import com.study.ecommerce.domain.product.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    여러 상품을 서로 반대 순서로 담은 주문이 동시에 들어와도
+    - 교착상태 없이 모두 끝나고 (상품 id 순서로 잠그므로)
+    - 재고보다 많이 팔리지 않는다
+    H2 락 대기 시간을 늘려서, 실패는 재고 부족만 나오는지 확인
+    주문 상품 수가 늘어도 SQL 문 수는 상품 수만큼 늘지 않는지 Hibernate 통계로 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-concurrency;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OrderStockConcurrencyTest {
+    private static final int STOCK = 50;
+    private static final int ORDERS = 100;
+    private static final int THREADS = 8;
+    private static final int LINES = 10;
+
+    @Autowired
+    private OrderTransactionService orderTransactionService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String email;
+
+    @BeforeEach
+    void createMember() {
+        email = "order-test-" + System.nanoTime() + "@example.com";
+        memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .name("주문 테스트")
+                .role(Role.CUSTOMER)
+                .build());
+    }
+
+    @Test
+    void oppositeOrderedMultiProductOrdersNeitherDeadlockNorOversell() throws InterruptedException {
+        Long first = createProduct("동시성 테스트 상품 A");
+        Long second = createProduct("동시성 테스트 상품 B");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for(int i = 0; i < ORDERS; i++) {
+            // 절반은 A -> B, 절반은 B -> A 순서로 담음
+            List<Long> productIds = i % 2 == 0 ? List.of(first, second) : List.of(second, first);
+
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    orderTransactionService.placeOrder(orderOf(productIds), email);
+                    succeeded.incrementAndGet();
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS))
+                .as("교착상태 없이 모든 주문이 끝나야 함")
+                .isTrue();
+
+        assertThat(failures)
+                .as("실패는 재고 부족만 허용")
+                .allSatisfy(e -> assertThat(e)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("재고가 부족합니다"));
+
+        assertThat(succeeded.get()).isEqualTo(STOCK);
+        assertThat(productRepository.findById(first).orElseThrow().getStockQuantity()).isZero();
+        assertThat(productRepository.findById(second).orElseThrow().getStockQuantity()).isZero();
+    }
+
+    @Test
+    void multiLineOrderDoesNotIssueStatementsPerLine() {
+        List<Long> productIds = IntStream.range(0, LINES)
+                .mapToObj(i -> createProduct("문장 수 테스트 상품 " + i))
+                .toList();
+
+        long singleLine = countStatements(() -> orderTransactionService.placeOrder(orderOf(productIds.subList(0, 1)), email));
+        long multiLine = countStatements(() -> orderTransactionService.placeOrder(orderOf(productIds), email));
+
+        // 상품별로 잠그고 저장하면 상품 하나당 최소 한 문장씩 늘어남 (일괄 잠금 + batch 저장이면 그대로)
+        // 통계는 전역이라 주기 작업의 문장이 섞일 수 있어서, 늘어난 상품 수보다 적은지만 확인
+        assertThat(multiLine - singleLine)
+                .as("%d개 상품 주문: %d문장, 1개 상품 주문: %d문장", LINES, multiLine, singleLine)
+                .isLessThan(LINES - 1);
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createProduct(String name) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .description(name)
+                .price(1000L)
+                .stockQuantity(STOCK)
+                .status(ProductStatus.ACTIVE)
+                .build()).getId();
+    }
+
+    private OrderCreateRequest orderOf(List<Long> productIds) {
+        return OrderCreateRequest.builder()
+                .items(productIds.stream()
+                        .map(productId -> OrderItemRequest.builder().productId(productId).quantity(1).build())
+                        .toList())
+                .shippingAddress("서울시 강남구")
+                .phoneNumber("010-0000-0000")
+                .payNow(false)
+                .paymentMethod("CREDIT_CARD")
+                .build();
+    }
+}